@@ -41,11 +41,15 @@ import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import io.quarkus.qson.generator.QsonMapper;
 import io.quarkus.qson.parser.ByteArrayParserContext;
+import io.quarkus.qson.parser.GenericParser;
+import io.quarkus.qson.parser.ParserContextPool;
+import io.quarkus.qson.writer.ByteArrayJsonWriter;
 import io.quarkus.qson.writer.QsonObjectWriter;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -55,6 +59,10 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
 
 @Fork(1)
 @Warmup(iterations = 2)
@@ -253,6 +261,21 @@ public class MyBenchmark {
 
     }
 
+    @State(Scope.Benchmark)
+    public static class PooledQsonParser {
+        public io.quarkus.qson.parser.QsonParser parser;
+        public ParserContextPool pool;
+        public byte[] jsonBytes;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            QsonMapper mapper = new QsonMapper();
+            parser = mapper.parserFor(Person2.class);
+            pool = new ParserContextPool();
+            jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
     @State(Scope.Benchmark)
     public static class JacksonParser {
         public ObjectReader reader;
@@ -315,12 +338,119 @@ public class MyBenchmark {
 
 
 
+    static String nestedJson(int depth) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            sb.append("{\"name\": \"level").append(i).append("\", \"list\": [1, 2, 3], \"child\": ");
+        }
+        sb.append("null");
+        for (int i = 0; i < depth; i++) {
+            sb.append('}');
+        }
+        return sb.toString();
+    }
+
+    static String wideJson(int width) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < width; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append("\"field").append(i).append("\": [{\"a\": ").append(i).append("}, {\"b\": true}]");
+        }
+        sb.append('}');
+        return sb.toString();
+    }
+
+    @State(Scope.Benchmark)
+    public static class NestedPayload {
+        public byte[] nested;
+        public byte[] wide;
+        public ObjectReader reader;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            nested = nestedJson(200).getBytes(StandardCharsets.UTF_8);
+            wide = wideJson(1000).getBytes(StandardCharsets.UTF_8);
+            reader = new ObjectMapper().readerFor(Map.class);
+        }
+    }
+
+    @Benchmark
+    public Object testParserQsonNested(NestedPayload p) {
+        ByteArrayParserContext ctx = new ByteArrayParserContext(GenericParser.PARSER);
+        return ctx.finish(p.nested);
+    }
+
+    @Benchmark
+    public Object testParserJacksonNested(NestedPayload p) {
+        try {
+            return p.reader.readValue(p.nested);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Benchmark
+    public Object testParserQsonWide(NestedPayload p) {
+        ByteArrayParserContext ctx = new ByteArrayParserContext(GenericParser.PARSER);
+        return ctx.finish(p.wide);
+    }
+
+    @Benchmark
+    public Object testParserJacksonWide(NestedPayload p) {
+        try {
+            return p.reader.readValue(p.wide);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WideObjectParser {
+        // trie: match keys a character at a time, hash: match keys by length and hash
+        @Param({"trie", "hash"})
+        public String keyMatching;
+        public io.quarkus.qson.parser.QsonParser parser;
+        public byte[] jsonBytes;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            QsonMapper mapper = new QsonMapper();
+            mapper.keyHashThreshold("hash".equals(keyMatching) ? 0 : Integer.MAX_VALUE);
+            parser = mapper.parserFor(WideObject.class);
+            StringBuilder builder = new StringBuilder("{");
+            int i = 0;
+            for (Field field : WideObject.class.getDeclaredFields()) {
+                if (i > 0) builder.append(',');
+                builder.append('"').append(field.getName()).append("\":");
+                if (field.getType().equals(String.class)) builder.append('"').append(field.getName()).append('"');
+                else builder.append(i);
+                i++;
+            }
+            builder.append('}');
+            jsonBytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public Object testParserQsonWideObject(WideObjectParser q) {
+        ByteArrayParserContext ctx = new ByteArrayParserContext(q.parser);
+        return ctx.finish(q.jsonBytes);
+    }
+
     @Benchmark
     public Object testParserQson(QsonParser q) {
         ByteArrayParserContext ctx = new ByteArrayParserContext(q.parser);
         return ctx.finish(q.jsonBytes);
     }
 
+    /**
+     * Compare with testParserQson using -prof gc to see allocation per op.
+     */
+    @Benchmark
+    public Object testParserQsonPooled(PooledQsonParser q) {
+        return q.parser.read(q.jsonBytes, q.pool);
+    }
+
     @Benchmark
     public Object testParserGson(GsonParser g) {
         InputStreamReader reader = new InputStreamReader(new ByteArrayInputStream(g.jsonBytes));
@@ -373,4 +503,42 @@ public class MyBenchmark {
             throw new RuntimeException(e);
         }
     }
+
+    @State(Scope.Benchmark)
+    public static class DoubleArray {
+        public double[] doubles;
+        public com.fasterxml.jackson.databind.ObjectWriter objectWriter;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            Random random = new Random(42);
+            doubles = new double[1000];
+            for (int i = 0; i < doubles.length; i++) {
+                doubles[i] = random.nextDouble() * Math.pow(10, random.nextInt(20) - 10);
+            }
+            objectWriter = new ObjectMapper().writerFor(double[].class);
+        }
+    }
+
+    @Benchmark
+    public Object testWriterQsonDoubleArray(DoubleArray d) {
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter();
+        writer.writeLBracket();
+        double[] doubles = d.doubles;
+        for (int i = 0; i < doubles.length; i++) {
+            if (i > 0) writer.writeComma();
+            writer.write(doubles[i]);
+        }
+        writer.writeRBracket();
+        return writer.getBuffer();
+    }
+
+    @Benchmark
+    public Object testWriterJacksonDoubleArray(DoubleArray d) {
+        try {
+            return d.objectWriter.writeValueAsBytes(d.doubles);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -0,0 +1,439 @@
+package org.sample;
+
+/**
+ * Object with many properties that share prefixes, used to benchmark key matching in generated parsers
+ */
+public class WideObject {
+    private long customerId;
+    private String customerName;
+    private String customerCode;
+    private int customerCount;
+    private String customerStatus;
+    private long customerTotal;
+    private String customerRegion;
+    private int customerVersion;
+    private long orderId;
+    private String orderName;
+    private String orderCode;
+    private int orderCount;
+    private String orderStatus;
+    private long orderTotal;
+    private String orderRegion;
+    private int orderVersion;
+    private long shippingId;
+    private String shippingName;
+    private String shippingCode;
+    private int shippingCount;
+    private String shippingStatus;
+    private long shippingTotal;
+    private String shippingRegion;
+    private int shippingVersion;
+    private long billingId;
+    private String billingName;
+    private String billingCode;
+    private int billingCount;
+    private String billingStatus;
+    private long billingTotal;
+    private String billingRegion;
+    private int billingVersion;
+    private long paymentId;
+    private String paymentName;
+    private String paymentCode;
+    private int paymentCount;
+    private String paymentStatus;
+    private long paymentTotal;
+    private String paymentRegion;
+    private int paymentVersion;
+    private long productId;
+    private String productName;
+    private String productCode;
+    private int productCount;
+    private String productStatus;
+    private long productTotal;
+    private String productRegion;
+    private int productVersion;
+
+    public long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(long customerId) {
+        this.customerId = customerId;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public String getCustomerCode() {
+        return customerCode;
+    }
+
+    public void setCustomerCode(String customerCode) {
+        this.customerCode = customerCode;
+    }
+
+    public int getCustomerCount() {
+        return customerCount;
+    }
+
+    public void setCustomerCount(int customerCount) {
+        this.customerCount = customerCount;
+    }
+
+    public String getCustomerStatus() {
+        return customerStatus;
+    }
+
+    public void setCustomerStatus(String customerStatus) {
+        this.customerStatus = customerStatus;
+    }
+
+    public long getCustomerTotal() {
+        return customerTotal;
+    }
+
+    public void setCustomerTotal(long customerTotal) {
+        this.customerTotal = customerTotal;
+    }
+
+    public String getCustomerRegion() {
+        return customerRegion;
+    }
+
+    public void setCustomerRegion(String customerRegion) {
+        this.customerRegion = customerRegion;
+    }
+
+    public int getCustomerVersion() {
+        return customerVersion;
+    }
+
+    public void setCustomerVersion(int customerVersion) {
+        this.customerVersion = customerVersion;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(long orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getOrderName() {
+        return orderName;
+    }
+
+    public void setOrderName(String orderName) {
+        this.orderName = orderName;
+    }
+
+    public String getOrderCode() {
+        return orderCode;
+    }
+
+    public void setOrderCode(String orderCode) {
+        this.orderCode = orderCode;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(int orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public String getOrderStatus() {
+        return orderStatus;
+    }
+
+    public void setOrderStatus(String orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+
+    public long getOrderTotal() {
+        return orderTotal;
+    }
+
+    public void setOrderTotal(long orderTotal) {
+        this.orderTotal = orderTotal;
+    }
+
+    public String getOrderRegion() {
+        return orderRegion;
+    }
+
+    public void setOrderRegion(String orderRegion) {
+        this.orderRegion = orderRegion;
+    }
+
+    public int getOrderVersion() {
+        return orderVersion;
+    }
+
+    public void setOrderVersion(int orderVersion) {
+        this.orderVersion = orderVersion;
+    }
+
+    public long getShippingId() {
+        return shippingId;
+    }
+
+    public void setShippingId(long shippingId) {
+        this.shippingId = shippingId;
+    }
+
+    public String getShippingName() {
+        return shippingName;
+    }
+
+    public void setShippingName(String shippingName) {
+        this.shippingName = shippingName;
+    }
+
+    public String getShippingCode() {
+        return shippingCode;
+    }
+
+    public void setShippingCode(String shippingCode) {
+        this.shippingCode = shippingCode;
+    }
+
+    public int getShippingCount() {
+        return shippingCount;
+    }
+
+    public void setShippingCount(int shippingCount) {
+        this.shippingCount = shippingCount;
+    }
+
+    public String getShippingStatus() {
+        return shippingStatus;
+    }
+
+    public void setShippingStatus(String shippingStatus) {
+        this.shippingStatus = shippingStatus;
+    }
+
+    public long getShippingTotal() {
+        return shippingTotal;
+    }
+
+    public void setShippingTotal(long shippingTotal) {
+        this.shippingTotal = shippingTotal;
+    }
+
+    public String getShippingRegion() {
+        return shippingRegion;
+    }
+
+    public void setShippingRegion(String shippingRegion) {
+        this.shippingRegion = shippingRegion;
+    }
+
+    public int getShippingVersion() {
+        return shippingVersion;
+    }
+
+    public void setShippingVersion(int shippingVersion) {
+        this.shippingVersion = shippingVersion;
+    }
+
+    public long getBillingId() {
+        return billingId;
+    }
+
+    public void setBillingId(long billingId) {
+        this.billingId = billingId;
+    }
+
+    public String getBillingName() {
+        return billingName;
+    }
+
+    public void setBillingName(String billingName) {
+        this.billingName = billingName;
+    }
+
+    public String getBillingCode() {
+        return billingCode;
+    }
+
+    public void setBillingCode(String billingCode) {
+        this.billingCode = billingCode;
+    }
+
+    public int getBillingCount() {
+        return billingCount;
+    }
+
+    public void setBillingCount(int billingCount) {
+        this.billingCount = billingCount;
+    }
+
+    public String getBillingStatus() {
+        return billingStatus;
+    }
+
+    public void setBillingStatus(String billingStatus) {
+        this.billingStatus = billingStatus;
+    }
+
+    public long getBillingTotal() {
+        return billingTotal;
+    }
+
+    public void setBillingTotal(long billingTotal) {
+        this.billingTotal = billingTotal;
+    }
+
+    public String getBillingRegion() {
+        return billingRegion;
+    }
+
+    public void setBillingRegion(String billingRegion) {
+        this.billingRegion = billingRegion;
+    }
+
+    public int getBillingVersion() {
+        return billingVersion;
+    }
+
+    public void setBillingVersion(int billingVersion) {
+        this.billingVersion = billingVersion;
+    }
+
+    public long getPaymentId() {
+        return paymentId;
+    }
+
+    public void setPaymentId(long paymentId) {
+        this.paymentId = paymentId;
+    }
+
+    public String getPaymentName() {
+        return paymentName;
+    }
+
+    public void setPaymentName(String paymentName) {
+        this.paymentName = paymentName;
+    }
+
+    public String getPaymentCode() {
+        return paymentCode;
+    }
+
+    public void setPaymentCode(String paymentCode) {
+        this.paymentCode = paymentCode;
+    }
+
+    public int getPaymentCount() {
+        return paymentCount;
+    }
+
+    public void setPaymentCount(int paymentCount) {
+        this.paymentCount = paymentCount;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public long getPaymentTotal() {
+        return paymentTotal;
+    }
+
+    public void setPaymentTotal(long paymentTotal) {
+        this.paymentTotal = paymentTotal;
+    }
+
+    public String getPaymentRegion() {
+        return paymentRegion;
+    }
+
+    public void setPaymentRegion(String paymentRegion) {
+        this.paymentRegion = paymentRegion;
+    }
+
+    public int getPaymentVersion() {
+        return paymentVersion;
+    }
+
+    public void setPaymentVersion(int paymentVersion) {
+        this.paymentVersion = paymentVersion;
+    }
+
+    public long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public String getProductCode() {
+        return productCode;
+    }
+
+    public void setProductCode(String productCode) {
+        this.productCode = productCode;
+    }
+
+    public int getProductCount() {
+        return productCount;
+    }
+
+    public void setProductCount(int productCount) {
+        this.productCount = productCount;
+    }
+
+    public String getProductStatus() {
+        return productStatus;
+    }
+
+    public void setProductStatus(String productStatus) {
+        this.productStatus = productStatus;
+    }
+
+    public long getProductTotal() {
+        return productTotal;
+    }
+
+    public void setProductTotal(long productTotal) {
+        this.productTotal = productTotal;
+    }
+
+    public String getProductRegion() {
+        return productRegion;
+    }
+
+    public void setProductRegion(String productRegion) {
+        this.productRegion = productRegion;
+    }
+
+    public int getProductVersion() {
+        return productVersion;
+    }
+
+    public void setProductVersion(int productVersion) {
+        this.productVersion = productVersion;
+    }
+}
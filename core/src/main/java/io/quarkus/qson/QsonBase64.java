@@ -0,0 +1,28 @@
+package io.quarkus.qson;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Can be used on a byte[] or java.nio.ByteBuffer property to choose the Base64 alphabet it is written with.
+ * Properties without this annotation are written with the standard alphabet.
+ *
+ * Parsing accepts either alphabet, with or without padding.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QsonBase64 {
+    public static enum Encoding {
+        /**
+         * RFC 4648 section 4 alphabet using '+' and '/'
+         */
+        STANDARD,
+        /**
+         * RFC 4648 section 5 URL and filename safe alphabet using '-' and '_'
+         */
+        URL
+    }
+    Encoding value() default Encoding.STANDARD;
+}
@@ -0,0 +1,39 @@
+package io.quarkus.qson;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Can be used on a String property, or a List, Set or Map of String values, whose values repeat a lot
+ * (country codes, status values, ids).  Parsed values are deduplicated through a bounded
+ * {@link io.quarkus.qson.parser.StringCache} so that a repeated value doesn't allocate a new String.
+ *
+ * Hit rate statistics are available from {@link io.quarkus.qson.parser.StringCache#named(String)}.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QsonIntern {
+    /**
+     * Name of the cache.  Properties using the same name share a cache.
+     * Defaults to the declaring class name and property name, i.e. "com.acme.Address.country"
+     *
+     * @return
+     */
+    String value() default "";
+
+    /**
+     * Number of slots in the cache.  Rounded up to a power of 2.
+     *
+     * @return
+     */
+    int size() default 1024;
+
+    /**
+     * Values longer than this many UTF-8 bytes are not cached.
+     *
+     * @return
+     */
+    int maxLength() default 64;
+}
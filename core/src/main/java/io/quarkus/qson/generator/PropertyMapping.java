@@ -1,13 +1,16 @@
 package io.quarkus.qson.generator;
 
 import io.quarkus.qson.QsonAny;
+import io.quarkus.qson.QsonBase64;
 import io.quarkus.qson.QsonDate;
 import io.quarkus.qson.QsonException;
 import io.quarkus.qson.QsonIgnore;
 import io.quarkus.qson.QsonIgnoreRead;
 import io.quarkus.qson.QsonIgnoreWrite;
+import io.quarkus.qson.QsonIntern;
 import io.quarkus.qson.QsonProperty;
 import io.quarkus.qson.QsonTransformer;
+import io.quarkus.qson.parser.StringCache;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
@@ -34,6 +37,10 @@ public class PropertyMapping {
     boolean isAny;
     QsonDate.Format dateFormat;
     String datePattern;
+    QsonBase64.Encoding base64;
+    String stringCache;
+    int stringCacheSize = StringCache.DEFAULT_SIZE;
+    int stringCacheMaxLength = StringCache.DEFAULT_MAX_LENGTH;
 
     private QsonProperty fieldAnnotation;
     private QsonProperty getterAnnotation;
@@ -123,6 +130,46 @@ public class PropertyMapping {
         this.datePattern = datePattern;
     }
 
+    /**
+     * Base64 alphabet used to write a byte[] or ByteBuffer property.  null means the standard alphabet.
+     *
+     */
+    public QsonBase64.Encoding getBase64() {
+        return base64;
+    }
+
+    public void setBase64(QsonBase64.Encoding base64) {
+        this.base64 = base64;
+    }
+
+    /**
+     * Name of the shared {@link StringCache} parsed String values are deduplicated through.  null means no cache.
+     *
+     */
+    public String getStringCache() {
+        return stringCache;
+    }
+
+    public void setStringCache(String stringCache) {
+        this.stringCache = stringCache;
+    }
+
+    public int getStringCacheSize() {
+        return stringCacheSize;
+    }
+
+    public void setStringCacheSize(int stringCacheSize) {
+        this.stringCacheSize = stringCacheSize;
+    }
+
+    public int getStringCacheMaxLength() {
+        return stringCacheMaxLength;
+    }
+
+    public void setStringCacheMaxLength(int stringCacheMaxLength) {
+        this.stringCacheMaxLength = stringCacheMaxLength;
+    }
+
     public static LinkedHashMap<String, PropertyMapping> scanPropertes(Class type) {
         LinkedHashMap<String, Method> getters = new LinkedHashMap<>();
         LinkedHashMap<String, Method> setters = new LinkedHashMap<>();
@@ -276,6 +323,16 @@ public class PropertyMapping {
             ref.dateFormat = date.format();
             if (!date.pattern().isEmpty()) ref.datePattern = date.pattern();
         }
+        if (hasAnnotation(QsonBase64.class, getter, setter, field)) {
+            ref.base64 = getAnnotation(QsonBase64.class, getter, setter, field).value();
+        }
+        if (hasAnnotation(QsonIntern.class, getter, setter, field)) {
+            QsonIntern intern = getAnnotation(QsonIntern.class, getter, setter, field);
+            Class declaring = getter != null ? getter.getDeclaringClass() : setter.getDeclaringClass();
+            ref.stringCache = intern.value().isEmpty() ? declaring.getName() + "." + prop : intern.value();
+            ref.stringCacheSize = intern.size();
+            ref.stringCacheMaxLength = intern.maxLength();
+        }
         return ref;
     }
 
@@ -323,6 +380,8 @@ public class PropertyMapping {
                     || field.isAnnotationPresent(QsonIgnoreRead.class)
                     || field.isAnnotationPresent(QsonIgnoreWrite.class)
                     || field.isAnnotationPresent(QsonDate.class)
+                    || field.isAnnotationPresent(QsonBase64.class)
+                    || field.isAnnotationPresent(QsonIntern.class)
                ) {
                 fields.put(field.getName(), field);
             }
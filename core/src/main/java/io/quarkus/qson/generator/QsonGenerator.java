@@ -68,4 +68,38 @@ public interface QsonGenerator {
      * @return
      */
     QsonDate.Format getDateFormat();
+
+    /**
+     * Generated parsers for classes with at least this many properties match json keys by
+     * key length and a hash of the raw key bytes.  Classes with fewer properties match keys
+     * with a character by character trie.
+     *
+     * @param propertyCount
+     * @return
+     */
+    QsonGenerator keyHashThreshold(int propertyCount);
+
+    /**
+     * Current property count at which generated parsers switch to hashed key matching
+     *
+     * @return
+     */
+    int getKeyHashThreshold();
+
+    /**
+     * Deduplicate parsed values of all String properties, and List, Set or Map String values, through the shared
+     * {@link io.quarkus.qson.parser.StringCache} with this name.  Properties annotated with
+     * {@link io.quarkus.qson.QsonIntern} use their own cache.  null, the default, disables the cache.
+     *
+     * @param name
+     * @return
+     */
+    QsonGenerator stringCache(String name);
+
+    /**
+     * Name of the default string cache or null if disabled
+     *
+     * @return
+     */
+    String getStringCache();
 }
@@ -2,14 +2,21 @@ package io.quarkus.qson.parser;
 
 import io.quarkus.qson.QsonException;
 
-import java.util.ArrayDeque;
-import java.util.LinkedList;
+import java.util.Arrays;
 
 import static io.quarkus.qson.util.IntChar.*;
 
 public abstract class AbstractParserContext implements ParserContext {
-    protected LinkedList<ParserState> state;
-    protected ArrayDeque<Object> target = new ArrayDeque<>();
+    /**
+     * State stack.  Top of the stack is at index stateSize - 1.
+     */
+    protected ParserState[] state = new ParserState[16];
+    protected int stateSize;
+    /**
+     * Target stack.  Top of the stack is at index targetSize - 1.
+     */
+    protected Object[] target = new Object[16];
+    protected int targetSize;
     protected int ptr;
     protected ParserState initialState;
     protected QsonParser parser;
@@ -26,44 +33,96 @@ public abstract class AbstractParserContext implements ParserContext {
         this.initialState = initialState;
     }
 
+    /**
+     * Reset this context so that it can be reused to parse a new document with the given parser.
+     * Internal buffers and stacks are kept so that no parser scaffolding is reallocated.
+     *
+     * @param parser
+     */
+    public void reset(QsonParser parser) {
+        clear();
+        this.parser = parser;
+        this.initialState = parser.startState();
+    }
+
+    /**
+     * Drop any references held from a previous parse
+     */
+    protected void clear() {
+        Arrays.fill(state, 0, stateSize, null);
+        stateSize = 0;
+        Arrays.fill(target, 0, targetSize, null);
+        targetSize = 0;
+        ptr = 0;
+        parser = null;
+        initialState = null;
+        buildingToken = false;
+        tokenStart = -1;
+        tokenEnd = -1;
+        eof = false;
+        nullToken = false;
+        escaped = false;
+        parserComplete = false;
+        result = null;
+        skipMode = SKIP_NONE;
+        skipDepth = 0;
+        skipEscaped = false;
+        skipKey = false;
+    }
+
     @Override
     public void pushState(ParserState ps) {
-        if (state == null) state = new LinkedList<>();
-        state.push(ps);
+        if (stateSize == state.length) state = Arrays.copyOf(state, stateSize << 1);
+        state[stateSize++] = ps;
     }
 
     @Override
     public void pushState(ParserState ps, int at) {
-        if (state == null) state = new LinkedList<>();
-        state.add(state.size() - at, ps);
+        if (stateSize == state.length) state = Arrays.copyOf(state, stateSize << 1);
+        System.arraycopy(state, at, state, at + 1, stateSize - at);
+        state[at] = ps;
+        stateSize++;
     }
 
     @Override
     public void popState() {
-        if (state == null) return;
-        state.pop();
+        if (stateSize == 0) return;
+        state[--stateSize] = null;
     }
 
     @Override
     public int stateIndex() {
-        return state == null ? 0 : state.size();
+        return stateSize;
+    }
+
+    protected boolean isStateEmpty() {
+        return stateSize == 0;
+    }
+
+    protected ParserState peekState() {
+        return state[stateSize - 1];
     }
 
     @Override
     public <T> T target() {
-        Object obj = target.peek();
+        if (targetSize == 0) return null;
+        Object obj = target[targetSize - 1];
         if (obj == ParserContext.NULL) return null;
         return (T)obj;
     }
 
     @Override
     public void pushTarget(Object obj) {
-        target.push(obj);
+        if (obj == null) throw new NullPointerException();
+        if (targetSize == target.length) target = Arrays.copyOf(target, targetSize << 1);
+        target[targetSize++] = obj;
     }
 
     @Override
     public <T> T popTarget() {
-        Object obj = target.pop();
+        if (targetSize == 0) throw new QsonException("Target stack is empty");
+        Object obj = target[--targetSize];
+        target[targetSize] = null;
         if (obj == ParserContext.NULL) return null;
         return (T)obj;
     }
@@ -91,6 +150,11 @@ public abstract class AbstractParserContext implements ParserContext {
         nullToken = false;
     }
 
+    @Override
+    public boolean isNullToken() {
+        return nullToken;
+    }
+
     @Override
     public int skipWhitespace() {
         int ch = 0;
@@ -137,17 +201,253 @@ public abstract class AbstractParserContext implements ParserContext {
         } while (true);
     }
 
+    static final int SKIP_NONE = 0;
+    // a value is required
+    static final int SKIP_VALUE = 1;
+    static final int SKIP_STRING = 2;
+    static final int SKIP_NUMBER = 3;
+    static final int SKIP_LITERAL = 4;
+    // just after '[', a value or ']'
+    static final int SKIP_FIRST_VALUE = 5;
+    // just after '{', a key or '}'
+    static final int SKIP_FIRST_KEY = 6;
+    // after ',' within an object
+    static final int SKIP_KEY = 7;
+    static final int SKIP_COLON = 8;
+    // after a value within an array or object, ',' or the closing bracket
+    static final int SKIP_SEPARATOR = 9;
+
+    // position within a number being skipped
+    static final int NUMBER_SIGN = 0;
+    static final int NUMBER_INTEGER = 1;
+    static final int NUMBER_FRACTION_START = 2;
+    static final int NUMBER_FRACTION = 3;
+    static final int NUMBER_EXPONENT_SIGN = 4;
+    static final int NUMBER_EXPONENT_START = 5;
+    static final int NUMBER_EXPONENT = 6;
+
+    // state of skipValue() so that it can resume in the next buffer
+    protected int skipMode = SKIP_NONE;
+    protected int skipDepth;
+    protected boolean skipEscaped;
+    protected boolean skipKey;
+    protected int skipNumber;
+    protected int[] skipLiteral;
+    protected int skipLiteralIndex;
+    // one bit per nesting level, set if the level is an object
+    protected long[] skipObjects = new long[1];
+
+    @Override
+    public boolean skipValue() {
+        if (skipMode == SKIP_NONE) {
+            skipMode = SKIP_VALUE;
+            skipDepth = 0;
+            skipEscaped = false;
+            skipKey = false;
+        }
+        do {
+            int c;
+            switch (skipMode) {
+                case SKIP_STRING:
+                    c = skipString();
+                    if (c == 0) return false;
+                    if (c < 0) throw new QsonException("String does not have end quote");
+                    if (skipKey) {
+                        skipKey = false;
+                        skipMode = SKIP_COLON;
+                    } else if (endSkippedValue()) {
+                        return true;
+                    }
+                    break;
+                case SKIP_NUMBER:
+                    if (!skipNumber()) return false;
+                    if (endSkippedValue()) return true;
+                    break;
+                case SKIP_LITERAL:
+                    do {
+                        c = consume();
+                        if (c == 0) return false;
+                        if (c != skipLiteral[skipLiteralIndex]) throw new QsonException("Illegal value syntax");
+                    } while (++skipLiteralIndex < skipLiteral.length);
+                    if (endSkippedValue()) return true;
+                    break;
+                case SKIP_COLON:
+                    c = skipWhitespace();
+                    if (c == 0) return false;
+                    if (c != INT_COLON) throw new QsonException("Expecting ':' at end of key");
+                    skipMode = SKIP_VALUE;
+                    break;
+                case SKIP_FIRST_KEY:
+                case SKIP_KEY:
+                    c = skipWhitespace();
+                    if (c == 0) return false;
+                    if (c == INT_QUOTE) {
+                        skipEscaped = false;
+                        skipKey = true;
+                        skipMode = SKIP_STRING;
+                    } else if (c == INT_RCURLY && skipMode == SKIP_FIRST_KEY) {
+                        popSkipLevel();
+                        if (endSkippedValue()) return true;
+                    } else {
+                        throw new QsonException("Expecting start of key");
+                    }
+                    break;
+                case SKIP_SEPARATOR:
+                    c = skipWhitespace();
+                    if (c == 0) return false;
+                    boolean object = isSkipObject();
+                    if (c == INT_COMMA) {
+                        skipMode = object ? SKIP_KEY : SKIP_VALUE;
+                    } else if (c == (object ? INT_RCURLY : INT_RBRACKET)) {
+                        popSkipLevel();
+                        if (endSkippedValue()) return true;
+                    } else if (c == INT_RCURLY || c == INT_RBRACKET) {
+                        throw new QsonException("Mismatched closing " + (char) c);
+                    } else {
+                        throw new QsonException("Expecting comma separator");
+                    }
+                    break;
+                default:
+                    // SKIP_VALUE or SKIP_FIRST_VALUE
+                    c = skipWhitespace();
+                    if (c == 0) return false;
+                    if (c == INT_QUOTE) {
+                        skipEscaped = false;
+                        skipMode = SKIP_STRING;
+                    } else if (c == INT_LCURLY) {
+                        pushSkipLevel(true);
+                        skipMode = SKIP_FIRST_KEY;
+                    } else if (c == INT_LBRACKET) {
+                        pushSkipLevel(false);
+                        skipMode = SKIP_FIRST_VALUE;
+                    } else if (c == INT_RBRACKET && skipMode == SKIP_FIRST_VALUE) {
+                        popSkipLevel();
+                        if (endSkippedValue()) return true;
+                    } else if (isDigit(c) || c == INT_MINUS || c == INT_PLUS) {
+                        skipNumber = isDigit(c) ? NUMBER_INTEGER : NUMBER_SIGN;
+                        skipMode = SKIP_NUMBER;
+                    } else if (c == INT_t || c == INT_f || c == INT_n) {
+                        skipLiteral = c == INT_t ? CharArrays.TRUE_VALUE : c == INT_f ? CharArrays.FALSE_VALUE : CharArrays.NULL_VALUE;
+                        skipLiteralIndex = 1;
+                        skipMode = SKIP_LITERAL;
+                    } else if (c < 0) {
+                        throw new QsonException("Parser incomplete.  EOF reached.");
+                    } else {
+                        throw new QsonException("Illegal value syntax");
+                    }
+            }
+        } while (true);
+    }
+
+    /**
+     * A value was skipped.  If it was nested, a separator or closing bracket has to follow
+     *
+     * @return true if the whole top level value has been skipped
+     */
+    private boolean endSkippedValue() {
+        if (skipDepth == 0) {
+            skipMode = SKIP_NONE;
+            return true;
+        }
+        skipMode = SKIP_SEPARATOR;
+        return false;
+    }
+
+    /**
+     * Validate a json number: optional sign, digits, optional fraction and optional exponent.
+     * The delimiter after the number is not consumed.
+     *
+     * @return true if the end of the number was found, false if the buffer ran out
+     */
+    protected boolean skipNumber() {
+        do {
+            int c = consume();
+            if (c == 0) return false;
+            switch (skipNumber) {
+                case NUMBER_SIGN:
+                case NUMBER_FRACTION_START:
+                case NUMBER_EXPONENT_START:
+                    if (!isDigit(c)) throw new QsonException("Illegal number format");
+                    skipNumber = skipNumber == NUMBER_SIGN ? NUMBER_INTEGER : skipNumber == NUMBER_FRACTION_START ? NUMBER_FRACTION : NUMBER_EXPONENT;
+                    break;
+                case NUMBER_EXPONENT_SIGN:
+                    if (c == INT_MINUS || c == INT_PLUS) skipNumber = NUMBER_EXPONENT_START;
+                    else if (isDigit(c)) skipNumber = NUMBER_EXPONENT;
+                    else throw new QsonException("Illegal number format");
+                    break;
+                case NUMBER_INTEGER:
+                case NUMBER_FRACTION:
+                    if (isDigit(c)) break;
+                    if (c == INT_PERIOD && skipNumber == NUMBER_INTEGER) {
+                        skipNumber = NUMBER_FRACTION_START;
+                        break;
+                    }
+                    if (c == INT_e || c == INT_E) {
+                        skipNumber = NUMBER_EXPONENT_SIGN;
+                        break;
+                    }
+                    // delimiter belongs to whoever is parsing after the value
+                    rewind();
+                    return true;
+                default:
+                    if (isDigit(c)) break;
+                    rewind();
+                    return true;
+            }
+        } while (true);
+    }
+
+    private void pushSkipLevel(boolean object) {
+        int word = skipDepth >> 6;
+        if (word == skipObjects.length) skipObjects = Arrays.copyOf(skipObjects, word << 1);
+        long bit = 1L << (skipDepth & 63);
+        if (object) skipObjects[word] |= bit;
+        else skipObjects[word] &= ~bit;
+        skipDepth++;
+    }
+
+    private boolean popSkipLevel() {
+        skipDepth--;
+        return (skipObjects[skipDepth >> 6] & (1L << (skipDepth & 63))) != 0;
+    }
+
+    private boolean isSkipObject() {
+        int level = skipDepth - 1;
+        return (skipObjects[level >> 6] & (1L << (level & 63))) != 0;
+    }
+
+    /**
+     * Consume bytes up to and including the closing quote of a string being skipped.
+     * Contexts with direct access to their buffer should override this with a tighter loop.
+     *
+     * @return 1 if the closing quote was consumed, 0 if the buffer ran out, -1 on EOF
+     */
+    protected int skipString() {
+        int ch;
+        do {
+            ch = consume();
+            if (ch <= 0) return ch;
+            if (skipEscaped) {
+                skipEscaped = false;
+            } else if (ch == INT_BACKSLASH) {
+                skipEscaped = true;
+            } else if (ch == INT_QUOTE) {
+                return 1;
+            }
+        } while (true);
+    }
+
     @Override
     public <T> T finish() {
         if (result != null) return (T)result;
-        parserComplete = state == null || state.isEmpty();
+        parserComplete = isStateEmpty();
         if (parserComplete) {
             result = parser.getTarget(this);
             return (T)result;
         }
         eof = true;
-        while (state != null && !state.isEmpty()) {
-            if (!state.peek().parse(this)) {
+        while (!isStateEmpty()) {
+            if (!peekState().parse(this)) {
                 throw new QsonException("Parser incomplete.  EOF reached.");
             }
         }
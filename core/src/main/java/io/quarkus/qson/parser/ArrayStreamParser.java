@@ -0,0 +1,150 @@
+package io.quarkus.qson.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parses a top level json array one element at a time.  Instead of collecting elements into a
+ * list, each element is passed to a {@link Consumer} as soon as it is complete, so only one element
+ * needs to be in memory at a time.
+ *
+ * The consumer sits at the bottom of the context's target stack.  Input can be pushed in chunks through
+ * the context returned by {@link #parserContext(Consumer)} just like any other parser.
+ *
+ * @param <T> element type
+ */
+public class ArrayStreamParser<T> extends CollectionParser {
+
+    public ArrayStreamParser(ContextValue valueFunction, ParserState valueState) {
+        super(valueFunction, valueState);
+    }
+
+    @Override
+    public void beginList(ParserContext ctx) {
+        // elements are not collected
+    }
+
+    @Override
+    public void addListValue(ParserContext ctx) {
+        Object value = valueFunction.value(ctx);
+        Consumer<T> consumer = ctx.target();
+        consumer.accept((T) value);
+    }
+
+    /**
+     * There is no end target, elements have already been consumed.
+     *
+     * @param ctx
+     * @param <R>
+     * @return null
+     */
+    @Override
+    public <R> R getTarget(ParserContext ctx) {
+        return null;
+    }
+
+    /**
+     * Create a context that feeds each parsed element to consumer.  Call parse() with
+     * each chunk of input and finish() when input is exhausted.
+     *
+     * @param consumer
+     * @return
+     */
+    public ByteArrayParserContext parserContext(Consumer<T> consumer) {
+        ByteArrayParserContext ctx = new ByteArrayParserContext(this);
+        ctx.pushTarget(consumer);
+        return ctx;
+    }
+
+    /**
+     * Parse fully buffered json array
+     *
+     * @param bytes
+     * @param consumer
+     */
+    public void read(byte[] bytes, Consumer<T> consumer) {
+        parserContext(consumer).finish(bytes);
+    }
+
+    /**
+     * Parse json array from stream
+     *
+     * @param is
+     * @param consumer
+     * @throws IOException
+     */
+    public void read(InputStream is, Consumer<T> consumer) throws IOException {
+        parserContext(consumer).finish(is);
+    }
+
+    /**
+     * Pull elements from the stream.  Input is read 8k at a time so at most the elements
+     * completed by one read are held in memory.
+     *
+     * @param is
+     * @return
+     */
+    public Iterator<T> iterator(InputStream is) {
+        return iterator(is, 8192);
+    }
+
+    /**
+     * Pull elements from the stream.
+     *
+     * @param is
+     * @param bufferSize
+     * @return
+     */
+    public Iterator<T> iterator(InputStream is, int bufferSize) {
+        return new Iterator<T>() {
+            final LinkedList<T> ready = new LinkedList<>();
+            final ByteArrayParserContext ctx = parserContext(ready::add);
+            final byte[] buffer = new byte[bufferSize];
+            boolean done;
+
+            @Override
+            public boolean hasNext() {
+                while (ready.isEmpty() && !done) {
+                    int read;
+                    try {
+                        read = is.read(buffer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    if (read < 0) {
+                        ctx.finish();
+                        done = true;
+                    } else if (ctx.parse(buffer, read)) {
+                        done = true;
+                    }
+                }
+                return !ready.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return ready.removeFirst();
+            }
+        };
+    }
+
+    /**
+     * Sequential stream of elements pulled from the input stream.
+     *
+     * @param is
+     * @return
+     */
+    public Stream<T> stream(InputStream is) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(is), Spliterator.ORDERED), false);
+    }
+}
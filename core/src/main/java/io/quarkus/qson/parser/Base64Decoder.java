@@ -0,0 +1,74 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.QsonException;
+
+import java.util.Arrays;
+
+/**
+ * Decodes Base64 straight from the raw bytes of a json string token.
+ * Both the standard and URL safe alphabets are accepted, padding is optional, and
+ * the json escape "\/" is allowed.
+ * Stateless and thread safe.
+ */
+public final class Base64Decoder {
+    static final byte[] DECODE = new byte[256];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        int i = 0;
+        for (char c = 'A'; c <= 'Z'; c++) DECODE[c] = (byte) i++;
+        for (char c = 'a'; c <= 'z'; c++) DECODE[c] = (byte) i++;
+        for (char c = '0'; c <= '9'; c++) DECODE[c] = (byte) i++;
+        DECODE['+'] = DECODE['-'] = 62;
+        DECODE['/'] = DECODE['_'] = 63;
+    }
+
+    private Base64Decoder() {
+    }
+
+    /**
+     *
+     * @param buffer
+     * @param tokenStart
+     * @param tokenEnd
+     * @return
+     */
+    public static byte[] decode(byte[] buffer, int tokenStart, int tokenEnd) {
+        int end = tokenEnd;
+        if (end > tokenStart && buffer[end - 1] == '=') end--;
+        if (end > tokenStart && buffer[end - 1] == '=') end--;
+        // exact unless there are escapes
+        int chars = end - tokenStart;
+        byte[] out = new byte[chars / 4 * 3 + (chars % 4 == 0 ? 0 : chars % 4 - 1)];
+        int o = 0;
+        int bits = 0;
+        int count = 0;
+        for (int i = tokenStart; i < end; i++) {
+            int c = buffer[i] & 0xFF;
+            if (c == '\\') {
+                if (i + 1 == end || buffer[i + 1] != '/') throw new QsonException("Illegal escape in base64 string");
+                continue;
+            }
+            int val = DECODE[c];
+            if (val < 0) throw new QsonException("Illegal base64 character: " + (char) c);
+            bits = bits << 6 | val;
+            if (++count == 4) {
+                out[o++] = (byte) (bits >> 16);
+                out[o++] = (byte) (bits >> 8);
+                out[o++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if (count == 1) {
+            throw new QsonException("Truncated base64 string");
+        } else if (count == 2) {
+            out[o++] = (byte) (bits >> 4);
+        } else if (count == 3) {
+            out[o++] = (byte) (bits >> 10);
+            out[o++] = (byte) (bits >> 2);
+        }
+        if (o != out.length) out = Arrays.copyOf(out, o);
+        return out;
+    }
+}
@@ -0,0 +1,26 @@
+package io.quarkus.qson.parser;
+
+/**
+ * Parses a Base64 json string into a byte[].  Decoding is done by the parser context straight
+ * from the token bytes.  See {@link Base64Decoder}
+ */
+public class Base64Parser extends ValueParser {
+    public static final Base64Parser PARSER = new Base64Parser();
+
+    public boolean start(ParserContext ctx) {
+        int index = ctx.stateIndex();
+        if (!ObjectParser.PARSER.startStringValue(ctx)) {
+            ctx.pushState(continueEndValue, index);
+            return false;
+        }
+        Object val = value(ctx);
+        ctx.pushTarget(val == null ? ParserContext.NULL : val);
+        return true;
+    }
+
+    @Override
+    public Object value(ParserContext ctx) {
+        if (ctx.isNullToken()) return ctx.popToken();
+        return ctx.popBase64Token();
+    }
+}
@@ -43,6 +43,9 @@ public class BaseParser implements QsonParser {
     public final ParserState continueStartNumberValue = this::continueStartNumberValue;
     public final ParserState continueNumberValue = this::continueNumberValue;
     public final ParserState continueFloatValue = this::continueFloatValue;
+    public final ParserState continueExponentValue = this::continueExponentValue;
+    public final ParserState continueExponentDigit = this::continueExponentDigit;
+    public final ParserState continueExponentDigits = this::continueExponentDigits;
     public final ParserState continueBooleanValue = this::continueBooleanValue;
     public final ParserState continueNullValue = this::continueNullValue;
     public final ParserState continueNullObject = this::continueNullObject;
@@ -52,6 +55,7 @@ public class BaseParser implements QsonParser {
     public final ParserState continueNextKeys = this::continueNextKeys;
     public final ParserState continueKey = this::continueKey;
     public final ParserState continueStartList = this::continueStartList;
+    public final ParserState continueSkipValue = this::continueSkipValue;
 
 
     public boolean continueStart(ParserContext ctx) {
@@ -193,6 +197,7 @@ public class BaseParser implements QsonParser {
             return false;
         }
         if (c == INT_RBRACKET) {
+            endList(ctx);
             return true;
         }
         ctx.rewind();
@@ -219,6 +224,7 @@ public class BaseParser implements QsonParser {
                 return false;
             }
             if (c == INT_RBRACKET) {
+                endList(ctx);
                 return true;
             }
             if (c != INT_COMMA) throw new QsonException("Expecting comma separator");
@@ -243,6 +249,14 @@ public class BaseParser implements QsonParser {
     public void addListValue(ParserContext ctx) {
     }
 
+    /**
+     * Called after the closing bracket of a list
+     *
+     * @param ctx
+     */
+    public void endList(ParserContext ctx) {
+    }
+
     public void beginObject(ParserContext ctx) {
     }
 
@@ -366,6 +380,8 @@ public class BaseParser implements QsonParser {
         }
         if (c == INT_PERIOD) {
             return floatValue(ctx);
+        } else if (c == INT_e || c == INT_E) {
+            return exponentValue(ctx);
         } else {
             endToken(ctx);
             endNumberValue(ctx);
@@ -385,6 +401,66 @@ public class BaseParser implements QsonParser {
             ctx.pushState(continueFloatValue);
             return false;
         }
+        if (c == INT_e || c == INT_E) {
+            return exponentValue(ctx);
+        }
+        endToken(ctx);
+        endFloatValue(ctx);
+        ctx.rewind();
+        return true;
+    }
+
+    public boolean continueExponentValue(ParserContext ctx) {
+        ctx.popState();
+        return exponentValue(ctx);
+    }
+
+    /**
+     * Just consumed 'e' or 'E'.  Expects an optional sign followed by at least one digit.
+     *
+     * @param ctx
+     * @return
+     */
+    public boolean exponentValue(ParserContext ctx) {
+        int c = ctx.consume();
+        if (c == 0) {
+            ctx.pushState(continueExponentValue);
+            return false;
+        }
+        if (c == INT_MINUS || c == INT_PLUS) {
+            return exponentDigit(ctx);
+        } else if (isDigit(c)) {
+            return exponentDigits(ctx);
+        }
+        throw new QsonException("Illegal number format");
+    }
+
+    public boolean continueExponentDigit(ParserContext ctx) {
+        ctx.popState();
+        return exponentDigit(ctx);
+    }
+
+    public boolean exponentDigit(ParserContext ctx) {
+        int c = ctx.consume();
+        if (c == 0) {
+            ctx.pushState(continueExponentDigit);
+            return false;
+        }
+        if (!isDigit(c)) throw new QsonException("Illegal number format");
+        return exponentDigits(ctx);
+    }
+
+    public boolean continueExponentDigits(ParserContext ctx) {
+        ctx.popState();
+        return exponentDigits(ctx);
+    }
+
+    public boolean exponentDigits(ParserContext ctx) {
+        int c = ctx.skipDigits();
+        if (c == 0) {
+            ctx.pushState(continueExponentDigits);
+            return false;
+        }
         endToken(ctx);
         endFloatValue(ctx);
         ctx.rewind();
@@ -545,10 +621,23 @@ public class BaseParser implements QsonParser {
         ctx.clearToken();
         int stateIndex = ctx.stateIndex();
         if (!valueSeparator(ctx)) {
-            ctx.pushState(continueValue, stateIndex);
+            ctx.pushState(continueSkipValue, stateIndex);
            return false;
         }
-        return value(ctx);
+        if (!ctx.skipValue()) {
+            ctx.pushState(continueSkipValue);
+            return false;
+        }
+        return true;
+    }
+
+    public boolean continueSkipValue(ParserContext ctx) {
+        ctx.popState();
+        if (!ctx.skipValue()) {
+            ctx.pushState(continueSkipValue);
+            return false;
+        }
+        return true;
     }
 
     public boolean continueKey(ParserContext ctx) {
@@ -0,0 +1,46 @@
+package io.quarkus.qson.parser;
+
+import java.util.Arrays;
+
+/**
+ * Parses a json array into a boolean[].  Values are collected in a growable boolean[] so no element is boxed.
+ */
+public class BooleanArrayParser extends ObjectParser {
+    public static final BooleanArrayParser PARSER = new BooleanArrayParser();
+
+    static class Buffer {
+        boolean[] values = new boolean[16];
+        int size;
+    }
+
+    public BooleanArrayParser() {
+    }
+
+    @Override
+    public boolean start(ParserContext ctx) {
+        return startList(ctx);
+    }
+
+    @Override
+    public boolean listValue(ParserContext ctx) {
+        return startBooleanValue(ctx);
+    }
+
+    @Override
+    public void beginList(ParserContext ctx) {
+        ctx.pushTarget(new Buffer());
+    }
+
+    @Override
+    public void addListValue(ParserContext ctx) {
+        Buffer buffer = ctx.target();
+        if (buffer.size == buffer.values.length) buffer.values = Arrays.copyOf(buffer.values, buffer.size << 1);
+        buffer.values[buffer.size++] = ctx.popBooleanToken();
+    }
+
+    @Override
+    public void endList(ParserContext ctx) {
+        Buffer buffer = ctx.popTarget();
+        ctx.pushTarget(buffer.size == buffer.values.length ? buffer.values : Arrays.copyOf(buffer.values, buffer.size));
+    }
+}
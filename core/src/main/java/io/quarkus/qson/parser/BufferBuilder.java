@@ -1,14 +1,53 @@
 package io.quarkus.qson.parser;
 
-import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
 
-public class BufferBuilder extends ByteArrayOutputStream {
+/**
+ * Unsynchronized growable byte buffer used to hold tokens that span input buffers.
+ */
+public class BufferBuilder {
+    protected byte[] buf;
+    protected int count;
 
     public BufferBuilder() {
+        this(32);
     }
 
     public BufferBuilder(int size) {
-        super(size);
+        buf = new byte[Math.max(size, 16)];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(capacity, buf.length << 1));
+        }
+    }
+
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buf[count++] = (byte) b;
+    }
+
+    public void write(byte[] bytes, int offset, int length) {
+        ensureCapacity(count + length);
+        System.arraycopy(bytes, offset, buf, count, length);
+        count += length;
+    }
+
+    public void write(byte[] bytes) {
+        write(bytes, 0, bytes.length);
+    }
+
+    public void reset() {
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
     }
 
     public byte[] getBuffer() {
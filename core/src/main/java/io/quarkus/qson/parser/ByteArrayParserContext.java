@@ -8,10 +8,21 @@ import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 
 public class ByteArrayParserContext extends AbstractParserContext {
+    public static final int DEFAULT_MAX_RETAINED_CAPACITY = 64 * 1024;
+
     protected BufferBuilder tokenBuffer;
+    // cleared token buffer kept around so that split tokens don't allocate a new one each time
+    protected BufferBuilder spareTokenBuffer;
     protected byte[] buffer;
+    protected int start;
     protected int len;
-
+    // read buffer for parse(InputStream), kept across resets so that pooled contexts don't allocate one per stream
+    protected byte[] streamBuffer;
+    // set while parse(InputStream) is running.  A partial token is left in place to be compacted to the front
+    // of the read buffer instead of being copied into tokenBuffer.
+    protected boolean compactTokens;
+    // token and read buffers larger than this are dropped on reset instead of being kept
+    protected int maxRetainedCapacity = DEFAULT_MAX_RETAINED_CAPACITY;
 
     public ByteArrayParserContext(QsonParser parser, ParserState initialState) {
         super(parser, initialState);
@@ -21,6 +32,32 @@ public class ByteArrayParserContext extends AbstractParserContext {
         super(parser, parser.startState());
     }
 
+    /**
+     * Token and stream read buffers that have grown beyond this capacity are dropped when the context
+     * is reset.  Defaults to {@link #DEFAULT_MAX_RETAINED_CAPACITY}.
+     *
+     * @param maxRetainedCapacity
+     */
+    public void setMaxRetainedCapacity(int maxRetainedCapacity) {
+        this.maxRetainedCapacity = maxRetainedCapacity;
+    }
+
+    @Override
+    protected void clear() {
+        super.clear();
+        if (tokenBuffer != null) {
+            tokenBuffer.reset();
+            spareTokenBuffer = tokenBuffer;
+            tokenBuffer = null;
+        }
+        // a single huge document shouldn't pin its buffers in a pooled context
+        if (spareTokenBuffer != null && spareTokenBuffer.getBuffer().length > maxRetainedCapacity) spareTokenBuffer = null;
+        if (streamBuffer != null && streamBuffer.length > maxRetainedCapacity) streamBuffer = null;
+        buffer = null;
+        start = 0;
+        len = 0;
+    }
+
     @Override
     public boolean isBufferEmpty() {
         return ptr >= len;
@@ -32,20 +69,10 @@ public class ByteArrayParserContext extends AbstractParserContext {
         if (ptr >= len) {
             if (buildingToken) {
                 if (tokenBuffer == null ) {
-                    if (tokenStart >= 0) {
-                        tokenBuffer = new BufferBuilder(ptr - tokenStart);
-                        tokenBuffer.write(buffer, tokenStart, ptr - tokenStart);
-                    } else {
-                        tokenStart = 0;
-                    }
+                    if (tokenStart >= 0 && !compactTokens) copyToken();
+                    // otherwise token starts at the beginning of the next buffer
                 } else {
-                    try {
-                        tokenBuffer.write(buffer);
-                    } catch (IOException e) {
-                        // should be unreachable
-                        throw new QsonException(e);
-                    }
-
+                    tokenBuffer.write(buffer, start, len - start);
                 }
             }
             return 0;
@@ -53,6 +80,42 @@ public class ByteArrayParserContext extends AbstractParserContext {
         return buffer[ptr++] & 0xFF;
     }
 
+    @Override
+    protected int skipString() {
+        if (eof) return -1;
+        final byte[] buf = buffer;
+        final int end = len;
+        int p = ptr;
+        boolean esc = skipEscaped;
+        while (p < end) {
+            byte b = buf[p++];
+            if (esc) {
+                esc = false;
+            } else if (b == '\\') {
+                esc = true;
+            } else if (b == '"') {
+                ptr = p;
+                skipEscaped = false;
+                return 1;
+            }
+        }
+        ptr = p;
+        skipEscaped = esc;
+        return 0;
+    }
+
+    private void copyToken() {
+        tokenBuffer = newTokenBuffer(ptr - tokenStart);
+        tokenBuffer.write(buffer, tokenStart, ptr - tokenStart);
+    }
+
+    private BufferBuilder newTokenBuffer(int size) {
+        BufferBuilder builder = spareTokenBuffer;
+        if (builder == null) return new BufferBuilder(size);
+        spareTokenBuffer = null;
+        return builder;
+    }
+
     @Override
     public void startTokenNextConsumed() {
         escaped = false;
@@ -66,9 +129,9 @@ public class ByteArrayParserContext extends AbstractParserContext {
     public void endToken() {
         buildingToken = false;
         if (tokenBuffer != null) {
-            if (!eof && ptr - 1 > 0) tokenBuffer.write(buffer, 0, ptr - 1);
+            if (!eof && ptr - 1 > start) tokenBuffer.write(buffer, start, ptr - 1 - start);
         } else {
-            if (tokenStart < 0) tokenStart = 0;  // when asked to start token at next buffer tokenStart will be -1
+            if (tokenStart < 0) tokenStart = start;  // when asked to start token at next buffer tokenStart will be -1
             tokenEnd = ptr - 1;
         }
     }
@@ -76,7 +139,11 @@ public class ByteArrayParserContext extends AbstractParserContext {
     @Override
     public void clearToken() {
         buildingToken = false;
-        tokenBuffer = null;
+        if (tokenBuffer != null) {
+            tokenBuffer.reset();
+            spareTokenBuffer = tokenBuffer;
+            tokenBuffer = null;
+        }
         tokenStart = -1;
         tokenEnd = -1;
     }
@@ -91,6 +158,46 @@ public class ByteArrayParserContext extends AbstractParserContext {
         }
     }
 
+    @Override
+    public int tokenLength() {
+        if (tokenBuffer == null) {
+            return tokenEnd - tokenStart;
+        } else {
+            return tokenBuffer.size();
+        }
+    }
+
+    @Override
+    public int tokenHash() {
+        if (tokenBuffer == null) {
+            return ParsePrimitives.hash(buffer, tokenStart, tokenEnd);
+        } else {
+            return ParsePrimitives.hash(tokenBuffer.getBuffer(), 0, tokenBuffer.size());
+        }
+    }
+
+    @Override
+    public boolean compareToken(byte[] bytes) {
+        byte[] buf;
+        int start;
+        int size;
+        if (tokenBuffer == null) {
+            buf = buffer;
+            start = tokenStart;
+            size = tokenEnd - tokenStart;
+        } else {
+            buf = tokenBuffer.getBuffer();
+            start = 0;
+            size = tokenBuffer.size();
+        }
+        if (size != bytes.length) return false;
+        for (int i = 0; i < size; i++) {
+            if (buf[start + i] != bytes[i]) return false;
+        }
+        clearToken();
+        return true;
+    }
+
     @Override
     public boolean compareToken(int index, String str) {
         if (tokenBuffer == null) {
@@ -132,6 +239,40 @@ public class ByteArrayParserContext extends AbstractParserContext {
         return val;
     }
 
+    @Override
+    public String popToken(StringCache cache) {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        String val;
+        if (tokenBuffer == null) {
+            if (tokenStart < 0) throw new QsonException("Token not started.");
+            val = cache.intern(buffer, tokenStart, tokenEnd);
+        } else {
+            val = cache.intern(tokenBuffer.getBuffer(), 0, tokenBuffer.size());
+        }
+        clearToken();
+        return val;
+    }
+
+    @Override
+    public byte[] popBase64Token() {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        byte[] val;
+        if (tokenBuffer == null) {
+            if (tokenStart < 0) throw new QsonException("Token not started.");
+            val = Base64Decoder.decode(buffer, tokenStart, tokenEnd);
+        } else {
+            val = Base64Decoder.decode(tokenBuffer.getBuffer(), 0, tokenBuffer.size());
+        }
+        clearToken();
+        return val;
+    }
+
     @Override
     public boolean popBooleanToken() {
         if (nullToken) {
@@ -213,7 +354,15 @@ public class ByteArrayParserContext extends AbstractParserContext {
             nullToken = false;
             return 0.0f;
         }
-        return Float.parseFloat(popToken());
+        float val;
+        if (tokenBuffer == null) {
+            if (tokenStart < 0) throw new QsonException("Token not started.");
+            val = ParsePrimitives.readFloat(buffer, tokenStart, tokenEnd);
+        } else {
+            val = ParsePrimitives.readFloat(tokenBuffer.getBuffer(), 0, tokenBuffer.size());
+        }
+        clearToken();
+        return val;
     }
 
     @Override
@@ -222,7 +371,7 @@ public class ByteArrayParserContext extends AbstractParserContext {
             nullToken = false;
             return null;
         }
-        return Float.valueOf(popToken());
+        return popFloatToken();
     }
 
     @Override
@@ -231,7 +380,15 @@ public class ByteArrayParserContext extends AbstractParserContext {
             nullToken = false;
             return 0.0;
         }
-        return Double.parseDouble(popToken());
+        double val;
+        if (tokenBuffer == null) {
+            if (tokenStart < 0) throw new QsonException("Token not started.");
+            val = ParsePrimitives.readDouble(buffer, tokenStart, tokenEnd);
+        } else {
+            val = ParsePrimitives.readDouble(tokenBuffer.getBuffer(), 0, tokenBuffer.size());
+        }
+        clearToken();
+        return val;
     }
 
     @Override
@@ -240,7 +397,7 @@ public class ByteArrayParserContext extends AbstractParserContext {
             nullToken = false;
             return null;
         }
-        return Double.valueOf(popToken());
+        return popDoubleToken();
     }
 
     @Override
@@ -269,22 +426,38 @@ public class ByteArrayParserContext extends AbstractParserContext {
     }
 
     public boolean parse(byte[] buffer, int len) {
+        return parse(buffer, 0, len);
+    }
+
+    /**
+     * Parse length bytes of buffer starting at offset
+     *
+     * @param buffer
+     * @param offset
+     * @param length
+     * @return true if parser is complete
+     */
+    public boolean parse(byte[] buffer, int offset, int length) {
         if (parserComplete) throw new QsonException("Parser is complete, extra bytes invalid");
-        if (buffer == null || len == 0) return parserComplete;
-        this.len = len;
+        if (buffer == null || length <= 0) return parserComplete;
+        this.start = offset;
+        this.len = offset + length;
         this.buffer = buffer;
-        this.ptr = 0;
+        this.ptr = offset;
+        // a token that started at the end of the last buffer begins at the start of this one
+        if (buildingToken && tokenBuffer == null && tokenStart < 0) tokenStart = offset;
 
-        if (state == null || state.isEmpty()) {
+        if (isStateEmpty()) {
             return initialState.parse(this);
         }
 
-        while (ptr < len || (state != null && !state.isEmpty())) {
-            if (!state.peek().parse(this)) {
+        // bytes left over once the document is complete are not parsed
+        while (!isStateEmpty()) {
+            if (!peekState().parse(this)) {
                 return false;
             }
         }
-        parserComplete = state == null || state.isEmpty();
+        parserComplete = isStateEmpty();
         return parserComplete;
     }
 
@@ -297,15 +470,65 @@ public class ByteArrayParserContext extends AbstractParserContext {
         return parse(bytes);
     }
 
+    /**
+     * Parse the stream using a read buffer of bufferSize that is kept by this context and reused
+     * by later parses, i.e. when the context is pooled.
+     *
+     * @param is
+     * @param bufferSize
+     * @return true if parser is complete
+     * @throws IOException
+     */
     public boolean parse(InputStream is, int bufferSize) throws IOException {
-        final byte[] bytes = new byte[bufferSize];
-        int read ;
-        boolean success;
-        do {
-            read = is.read(bytes);
-            success = parse(bytes, read);
-        } while (read >= 0 && !success);
-        return success;
+        if (streamBuffer == null || streamBuffer.length != bufferSize) streamBuffer = new byte[bufferSize];
+        return parse(is, streamBuffer);
+    }
+
+    /**
+     * Parse the stream reading into readBuffer.  A token that is split between reads is compacted to the
+     * front of readBuffer and the next read is appended to it.  The token is only copied out if it is larger
+     * than readBuffer.
+     *
+     * @param is
+     * @param readBuffer
+     * @return true if parser is complete
+     * @throws IOException
+     */
+    public boolean parse(InputStream is, byte[] readBuffer) throws IOException {
+        compactTokens = true;
+        try {
+            int keep = 0;
+            while (true) {
+                int read = is.read(readBuffer, keep, readBuffer.length - keep);
+                if (read < 0) {
+                    // finish() expects a partial token to have been copied out of the buffer
+                    if (buildingToken && tokenBuffer == null && tokenStart >= 0) copyToken();
+                    return parserComplete;
+                }
+                if (parse(readBuffer, keep, read)) return true;
+                keep = compactToken(readBuffer);
+            }
+        } finally {
+            compactTokens = false;
+        }
+    }
+
+    /**
+     * Move a partial token to the front of the read buffer.
+     *
+     * @return number of bytes kept at the front of the buffer
+     */
+    private int compactToken(byte[] readBuffer) {
+        if (!buildingToken || tokenBuffer != null || tokenStart < 0) return 0;
+        int keep = len - tokenStart;
+        if (keep == readBuffer.length) {
+            // token fills the whole buffer, append the rest of it to tokenBuffer
+            copyToken();
+            return 0;
+        }
+        System.arraycopy(readBuffer, tokenStart, readBuffer, 0, keep);
+        tokenStart = 0;
+        return keep;
     }
 
     public boolean parse(InputStream is) throws IOException {
@@ -349,4 +572,18 @@ public class ByteArrayParserContext extends AbstractParserContext {
         return finish();
     }
 
+    /**
+     * Finish this parse with the last buffer region and return the parsed object.
+     *
+     * @param bytes
+     * @param offset
+     * @param length
+     * @param <T>
+     * @return
+     */
+    public <T> T finish(byte[] bytes, int offset, int length) {
+        parse(bytes, offset, length);
+        return finish();
+    }
+
 }
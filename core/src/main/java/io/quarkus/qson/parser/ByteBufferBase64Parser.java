@@ -0,0 +1,16 @@
+package io.quarkus.qson.parser;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parses a Base64 json string into a heap ByteBuffer wrapping the decoded bytes
+ */
+public class ByteBufferBase64Parser extends Base64Parser {
+    public static final ByteBufferBase64Parser PARSER = new ByteBufferBase64Parser();
+
+    @Override
+    public Object value(ParserContext ctx) {
+        if (ctx.isNullToken()) return ctx.popToken();
+        return ByteBuffer.wrap(ctx.popBase64Token());
+    }
+}
@@ -0,0 +1,469 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.QsonException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parses directly from heap or direct {@link ByteBuffer}s without copying the input onto the heap.
+ * Bytes are read between the buffer's position and limit using absolute gets, so the position of the
+ * buffers passed in is never modified.
+ *
+ * Multiple buffers (i.e. a composite Netty ByteBuf) can be parsed by calling parse() for each buffer in order
+ * or with {@link #parse(ByteBuffer[])}.
+ */
+public class ByteBufferParserContext extends AbstractParserContext {
+    protected BufferBuilder tokenBuffer;
+    protected BufferBuilder spareTokenBuffer;
+    protected ByteBuffer buffer;
+    protected int start;
+    protected int len;
+    // scratch space for copying tokens out of direct buffers
+    protected byte[] scratch;
+    // array region of the current token, set by resolveToken()
+    protected byte[] tokenArray;
+    protected int tokenArrayStart;
+    protected int tokenArrayEnd;
+
+    public ByteBufferParserContext(QsonParser parser, ParserState initialState) {
+        super(parser, initialState);
+    }
+
+    public ByteBufferParserContext(QsonParser parser) {
+        super(parser, parser.startState());
+    }
+
+    @Override
+    protected void clear() {
+        super.clear();
+        if (tokenBuffer != null) {
+            tokenBuffer.reset();
+            spareTokenBuffer = tokenBuffer;
+            tokenBuffer = null;
+        }
+        buffer = null;
+        tokenArray = null;
+        start = 0;
+        len = 0;
+    }
+
+    @Override
+    public boolean isBufferEmpty() {
+        return ptr >= len;
+    }
+
+    @Override
+    public int consume() {
+        if (eof) return -1;
+        if (ptr >= len) {
+            if (buildingToken) {
+                if (tokenBuffer == null) {
+                    if (tokenStart >= 0) {
+                        tokenBuffer = newTokenBuffer(ptr - tokenStart);
+                        appendToken(tokenStart, ptr);
+                    }
+                    // otherwise token starts at the beginning of the next buffer
+                } else {
+                    appendToken(start, len);
+                }
+            }
+            return 0;
+        }
+        return buffer.get(ptr++) & 0xFF;
+    }
+
+    private BufferBuilder newTokenBuffer(int size) {
+        BufferBuilder builder = spareTokenBuffer;
+        if (builder == null) return new BufferBuilder(size);
+        spareTokenBuffer = null;
+        return builder;
+    }
+
+    private byte[] scratch(int size) {
+        if (scratch == null || scratch.length < size) {
+            scratch = new byte[Math.max(size, 64)];
+        }
+        return scratch;
+    }
+
+    private void appendToken(int from, int to) {
+        int size = to - from;
+        if (size <= 0) return;
+        if (buffer.hasArray()) {
+            tokenBuffer.write(buffer.array(), buffer.arrayOffset() + from, size);
+        } else {
+            byte[] bytes = scratch(size);
+            ByteBuffer dup = buffer.duplicate();
+            dup.position(from);
+            dup.get(bytes, 0, size);
+            tokenBuffer.write(bytes, 0, size);
+        }
+    }
+
+    /**
+     * Make the current token available as a byte array region: tokenArray[tokenArrayStart, tokenArrayEnd)
+     */
+    private void resolveToken() {
+        if (tokenBuffer != null) {
+            tokenArray = tokenBuffer.getBuffer();
+            tokenArrayStart = 0;
+            tokenArrayEnd = tokenBuffer.size();
+            return;
+        }
+        if (tokenStart < 0) throw new QsonException("Token not started.");
+        if (buffer.hasArray()) {
+            tokenArray = buffer.array();
+            tokenArrayStart = buffer.arrayOffset() + tokenStart;
+            tokenArrayEnd = buffer.arrayOffset() + tokenEnd;
+        } else {
+            int size = tokenEnd - tokenStart;
+            byte[] bytes = scratch(size);
+            for (int i = 0; i < size; i++) {
+                bytes[i] = buffer.get(tokenStart + i);
+            }
+            tokenArray = bytes;
+            tokenArrayStart = 0;
+            tokenArrayEnd = size;
+        }
+    }
+
+    @Override
+    public void startTokenNextConsumed() {
+        escaped = false;
+        buildingToken = true;
+        // if current pointer points outside of buffer, set it to start of next buffer.
+        if (ptr >= len) tokenStart = -1;
+        else tokenStart = ptr;
+    }
+
+    @Override
+    public void endToken() {
+        buildingToken = false;
+        if (tokenBuffer != null) {
+            if (!eof && ptr - 1 > start) appendToken(start, ptr - 1);
+        } else {
+            if (tokenStart < 0) tokenStart = start;  // when asked to start token at next buffer tokenStart will be -1
+            tokenEnd = ptr - 1;
+        }
+    }
+
+    @Override
+    public void clearToken() {
+        buildingToken = false;
+        if (tokenBuffer != null) {
+            tokenBuffer.reset();
+            spareTokenBuffer = tokenBuffer;
+            tokenBuffer = null;
+        }
+        tokenArray = null;
+        tokenStart = -1;
+        tokenEnd = -1;
+    }
+
+    @Override
+    public int tokenCharAt(int index) {
+        if (tokenBuffer == null) {
+            return buffer.get(tokenStart + index) & 0xFF;
+        } else {
+            return tokenBuffer.getBuffer()[index] & 0xFF;
+        }
+    }
+
+    @Override
+    public int tokenLength() {
+        if (tokenBuffer == null) {
+            return tokenEnd - tokenStart;
+        } else {
+            return tokenBuffer.size();
+        }
+    }
+
+    @Override
+    public int tokenHash() {
+        if (tokenBuffer == null) {
+            int h = 0;
+            for (int i = tokenStart; i < tokenEnd; i++) {
+                h = ParsePrimitives.hash(h, buffer.get(i) & 0xFF);
+            }
+            return h;
+        } else {
+            return ParsePrimitives.hash(tokenBuffer.getBuffer(), 0, tokenBuffer.size());
+        }
+    }
+
+    @Override
+    public boolean compareToken(byte[] bytes) {
+        if (tokenBuffer == null) {
+            int size = tokenEnd - tokenStart;
+            if (size != bytes.length) return false;
+            for (int i = 0; i < size; i++) {
+                if (buffer.get(tokenStart + i) != bytes[i]) return false;
+            }
+        } else {
+            int size = tokenBuffer.size();
+            if (size != bytes.length) return false;
+            byte[] buf = tokenBuffer.getBuffer();
+            for (int i = 0; i < size; i++) {
+                if (buf[i] != bytes[i]) return false;
+            }
+        }
+        clearToken();
+        return true;
+    }
+
+    @Override
+    public boolean compareToken(int index, String str) {
+        if (tokenBuffer == null) {
+            int size = tokenEnd - tokenStart - index;
+            if (size != str.length()) return false;
+            for (int i = 0; i < size; i++) {
+                int c = buffer.get(tokenStart + i + index) & 0xFF;
+                if (c != str.charAt(i)) return false;
+            }
+            clearToken();
+            return true;
+        } else {
+            int size = tokenBuffer.size() - index;
+            if (size != str.length()) return false;
+            byte[] buf = tokenBuffer.getBuffer();
+            for (int i = 0; i < size; i++) {
+                int c = buf[i + index] & 0xFF;
+                if (c != str.charAt(i)) return false;
+            }
+            clearToken();
+            return true;
+        }
+    }
+
+    @Override
+    public String popToken() {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        resolveToken();
+        String val = ParsePrimitives.readString(tokenArray, tokenArrayStart, tokenArrayEnd);
+        clearToken();
+        return val;
+    }
+
+    @Override
+    public String popToken(StringCache cache) {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        resolveToken();
+        String val = cache.intern(tokenArray, tokenArrayStart, tokenArrayEnd);
+        clearToken();
+        return val;
+    }
+
+    @Override
+    public byte[] popBase64Token() {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        resolveToken();
+        byte[] val = Base64Decoder.decode(tokenArray, tokenArrayStart, tokenArrayEnd);
+        clearToken();
+        return val;
+    }
+
+    @Override
+    public boolean popBooleanToken() {
+        if (nullToken) {
+            nullToken = false;
+            return false;
+        }
+        resolveToken();
+        boolean val = ParsePrimitives.readBoolean(tokenArray, tokenArrayStart, tokenArrayEnd);
+        clearToken();
+        return val;
+    }
+
+    @Override
+    public Boolean popBooleanObjectToken() {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        resolveToken();
+        Boolean val = ParsePrimitives.readBooleanObject(tokenArray, tokenArrayStart, tokenArrayEnd);
+        clearToken();
+        return val;
+    }
+
+    @Override
+    public int popIntToken() {
+        return (int) popLongToken();
+    }
+
+    @Override
+    public Integer popIntObjectToken() {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        return (int)popLongToken();
+    }
+
+    @Override
+    public short popShortToken() {
+        return (short) popLongToken();
+    }
+
+    @Override
+    public Short popShortObjectToken() {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        return (short) popLongToken();
+    }
+
+    @Override
+    public byte popByteToken() {
+        return (byte) popLongToken();
+    }
+
+    @Override
+    public Byte popByteObjectToken() {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        return (byte) popLongToken();
+    }
+
+    @Override
+    public float popFloatToken() {
+        if (nullToken) {
+            nullToken = false;
+            return 0.0f;
+        }
+        resolveToken();
+        float val = ParsePrimitives.readFloat(tokenArray, tokenArrayStart, tokenArrayEnd);
+        clearToken();
+        return val;
+    }
+
+    @Override
+    public Float popFloatObjectToken() {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        return popFloatToken();
+    }
+
+    @Override
+    public double popDoubleToken() {
+        if (nullToken) {
+            nullToken = false;
+            return 0.0;
+        }
+        resolveToken();
+        double val = ParsePrimitives.readDouble(tokenArray, tokenArrayStart, tokenArrayEnd);
+        clearToken();
+        return val;
+    }
+
+    @Override
+    public Double popDoubleObjectToken() {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        return popDoubleToken();
+    }
+
+    @Override
+    public long popLongToken() {
+        if (nullToken) {
+            nullToken = false;
+            return 0;
+        }
+        resolveToken();
+        long val = ParsePrimitives.readLong(tokenArray, tokenArrayStart, tokenArrayEnd);
+        clearToken();
+        return val;
+    }
+
+    @Override
+    public Long popLongObjectToken() {
+        if (nullToken) {
+            nullToken = false;
+            return null;
+        }
+        return popLongToken();
+    }
+
+    /**
+     * Parse bytes between the buffer's position and limit.  Buffer position is not modified.
+     *
+     * @param buffer
+     * @return true if parser is complete
+     */
+    public boolean parse(ByteBuffer buffer) {
+        if (parserComplete) throw new QsonException("Parser is complete, extra bytes invalid");
+        if (buffer == null || !buffer.hasRemaining()) return parserComplete;
+        this.buffer = buffer;
+        this.start = buffer.position();
+        this.len = buffer.limit();
+        this.ptr = start;
+        // a token that started at the end of the last buffer begins at the start of this one
+        if (buildingToken && tokenBuffer == null) tokenStart = start;
+
+        if (isStateEmpty()) {
+            return initialState.parse(this);
+        }
+
+        // bytes left over once the document is complete are not parsed
+        while (!isStateEmpty()) {
+            if (!peekState().parse(this)) {
+                return false;
+            }
+        }
+        parserComplete = isStateEmpty();
+        return parserComplete;
+    }
+
+    /**
+     * Parse a composite set of buffers in order.
+     *
+     * @param buffers
+     * @return true if parser is complete
+     */
+    public boolean parse(ByteBuffer[] buffers) {
+        for (ByteBuffer buffer : buffers) {
+            if (parse(buffer)) return true;
+        }
+        return parserComplete;
+    }
+
+    /**
+     * Finish this parse with the last buffer and return the parsed object.
+     *
+     * @param buffer
+     * @param <T>
+     * @return
+     */
+    public <T> T finish(ByteBuffer buffer) {
+        parse(buffer);
+        return finish();
+    }
+
+    /**
+     * Finish this parse with the last set of buffers and return the parsed object.
+     *
+     * @param buffers
+     * @param <T>
+     * @return
+     */
+    public <T> T finish(ByteBuffer[] buffers) {
+        parse(buffers);
+        return finish();
+    }
+}
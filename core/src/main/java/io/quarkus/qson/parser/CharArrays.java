@@ -8,6 +8,7 @@ class CharArrays {
     final static int[] sHexValues = new int[256];
     final static int[] TRUE_VALUE = {INT_t, INT_r, INT_u, INT_e};
     final static int[] FALSE_VALUE = {INT_f, INT_a, INT_l, INT_s, INT_e};
+    final static int[] NULL_VALUE = {INT_n, INT_u, INT_l, INT_l};
 
     static {
         Arrays.fill(sHexValues, -1);
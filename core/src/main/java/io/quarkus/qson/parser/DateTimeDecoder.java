@@ -0,0 +1,303 @@
+package io.quarkus.qson.parser;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Parses ISO 8601 offset date times and RFC 1123 date times straight from the raw bytes of the current token.
+ * Stateless and thread safe.
+ *
+ * ISO 8601: yyyy-MM-dd'T'HH:mm[:ss[.fffffffff]] followed by Z or +hh[[:]mm[[:]ss]]
+ * RFC 1123: [EEE, ]d MMM yyyy HH:mm[:ss] followed by GMT, UT, UTC, Z, an RFC 822 US zone or +hhmm
+ *
+ * Anything else, i.e. years outside 0000-9999 or other zone names, is reported as unsupported so that the
+ * caller can fall back to a formatter.  The token is not cleared.
+ */
+public final class DateTimeDecoder {
+    /**
+     * Returned by the millisecond parsers when the token isn't in a supported layout
+     */
+    public static final long UNSUPPORTED = Long.MIN_VALUE;
+
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+
+    static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    static final String[] DAYS = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+
+    private DateTimeDecoder() {
+    }
+
+    /**
+     * @param ctx
+     * @return milliseconds since epoch or {@link #UNSUPPORTED}
+     */
+    public static long parseIso8601Millis(ParserContext ctx) {
+        int len = ctx.tokenLength();
+        long local = isoLocalEpochSecond(ctx, len);
+        if (local == UNSUPPORTED) return UNSUPPORTED;
+        int timeEnd = isoTimeEnd(ctx);
+        int fractionEnd = fractionEnd(ctx, timeEnd, len);
+        int offset = isoOffset(ctx, fractionEnd, len);
+        if (offset == NO_OFFSET) return UNSUPPORTED;
+        return (local - offset) * 1000 + fraction(ctx, timeEnd, fractionEnd) / 1000000;
+    }
+
+    /**
+     * @param ctx
+     * @return parsed value or null if unsupported
+     */
+    public static OffsetDateTime parseIso8601(ParserContext ctx) {
+        int len = ctx.tokenLength();
+        long local = isoLocalEpochSecond(ctx, len);
+        if (local == UNSUPPORTED) return null;
+        int timeEnd = isoTimeEnd(ctx);
+        int fractionEnd = fractionEnd(ctx, timeEnd, len);
+        int offset = isoOffset(ctx, fractionEnd, len);
+        if (offset == NO_OFFSET) return null;
+        int nanos = fraction(ctx, timeEnd, fractionEnd);
+        return OffsetDateTime.of(LocalDateTime.ofEpochSecond(local, nanos, ZoneOffset.UTC), ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    /**
+     * @param ctx
+     * @return milliseconds since epoch or {@link #UNSUPPORTED}
+     */
+    public static long parseRfc1123Millis(ParserContext ctx) {
+        int len = ctx.tokenLength();
+        int zoneStart = rfcZoneStart(ctx, len);
+        if (zoneStart < 0) return UNSUPPORTED;
+        long local = rfcLocalEpochSecond(ctx, zoneStart);
+        if (local == UNSUPPORTED) return UNSUPPORTED;
+        int offset = rfcOffset(ctx, zoneStart, len);
+        if (offset == NO_OFFSET) return UNSUPPORTED;
+        return (local - offset) * 1000;
+    }
+
+    /**
+     * @param ctx
+     * @return parsed value or null if unsupported
+     */
+    public static OffsetDateTime parseRfc1123(ParserContext ctx) {
+        int len = ctx.tokenLength();
+        int zoneStart = rfcZoneStart(ctx, len);
+        if (zoneStart < 0) return null;
+        long local = rfcLocalEpochSecond(ctx, zoneStart);
+        if (local == UNSUPPORTED) return null;
+        int offset = rfcOffset(ctx, zoneStart, len);
+        if (offset == NO_OFFSET) return null;
+        return OffsetDateTime.of(LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC), ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic gregorian date
+     */
+    static long epochDay(int year, int month, int day) {
+        // shift the year to start in march so the leap day is last
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // value of count digits starting at index, -1 if any of them is not a digit
+    private static int digits(ParserContext ctx, int index, int count) {
+        int val = 0;
+        for (int i = 0; i < count; i++) {
+            int c = ctx.tokenCharAt(index + i) - '0';
+            if (c < 0 || c > 9) return -1;
+            val = val * 10 + c;
+        }
+        return val;
+    }
+
+    private static boolean isDigit(ParserContext ctx, int index) {
+        int c = ctx.tokenCharAt(index);
+        return c >= '0' && c <= '9';
+    }
+
+    private static long localEpochSecond(int year, int month, int day, int hour, int minute, int second) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return UNSUPPORTED;
+        }
+        return epochDay(year, month, day) * 86400 + hour * 3600 + minute * 60 + second;
+    }
+
+    private static long isoLocalEpochSecond(ParserContext ctx, int len) {
+        if (len < 17) return UNSUPPORTED;
+        int t = ctx.tokenCharAt(10);
+        if (ctx.tokenCharAt(4) != '-' || ctx.tokenCharAt(7) != '-' || (t != 'T' && t != 't') || ctx.tokenCharAt(13) != ':') {
+            return UNSUPPORTED;
+        }
+        int second = 0;
+        if (ctx.tokenCharAt(16) == ':') {
+            if (len < 20) return UNSUPPORTED;
+            second = digits(ctx, 17, 2);
+        }
+        return localEpochSecond(digits(ctx, 0, 4), digits(ctx, 5, 2), digits(ctx, 8, 2),
+                digits(ctx, 11, 2), digits(ctx, 14, 2), second);
+    }
+
+    private static int isoTimeEnd(ParserContext ctx) {
+        return ctx.tokenCharAt(16) == ':' ? 19 : 16;
+    }
+
+    private static int fractionEnd(ParserContext ctx, int start, int len) {
+        if (start >= len) return start;
+        int c = ctx.tokenCharAt(start);
+        if (c != '.' && c != ',') return start;
+        int p = start + 1;
+        while (p < len && p - start <= 9 && isDigit(ctx, p)) p++;
+        // a separator needs at least one digit
+        return p == start + 1 ? -1 : p;
+    }
+
+    // nanoseconds of the fraction between start (the separator) and end
+    private static int fraction(ParserContext ctx, int start, int end) {
+        int nanos = 0;
+        int scale = 100000000;
+        for (int i = start + 1; i < end; i++) {
+            nanos += (ctx.tokenCharAt(i) - '0') * scale;
+            scale /= 10;
+        }
+        return nanos;
+    }
+
+    private static int isoOffset(ParserContext ctx, int start, int len) {
+        if (start < 0 || start >= len) return NO_OFFSET;
+        int c = ctx.tokenCharAt(start);
+        if (c == 'Z' || c == 'z') return start + 1 == len ? 0 : NO_OFFSET;
+        return numericOffset(ctx, start, len, true);
+    }
+
+    // +hh[[:]mm[[:]ss]]
+    private static int numericOffset(ParserContext ctx, int start, int len, boolean colons) {
+        int sign = ctx.tokenCharAt(start);
+        if ((sign != '+' && sign != '-') || start + 3 > len) return NO_OFFSET;
+        int hours = digits(ctx, start + 1, 2);
+        int minutes = 0;
+        int seconds = 0;
+        int p = start + 3;
+        if (p < len) {
+            if (colons && ctx.tokenCharAt(p) == ':') p++;
+            if (p + 2 > len) return NO_OFFSET;
+            minutes = digits(ctx, p, 2);
+            p += 2;
+            if (p < len) {
+                if (colons && ctx.tokenCharAt(p) == ':') p++;
+                if (p + 2 != len) return NO_OFFSET;
+                seconds = digits(ctx, p, 2);
+                p += 2;
+            }
+        }
+        if (p != len || hours < 0 || hours > 18 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59) return NO_OFFSET;
+        int offset = hours * 3600 + minutes * 60 + seconds;
+        if (offset > 18 * 3600) return NO_OFFSET;
+        return sign == '-' ? -offset : offset;
+    }
+
+    // index of the zone, after the last space, -1 if there isn't one
+    private static int rfcZoneStart(ParserContext ctx, int len) {
+        for (int i = len - 1; i > 0; i--) {
+            if (ctx.tokenCharAt(i) == ' ') return i + 1 < len ? i + 1 : -1;
+        }
+        return -1;
+    }
+
+    private static boolean matches(ParserContext ctx, int index, String name) {
+        for (int i = 0; i < name.length(); i++) {
+            int c = ctx.tokenCharAt(index + i);
+            if (c != name.charAt(i) && Character.toLowerCase(c) != Character.toLowerCase(name.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static long rfcLocalEpochSecond(ParserContext ctx, int zoneStart) {
+        // layout without the zone is at least "d MMM yyyy HH:mm "
+        int end = zoneStart - 1;
+        int p = 0;
+        int dayOfWeek = -1;
+        if (end > 5 && ctx.tokenCharAt(3) == ',') {
+            for (int i = 0; i < DAYS.length; i++) {
+                if (matches(ctx, 0, DAYS[i])) {
+                    dayOfWeek = i;
+                    break;
+                }
+            }
+            if (dayOfWeek < 0 || ctx.tokenCharAt(4) != ' ') return UNSUPPORTED;
+            p = 5;
+        }
+        if (p + 16 > end) return UNSUPPORTED;
+        int day;
+        if (isDigit(ctx, p + 1)) {
+            day = digits(ctx, p, 2);
+            p += 2;
+        } else {
+            day = digits(ctx, p, 1);
+            p += 1;
+        }
+        if (p + 15 > end || ctx.tokenCharAt(p) != ' ') return UNSUPPORTED;
+        p++;
+        int month = -1;
+        for (int i = 0; i < MONTHS.length; i++) {
+            if (matches(ctx, p, MONTHS[i])) {
+                month = i + 1;
+                break;
+            }
+        }
+        p += 3;
+        if (month < 0 || ctx.tokenCharAt(p) != ' ' || ctx.tokenCharAt(p + 5) != ' ' || ctx.tokenCharAt(p + 8) != ':') return UNSUPPORTED;
+        int year = digits(ctx, p + 1, 4);
+        int hour = digits(ctx, p + 6, 2);
+        int minute = digits(ctx, p + 9, 2);
+        p += 11;
+        int second = 0;
+        if (p != end) {
+            if (p + 3 != end || ctx.tokenCharAt(p) != ':') return UNSUPPORTED;
+            second = digits(ctx, p + 1, 2);
+        }
+        long local = localEpochSecond(year, month, day, hour, minute, second);
+        if (local == UNSUPPORTED) return UNSUPPORTED;
+        if (dayOfWeek >= 0 && Math.floorMod(Math.floorDiv(local, 86400) + 3, 7) != dayOfWeek) return UNSUPPORTED;
+        return local;
+    }
+
+    private static int rfcOffset(ParserContext ctx, int start, int len) {
+        int size = len - start;
+        int c = ctx.tokenCharAt(start);
+        if (c == '+' || c == '-') return numericOffset(ctx, start, len, false);
+        if (size == 3) {
+            if (matches(ctx, start, "GMT") || matches(ctx, start, "UTC")) return 0;
+            if (matches(ctx, start, "EST")) return -5 * 3600;
+            if (matches(ctx, start, "EDT")) return -4 * 3600;
+            if (matches(ctx, start, "CST")) return -6 * 3600;
+            if (matches(ctx, start, "CDT")) return -5 * 3600;
+            if (matches(ctx, start, "MST")) return -7 * 3600;
+            if (matches(ctx, start, "MDT")) return -6 * 3600;
+            if (matches(ctx, start, "PST")) return -8 * 3600;
+            if (matches(ctx, start, "PDT")) return -7 * 3600;
+        } else if (size == 2) {
+            if (matches(ctx, start, "UT")) return 0;
+        } else if (size == 1) {
+            if (c == 'Z' || c == 'z') return 0;
+        }
+        return NO_OFFSET;
+    }
+}
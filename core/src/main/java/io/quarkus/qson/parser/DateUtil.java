@@ -4,6 +4,10 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 
 public class DateUtil {
+    /**
+     * SimpleDateFormat is not thread safe.  Only use these directly from a single thread or as a template
+     * for {@link #perThread(DateFormat)}
+     */
     public static final DateFormat ISO_8601_OFFSET_DATE_TIME;
     public static final DateFormat RFC_1123_DATE_TIME;
 
@@ -11,4 +15,15 @@ public class DateUtil {
         ISO_8601_OFFSET_DATE_TIME = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSX");
         RFC_1123_DATE_TIME = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz");
     }
+
+    /**
+     * Gives every thread its own copy of format
+     *
+     * @param format
+     * @return
+     */
+    public static ThreadLocal<DateFormat> perThread(DateFormat format) {
+        DateFormat template = (DateFormat) format.clone();
+        return ThreadLocal.withInitial(() -> (DateFormat) template.clone());
+    }
 }
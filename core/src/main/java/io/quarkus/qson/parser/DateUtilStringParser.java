@@ -1,26 +1,33 @@
 package io.quarkus.qson.parser;
 
+import io.quarkus.qson.QsonDate;
 import io.quarkus.qson.QsonException;
 
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Date;
 
+/**
+ * ISO 8601 and RFC 1123 are decoded straight from the token bytes by {@link DateTimeDecoder}.  Layouts it doesn't
+ * handle, and custom patterns, go through a per thread DateFormat.
+ */
 public class DateUtilStringParser extends ValueParser {
 
-    public static final DateUtilStringParser ISO_8601_OFFSET_DATE_TIME = new DateUtilStringParser(DateUtil.ISO_8601_OFFSET_DATE_TIME);
-    public static final DateUtilStringParser RFC_1123_DATE_TIME = new DateUtilStringParser(DateUtil.RFC_1123_DATE_TIME);
+    public static final DateUtilStringParser ISO_8601_OFFSET_DATE_TIME = new DateUtilStringParser(QsonDate.Format.ISO_8601_OFFSET_DATE_TIME, DateUtil.ISO_8601_OFFSET_DATE_TIME);
+    public static final DateUtilStringParser RFC_1123_DATE_TIME = new DateUtilStringParser(QsonDate.Format.RFC_1123_DATE_TIME, DateUtil.RFC_1123_DATE_TIME);
 
 
+    private final QsonDate.Format format;
+    private final ThreadLocal<DateFormat> formatter;
 
-    private final DateFormat formatter;
-
-    private DateUtilStringParser(DateFormat formatter) {
-        this.formatter = formatter;
+    private DateUtilStringParser(QsonDate.Format format, DateFormat formatter) {
+        this.format = format;
+        this.formatter = DateUtil.perThread(formatter);
     }
 
     public DateUtilStringParser(String pattern) {
-        formatter = new SimpleDateFormat(pattern);
+        this(QsonDate.Format.PATTERN, new SimpleDateFormat(pattern));
     }
 
     public boolean start(ParserContext ctx) {
@@ -37,9 +44,20 @@ public class DateUtilStringParser extends ValueParser {
 
     @Override
     public Object value(ParserContext ctx) {
+        if (ctx.isNullToken()) return ctx.popToken();
+        long millis = DateTimeDecoder.UNSUPPORTED;
+        if (format == QsonDate.Format.ISO_8601_OFFSET_DATE_TIME) {
+            millis = DateTimeDecoder.parseIso8601Millis(ctx);
+        } else if (format == QsonDate.Format.RFC_1123_DATE_TIME) {
+            millis = DateTimeDecoder.parseRfc1123Millis(ctx);
+        }
+        if (millis != DateTimeDecoder.UNSUPPORTED) {
+            ctx.clearToken();
+            return new Date(millis);
+        }
         String string = ctx.popToken();
         try {
-            return formatter.parse(string);
+            return formatter.get().parse(string);
         } catch (ParseException e) {
             throw new QsonException(e);
         }
@@ -0,0 +1,20 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.util.DoubleList;
+
+/**
+ * Parses a json array into a double[].  Values are collected in a {@link DoubleList} so no element is boxed.
+ */
+public class DoubleArrayParser extends DoubleListParser {
+    public static final DoubleArrayParser PARSER = new DoubleArrayParser();
+
+    public DoubleArrayParser() {
+    }
+
+    @Override
+    public void endList(ParserContext ctx) {
+        DoubleList list = ctx.popTarget();
+        double[] values = list.getBuffer();
+        ctx.pushTarget(list.size() == values.length ? values : list.toArray());
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.util.DoubleList;
+
+/**
+ * Parses a json array into a {@link DoubleList} so no element is boxed.
+ */
+public class DoubleListParser extends ObjectParser {
+    public static final DoubleListParser PARSER = new DoubleListParser();
+
+    public DoubleListParser() {
+    }
+
+    @Override
+    public boolean start(ParserContext ctx) {
+        return startList(ctx);
+    }
+
+    @Override
+    public boolean listValue(ParserContext ctx) {
+        return startNumberValue(ctx);
+    }
+
+    @Override
+    public void beginList(ParserContext ctx) {
+        ctx.pushTarget(new DoubleList());
+    }
+
+    @Override
+    public void addListValue(ParserContext ctx) {
+        DoubleList list = ctx.target();
+        list.add(ctx.popDoubleToken());
+    }
+}
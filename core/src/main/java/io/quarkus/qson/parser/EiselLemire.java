@@ -0,0 +1,148 @@
+package io.quarkus.qson.parser;
+
+import java.math.BigInteger;
+
+/**
+ * Eisel-Lemire conversion of a decimal w * 10^q into the closest binary64 or binary32 value.
+ * See Daniel Lemire, "Number Parsing at a Gigabyte per Second" and the fast_float library.
+ *
+ * Callers are responsible for the Clinger fast path and for falling back to the JDK when
+ * the significand was truncated or when this class reports it can't decide.
+ */
+final class EiselLemire {
+    /**
+     * Returned when the result can't be computed and the caller must fall back to a slow path
+     */
+    static final long FAIL = -1;
+
+    static final int SMALLEST_POWER_OF_FIVE = -342;
+    static final int LARGEST_POWER_OF_FIVE = 308;
+
+    private static final long MASK_32 = 0xFFFF_FFFFL;
+
+    /**
+     * 128 bit truncated approximations of 5^q normalized so that the most significant bit is set.
+     * High 64 bits at (q - SMALLEST_POWER_OF_FIVE) * 2, low bits at the next index.
+     */
+    private static final long[] POWER_OF_FIVE_128;
+
+    static {
+        POWER_OF_FIVE_128 = new long[(LARGEST_POWER_OF_FIVE - SMALLEST_POWER_OF_FIVE + 1) << 1];
+        BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+        BigInteger two127 = BigInteger.ONE.shiftLeft(127);
+        BigInteger five = BigInteger.valueOf(5);
+        for (int q = SMALLEST_POWER_OF_FIVE; q <= LARGEST_POWER_OF_FIVE; q++) {
+            BigInteger c;
+            if (q < 0) {
+                BigInteger power5 = five.pow(-q);
+                int z = power5.subtract(BigInteger.ONE).bitLength();  // smallest z with 2^z >= power5
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                c = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+                while (c.compareTo(two128) >= 0) c = c.shiftRight(1);
+            } else {
+                c = five.pow(q);
+                while (c.compareTo(two127) < 0) c = c.shiftLeft(1);
+                while (c.compareTo(two128) >= 0) c = c.shiftRight(1);
+            }
+            int idx = (q - SMALLEST_POWER_OF_FIVE) << 1;
+            POWER_OF_FIVE_128[idx] = c.shiftRight(64).longValue();
+            POWER_OF_FIVE_128[idx + 1] = c.longValue();
+        }
+    }
+
+    private EiselLemire() {
+    }
+
+    /**
+     * @param q decimal exponent
+     * @param w decimal significand, not truncated, non zero
+     * @return raw bits of the double (without sign) or FAIL
+     */
+    static long toDoubleBits(int q, long w) {
+        return compute(q, w, 52, -1023, 0x7FF, -342, 308, -4, 23);
+    }
+
+    /**
+     * @param q decimal exponent
+     * @param w decimal significand, not truncated, non zero
+     * @return raw bits of the float (without sign) or FAIL
+     */
+    static long toFloatBits(int q, long w) {
+        return compute(q, w, 23, -127, 0xFF, -65, 38, -17, 10);
+    }
+
+    private static long compute(int q, long w, int mantissaExplicitBits, int minimumExponent, int infinitePower,
+                                int smallestPowerOfTen, int largestPowerOfTen,
+                                int minExponentRoundToEven, int maxExponentRoundToEven) {
+        if (q < smallestPowerOfTen) return 0;
+        if (q > largestPowerOfTen) return (long) infinitePower << mantissaExplicitBits;
+
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+
+        // 128 bit product of w and the truncated power of five, only as precise as needed
+        int idx = (q - SMALLEST_POWER_OF_FIVE) << 1;
+        long hi = unsignedMultiplyHigh(w, POWER_OF_FIVE_128[idx]);
+        long lo = w * POWER_OF_FIVE_128[idx];
+        long precisionMask = 0xFFFF_FFFF_FFFF_FFFFL >>> (mantissaExplicitBits + 3);
+        if ((hi & precisionMask) == precisionMask) {
+            long secondHi = unsignedMultiplyHigh(w, POWER_OF_FIVE_128[idx + 1]);
+            long newLo = lo + secondHi;
+            if (Long.compareUnsigned(secondHi, newLo) > 0) hi++;
+            lo = newLo;
+        }
+        if (lo == 0xFFFF_FFFF_FFFF_FFFFL && (q < -27 || q > 55)) {
+            // product could be off by one, let the slow path decide
+            return FAIL;
+        }
+
+        int upperbit = (int) (hi >>> 63);
+        int shift = upperbit + 64 - mantissaExplicitBits - 3;
+        long mantissa = hi >>> shift;
+        int power2 = ((((152170 + 65536) * q) >> 16) + 63) + upperbit - lz - minimumExponent;
+
+        if (power2 <= 0) {
+            // subnormal
+            if (-power2 + 1 >= 64) return 0;
+            mantissa >>>= -power2 + 1;
+            mantissa += (mantissa & 1);
+            mantissa >>>= 1;
+            power2 = (mantissa < (1L << mantissaExplicitBits)) ? 0 : 1;
+            return ((long) power2 << mantissaExplicitBits) | (mantissa & ((1L << mantissaExplicitBits) - 1));
+        }
+
+        // exactly half way between two floats, round to even
+        if (Long.compareUnsigned(lo, 1) <= 0 && q >= minExponentRoundToEven && q <= maxExponentRoundToEven
+                && (mantissa & 3) == 1) {
+            if ((mantissa << shift) == hi) {
+                mantissa &= ~1L;
+            }
+        }
+
+        mantissa += (mantissa & 1);
+        mantissa >>>= 1;
+        if (mantissa >= (2L << mantissaExplicitBits)) {
+            mantissa = 1L << mantissaExplicitBits;
+            power2++;
+        }
+        mantissa &= ~(1L << mantissaExplicitBits);
+        if (power2 >= infinitePower) {
+            return (long) infinitePower << mantissaExplicitBits;
+        }
+        return ((long) power2 << mantissaExplicitBits) | mantissa;
+    }
+
+    /**
+     * High 64 bits of the unsigned 128 bit product.  Math.unsignedMultiplyHigh() isn't available on Java 8
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+        long x1 = x >>> 32;
+        long x0 = x & MASK_32;
+        long y1 = y >>> 32;
+        long y0 = y & MASK_32;
+        long w0 = x0 * y0;
+        long t = x1 * y0 + (w0 >>> 32);
+        long w1 = (t & MASK_32) + x0 * y1;
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.qson.parser;
+
+import java.util.Arrays;
+
+/**
+ * Parses a json array into a float[].  Values are collected in a growable float[] so no element is boxed.
+ */
+public class FloatArrayParser extends ObjectParser {
+    public static final FloatArrayParser PARSER = new FloatArrayParser();
+
+    static class Buffer {
+        float[] values = new float[16];
+        int size;
+    }
+
+    public FloatArrayParser() {
+    }
+
+    @Override
+    public boolean start(ParserContext ctx) {
+        return startList(ctx);
+    }
+
+    @Override
+    public boolean listValue(ParserContext ctx) {
+        return startNumberValue(ctx);
+    }
+
+    @Override
+    public void beginList(ParserContext ctx) {
+        ctx.pushTarget(new Buffer());
+    }
+
+    @Override
+    public void addListValue(ParserContext ctx) {
+        Buffer buffer = ctx.target();
+        if (buffer.size == buffer.values.length) buffer.values = Arrays.copyOf(buffer.values, buffer.size << 1);
+        buffer.values[buffer.size++] = ctx.popFloatToken();
+    }
+
+    @Override
+    public void endList(ParserContext ctx) {
+        Buffer buffer = ctx.popTarget();
+        ctx.pushTarget(buffer.size == buffer.values.length ? buffer.values : Arrays.copyOf(buffer.values, buffer.size));
+    }
+}
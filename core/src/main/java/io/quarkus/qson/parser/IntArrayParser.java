@@ -0,0 +1,20 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.util.IntList;
+
+/**
+ * Parses a json array into a int[].  Values are collected in a {@link IntList} so no element is boxed.
+ */
+public class IntArrayParser extends IntListParser {
+    public static final IntArrayParser PARSER = new IntArrayParser();
+
+    public IntArrayParser() {
+    }
+
+    @Override
+    public void endList(ParserContext ctx) {
+        IntList list = ctx.popTarget();
+        int[] values = list.getBuffer();
+        ctx.pushTarget(list.size() == values.length ? values : list.toArray());
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.util.IntList;
+
+/**
+ * Parses a json array into a {@link IntList} so no element is boxed.
+ */
+public class IntListParser extends ObjectParser {
+    public static final IntListParser PARSER = new IntListParser();
+
+    public IntListParser() {
+    }
+
+    @Override
+    public boolean start(ParserContext ctx) {
+        return startList(ctx);
+    }
+
+    @Override
+    public boolean listValue(ParserContext ctx) {
+        return startIntegerValue(ctx);
+    }
+
+    @Override
+    public void beginList(ParserContext ctx) {
+        ctx.pushTarget(new IntList());
+    }
+
+    @Override
+    public void addListValue(ParserContext ctx) {
+        IntList list = ctx.target();
+        list.add(ctx.popIntToken());
+    }
+}
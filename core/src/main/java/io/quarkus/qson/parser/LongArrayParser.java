@@ -0,0 +1,20 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.util.LongList;
+
+/**
+ * Parses a json array into a long[].  Values are collected in a {@link LongList} so no element is boxed.
+ */
+public class LongArrayParser extends LongListParser {
+    public static final LongArrayParser PARSER = new LongArrayParser();
+
+    public LongArrayParser() {
+    }
+
+    @Override
+    public void endList(ParserContext ctx) {
+        LongList list = ctx.popTarget();
+        long[] values = list.getBuffer();
+        ctx.pushTarget(list.size() == values.length ? values : list.toArray());
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.util.LongList;
+
+/**
+ * Parses a json array into a {@link LongList} so no element is boxed.
+ */
+public class LongListParser extends ObjectParser {
+    public static final LongListParser PARSER = new LongListParser();
+
+    public LongListParser() {
+    }
+
+    @Override
+    public boolean start(ParserContext ctx) {
+        return startList(ctx);
+    }
+
+    @Override
+    public boolean listValue(ParserContext ctx) {
+        return startIntegerValue(ctx);
+    }
+
+    @Override
+    public void beginList(ParserContext ctx) {
+        ctx.pushTarget(new LongList());
+    }
+
+    @Override
+    public void addListValue(ParserContext ctx) {
+        LongList list = ctx.target();
+        list.add(ctx.popLongToken());
+    }
+}
@@ -0,0 +1,240 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.QsonException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+import static io.quarkus.qson.util.IntChar.*;
+
+/**
+ * Reads newline delimited json (NDJSON, JSON Lines).  Each line is a complete json document that
+ * is parsed with the same parser.  A single {@link ByteArrayParserContext} is reset and reused for every line.
+ *
+ * Input can be pushed in arbitrary chunks with {@link #parse(byte[], int, int, Consumer)}.  Documents may span
+ * chunks.  Blank lines are ignored.  Raw newlines can't appear inside a json document, so lines are split
+ * on '\n' before the parser sees them.
+ *
+ * Not thread safe.  {@link #readParallel(QsonParser, byte[], ForkJoinPool)} splits a fully buffered
+ * input into line aligned chunks that are parsed by separate readers.
+ *
+ * @param <T>
+ */
+public class NdjsonReader<T> {
+    /**
+     * Fully buffered input smaller than this is not split any further by readParallel()
+     */
+    public static final int PARALLEL_CHUNK_SIZE = 64 * 1024;
+
+    protected final QsonParser parser;
+    protected final ByteArrayParserContext ctx;
+    protected final byte[] buffer;
+    // a non whitespace byte has been passed to the context for the current line
+    protected boolean started;
+    // the context has finished the document on the current line
+    protected boolean complete;
+    protected long line = 1;
+
+    public NdjsonReader(QsonParser parser) {
+        this(parser, 8192);
+    }
+
+    /**
+     * @param parser
+     * @param bufferSize size of the buffer used by {@link #read(InputStream, Consumer)}
+     */
+    public NdjsonReader(QsonParser parser, int bufferSize) {
+        this(parser, bufferSize, 1);
+    }
+
+    /**
+     * @param parser
+     * @param bufferSize size of the buffer used by {@link #read(InputStream, Consumer)}
+     * @param firstLine line number of the first line of input, used in error messages
+     */
+    public NdjsonReader(QsonParser parser, int bufferSize, long firstLine) {
+        this.parser = parser;
+        this.ctx = new ByteArrayParserContext(parser);
+        this.buffer = new byte[bufferSize];
+        this.line = firstLine;
+    }
+
+    /**
+     * Push a chunk of input.  consumer is called for every line completed by this chunk.
+     *
+     * @param bytes
+     * @param offset
+     * @param length
+     * @param consumer
+     */
+    public void parse(byte[] bytes, int offset, int length, Consumer<T> consumer) {
+        int end = offset + length;
+        int start = offset;
+        for (int i = offset; i < end; i++) {
+            if (bytes[i] == INT_LF) {
+                segment(bytes, start, i);
+                endLine(consumer);
+                start = i + 1;
+            }
+        }
+        if (start < end) segment(bytes, start, end);
+    }
+
+    /**
+     * Call when input is exhausted to flush a last line that has no trailing newline.
+     *
+     * @param consumer
+     */
+    public void finish(Consumer<T> consumer) {
+        endLine(consumer);
+    }
+
+    /**
+     * Read every line of the stream.  Does not close the stream.
+     *
+     * @param is
+     * @param consumer
+     * @throws IOException
+     */
+    public void read(InputStream is, Consumer<T> consumer) throws IOException {
+        int read;
+        while ((read = is.read(buffer)) >= 0) {
+            parse(buffer, 0, read, consumer);
+        }
+        finish(consumer);
+    }
+
+    /**
+     * Read every line of fully buffered input
+     *
+     * @param bytes
+     * @param consumer
+     */
+    public void read(byte[] bytes, Consumer<T> consumer) {
+        parse(bytes, 0, bytes.length, consumer);
+        finish(consumer);
+    }
+
+    private void segment(byte[] bytes, int start, int end) {
+        if (!complete) {
+            if (!started) {
+                while (start < end && isWhitespace(bytes[start])) start++;
+                if (start == end) return;
+                started = true;
+            }
+            try {
+                complete = ctx.parse(bytes, start, end - start);
+            } catch (QsonException e) {
+                throw new QsonException("Invalid json document on line " + line, e);
+            }
+            if (!complete) return;
+            // the context stops reading at the end of the document
+            start = Math.max(start, ctx.ptr);
+        }
+        for (int i = start; i < end; i++) {
+            if (!isWhitespace(bytes[i])) throw new QsonException("Extra bytes after json document on line " + line);
+        }
+    }
+
+    private void endLine(Consumer<T> consumer) {
+        if (started) {
+            T value;
+            try {
+                value = ctx.finish();
+            } catch (QsonException e) {
+                throw new QsonException("Invalid json document on line " + line, e);
+            }
+            ctx.reset(parser);
+            started = false;
+            complete = false;
+            consumer.accept(value);
+        }
+        line++;
+    }
+
+    /**
+     * Parse fully buffered input on the common fork join pool.  Results are in line order.
+     *
+     * @param parser
+     * @param bytes
+     * @param <T>
+     * @return
+     */
+    public static <T> List<T> readParallel(QsonParser parser, byte[] bytes) {
+        return readParallel(parser, bytes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parse fully buffered input in parallel.  The input is split in half at a newline until chunks are smaller
+     * than {@link #PARALLEL_CHUNK_SIZE}.  Each chunk is parsed with its own reader.  Results are in line order.
+     * Error messages have line numbers within the whole input.
+     *
+     * @param parser
+     * @param bytes
+     * @param pool
+     * @param <T>
+     * @return
+     */
+    public static <T> List<T> readParallel(QsonParser parser, byte[] bytes, ForkJoinPool pool) {
+        return pool.invoke(new ChunkTask<T>(parser, bytes, 0, bytes.length));
+    }
+
+    static class ChunkTask<T> extends RecursiveTask<List<T>> {
+        private static final long serialVersionUID = 1L;
+
+        final QsonParser parser;
+        final byte[] bytes;
+        final int start;
+        final int end;
+
+        ChunkTask(QsonParser parser, byte[] bytes, int start, int end) {
+            this.parser = parser;
+            this.bytes = bytes;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (end - start > PARALLEL_CHUNK_SIZE) {
+                int split = start + ((end - start) >>> 1);
+                while (split < end && bytes[split] != INT_LF) split++;
+                if (split < end) {
+                    ChunkTask<T> left = new ChunkTask<>(parser, bytes, start, split + 1);
+                    ChunkTask<T> right = new ChunkTask<>(parser, bytes, split + 1, end);
+                    left.fork();
+                    List<T> rightResult = right.compute();
+                    List<T> result = left.join();
+                    result.addAll(rightResult);
+                    return result;
+                }
+            }
+            try {
+                return parse(1);
+            } catch (QsonException e) {
+                if (start == 0) throw e;
+                // lines before the chunk are only counted on failure.  The chunk is parsed again
+                // so that the error has the line number within the whole input.
+                long line = 1;
+                for (int i = 0; i < start; i++) {
+                    if (bytes[i] == INT_LF) line++;
+                }
+                parse(line);
+                throw e;
+            }
+        }
+
+        private List<T> parse(long firstLine) {
+            List<T> result = new ArrayList<>();
+            NdjsonReader<T> reader = new NdjsonReader<>(parser, 0, firstLine);
+            reader.parse(bytes, start, end - start, result::add);
+            reader.finish(result::add);
+            return result;
+        }
+    }
+}
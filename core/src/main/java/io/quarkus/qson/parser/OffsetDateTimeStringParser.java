@@ -3,6 +3,10 @@ package io.quarkus.qson.parser;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * ISO 8601 and RFC 1123 are decoded straight from the token bytes by {@link DateTimeDecoder}.  Layouts it doesn't
+ * handle, and custom patterns, go through the DateTimeFormatter.
+ */
 public class OffsetDateTimeStringParser extends AbstractStringDateTimeParser {
 
     public static final OffsetDateTimeStringParser ISO_8601_OFFSET_DATE_TIME = new OffsetDateTimeStringParser(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
@@ -19,6 +23,17 @@ public class OffsetDateTimeStringParser extends AbstractStringDateTimeParser {
 
     @Override
     public Object value(ParserContext ctx) {
+        if (ctx.isNullToken()) return ctx.popToken();
+        OffsetDateTime val = null;
+        if (formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+            val = DateTimeDecoder.parseIso8601(ctx);
+        } else if (formatter == DateTimeFormatter.RFC_1123_DATE_TIME) {
+            val = DateTimeDecoder.parseRfc1123(ctx);
+        }
+        if (val != null) {
+            ctx.clearToken();
+            return val;
+        }
         String string = ctx.popToken();
         return OffsetDateTime.parse(string, formatter);
     }
@@ -2,10 +2,32 @@ package io.quarkus.qson.parser;
 
 import io.quarkus.qson.QsonException;
 
+import java.nio.charset.StandardCharsets;
+
 import static io.quarkus.qson.util.IntChar.*;
 
 public class ParsePrimitives {
 
+    /**
+     * Hash of raw token bytes used by generated parsers to dispatch on property names.
+     * Generators compute the same value from the UTF-8 bytes of a name with {@link #hash(byte[], int, int)}
+     *
+     * @param hash running hash, start with 0
+     * @param b unsigned byte
+     * @return
+     */
+    public static int hash(int hash, int b) {
+        return 31 * hash + b;
+    }
+
+    public static int hash(byte[] buffer, int tokenStart, int tokenEnd) {
+        int h = 0;
+        for (int i = tokenStart; i < tokenEnd; i++) {
+            h = hash(h, buffer[i] & 0xFF);
+        }
+        return h;
+    }
+
     public static String readString(byte[] buffer, int tokenStart, int tokenEnd) {
         char[] charbuf = new char[tokenEnd - tokenStart];
         int count = 0;
@@ -200,5 +222,134 @@ public class ParsePrimitives {
         }
     }
 
+    private static final double[] DOUBLE_POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POW10 = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private static final int MAX_DIGITS = 19;
+    private static final long FAIL = -1;
 
+    /**
+     * Parse a json number into raw double bits, or float bits if single is true.
+     * Returns FAIL if the number has more than 19 significant digits, isn't a plain json number, or
+     * Eisel-Lemire can't decide so that the caller can fall back to the JDK.
+     */
+    private static long readDecimalBits(byte[] buffer, int tokenStart, int tokenEnd, boolean single) {
+        int i = tokenStart;
+        boolean negative = false;
+        if (i < tokenEnd && buffer[i] == '-') {
+            negative = true;
+            i++;
+        }
+        // up to 19 digits, may overflow into the sign bit, so treat as unsigned
+        long significand = 0;
+        int digits = 0;
+        int exponent = 0;
+        int start = i;
+        int c;
+        for (; i < tokenEnd; i++) {
+            c = buffer[i] - '0';
+            if (c < 0 || c > 9) break;
+            if (digits == 0 && c == 0) continue;
+            if (digits == MAX_DIGITS) return FAIL;
+            significand = significand * 10 + c;
+            digits++;
+        }
+        if (i == start) return FAIL;
+        if (i < tokenEnd && buffer[i] == '.') {
+            int fractionStart = ++i;
+            for (; i < tokenEnd; i++) {
+                c = buffer[i] - '0';
+                if (c < 0 || c > 9) break;
+                exponent--;
+                if (digits == 0 && c == 0) continue;
+                if (digits == MAX_DIGITS) return FAIL;
+                significand = significand * 10 + c;
+                digits++;
+            }
+            if (i == fractionStart) return FAIL;
+        }
+        if (i < tokenEnd && (buffer[i] == 'e' || buffer[i] == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < tokenEnd && (buffer[i] == '-' || buffer[i] == '+')) {
+                negativeExp = buffer[i] == '-';
+                i++;
+            }
+            int expStart = i;
+            int exp = 0;
+            for (; i < tokenEnd; i++) {
+                c = buffer[i] - '0';
+                if (c < 0 || c > 9) break;
+                if (exp < 100000) exp = exp * 10 + c;
+            }
+            if (i == expStart) return FAIL;
+            exponent += negativeExp ? -exp : exp;
+        }
+        if (i != tokenEnd) return FAIL;
+
+        if (single) {
+            float f;
+            if (significand == 0) {
+                f = 0.0f;
+            } else if (exponent >= -10 && exponent <= 10 && significand >= 0 && significand <= (1L << 24)) {
+                // Clinger fast path, both operands are exact
+                f = (float) significand;
+                f = exponent < 0 ? f / FLOAT_POW10[-exponent] : f * FLOAT_POW10[exponent];
+            } else {
+                long bits = EiselLemire.toFloatBits(exponent, significand);
+                if (bits == EiselLemire.FAIL) return FAIL;
+                f = Float.intBitsToFloat((int) bits);
+            }
+            return Float.floatToRawIntBits(negative ? -f : f) & 0xFFFF_FFFFL;
+        } else {
+            double d;
+            if (significand == 0) {
+                d = 0.0;
+            } else if (exponent >= -22 && exponent <= 22 && significand >= 0 && significand <= (1L << 53)) {
+                // Clinger fast path, both operands are exact
+                d = (double) significand;
+                d = exponent < 0 ? d / DOUBLE_POW10[-exponent] : d * DOUBLE_POW10[exponent];
+            } else {
+                long bits = EiselLemire.toDoubleBits(exponent, significand);
+                if (bits == EiselLemire.FAIL) return FAIL;
+                d = Double.longBitsToDouble(bits);
+            }
+            return Double.doubleToRawLongBits(negative ? -d : d);
+        }
+    }
+
+    /**
+     * Parse a json number into a double without creating intermediate objects.
+     * Uses the Clinger fast path, then Eisel-Lemire, then falls back to Double.parseDouble().
+     *
+     * @param buffer
+     * @param tokenStart
+     * @param tokenEnd
+     * @return
+     */
+    public static double readDouble(byte[] buffer, int tokenStart, int tokenEnd) {
+        long bits = readDecimalBits(buffer, tokenStart, tokenEnd, false);
+        if (bits != FAIL) return Double.longBitsToDouble(bits);
+        return Double.parseDouble(new String(buffer, tokenStart, tokenEnd - tokenStart, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Parse a json number into a float without creating intermediate objects.
+     * Uses the Clinger fast path, then Eisel-Lemire, then falls back to Float.parseFloat().
+     *
+     * @param buffer
+     * @param tokenStart
+     * @param tokenEnd
+     * @return
+     */
+    public static float readFloat(byte[] buffer, int tokenStart, int tokenEnd) {
+        long bits = readDecimalBits(buffer, tokenStart, tokenEnd, true);
+        if (bits != FAIL) return Float.intBitsToFloat((int) bits);
+        return Float.parseFloat(new String(buffer, tokenStart, tokenEnd - tokenStart, StandardCharsets.ISO_8859_1));
+    }
 }
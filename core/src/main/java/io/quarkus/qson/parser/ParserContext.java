@@ -29,6 +29,13 @@ public interface ParserContext {
 
     void endNullToken();
 
+    /**
+     * Whether the current value is a json null.  Cleared by popToken()
+     *
+     * @return
+     */
+    boolean isNullToken();
+
     int skipWhitespace();
 
     int skipToQuote();
@@ -37,12 +44,59 @@ public interface ParserContext {
 
     int skipAlphabetic();
 
+    /**
+     * Skip over the next json value without materializing it.  Strings, numbers, literals and nested
+     * objects and arrays are scanned byte by byte without pushing any parser state.
+     * If the buffer runs out the position within the value is remembered and the next call continues from there.
+     *
+     * @return true if the whole value was skipped, false if more bytes are needed
+     */
+    boolean skipValue();
+
     int tokenCharAt(int index);
 
+    /**
+     * Number of raw bytes in the current token.  Escape sequences are not decoded.
+     *
+     * @return
+     */
+    int tokenLength();
+
     boolean compareToken(int index, String str);
 
+    /**
+     * Hash of the raw bytes of the current token.  See {@link ParsePrimitives#hash(byte[], int, int)}
+     *
+     * @return
+     */
+    int tokenHash();
+
+    /**
+     * Compare raw bytes of the current token.  Token is cleared if they are equal.
+     *
+     * @param bytes
+     * @return
+     */
+    boolean compareToken(byte[] bytes);
+
     String popToken();
 
+    /**
+     * Like popToken() but repeated values are deduplicated through the cache.  See {@link StringCache}
+     *
+     * @param cache
+     * @return null if the token is a json null
+     */
+    String popToken(StringCache cache);
+
+    /**
+     * Decode the current string token as Base64 without creating an intermediate String.
+     * See {@link Base64Decoder}
+     *
+     * @return null if the token is a json null
+     */
+    byte[] popBase64Token();
+
     boolean popBooleanToken();
 
     Boolean popBooleanObjectToken();
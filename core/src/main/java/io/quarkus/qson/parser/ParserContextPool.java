@@ -0,0 +1,72 @@
+package io.quarkus.qson.parser;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded pool of reusable {@link ByteArrayParserContext} instances.
+ *
+ * Contexts are not tied to a thread, so the pool is safe to share between platform and virtual threads.
+ * If the pool is empty, a new context is allocated.  If the pool is full on release, the context is dropped.
+ */
+public class ParserContextPool {
+    private final AtomicReferenceArray<ByteArrayParserContext> pool;
+    private final int maxRetainedCapacity;
+
+    public ParserContextPool() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public ParserContextPool(int size) {
+        this(size, ByteArrayParserContext.DEFAULT_MAX_RETAINED_CAPACITY);
+    }
+
+    /**
+     *
+     * @param size maximum number of pooled contexts
+     * @param maxRetainedCapacity token and read buffers larger than this are dropped on release
+     */
+    public ParserContextPool(int size, int maxRetainedCapacity) {
+        if (size < 1) throw new IllegalArgumentException("Pool size must be at least 1");
+        pool = new AtomicReferenceArray<>(size);
+        this.maxRetainedCapacity = maxRetainedCapacity;
+    }
+
+    /**
+     * Obtain a context that has been reset for the given parser.
+     *
+     * @param parser
+     * @return
+     */
+    public ByteArrayParserContext acquire(QsonParser parser) {
+        int size = pool.length();
+        int start = (int) (Thread.currentThread().getId() % size);
+        for (int i = 0; i < size; i++) {
+            int idx = (start + i) % size;
+            ByteArrayParserContext ctx = pool.get(idx);
+            if (ctx != null && pool.compareAndSet(idx, ctx, null)) {
+                ctx.reset(parser);
+                return ctx;
+            }
+        }
+        ByteArrayParserContext ctx = new ByteArrayParserContext(parser);
+        ctx.setMaxRetainedCapacity(maxRetainedCapacity);
+        return ctx;
+    }
+
+    /**
+     * Give a context back to the pool.  The context must not be used after it is released.
+     *
+     * @param ctx
+     */
+    public void release(ByteArrayParserContext ctx) {
+        ctx.clear();
+        int size = pool.length();
+        int start = (int) (Thread.currentThread().getId() % size);
+        for (int i = 0; i < size; i++) {
+            int idx = (start + i) % size;
+            if (pool.get(idx) == null && pool.compareAndSet(idx, null, ctx)) {
+                return;
+            }
+        }
+    }
+}
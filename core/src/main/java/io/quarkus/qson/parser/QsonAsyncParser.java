@@ -0,0 +1,102 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.QsonException;
+
+import java.nio.ByteBuffer;
+
+import static io.quarkus.qson.util.IntChar.*;
+
+/**
+ * Non-blocking push parser for a single json value.  Chunks are pushed as they arrive, i.e. from
+ * an event loop, and nothing is buffered other than a token that is split across chunks.
+ *
+ * parse() returns true as soon as the value is complete.  Whitespace that arrives after that is ignored,
+ * anything else is an error.  Call {@link #finish()} once input is exhausted to obtain the value.  A top level
+ * number can only be completed by finish() as there is no way to know that more digits won't arrive.
+ *
+ * Not thread safe.  Chunks must be pushed in order.
+ *
+ * @param <T>
+ */
+public class QsonAsyncParser<T> {
+    protected final ByteBufferParserContext ctx;
+    protected boolean started;
+    protected boolean complete;
+
+    public QsonAsyncParser(QsonParser parser) {
+        this.ctx = new ByteBufferParserContext(parser);
+    }
+
+    /**
+     * Push a chunk.  The buffer's position is not modified and it is not referenced after this call returns.
+     *
+     * @param buffer
+     * @return true if the value is complete
+     */
+    public boolean parse(ByteBuffer buffer) {
+        if (buffer == null || !buffer.hasRemaining()) return complete;
+        if (complete) {
+            checkTrailing(buffer, buffer.position());
+            return true;
+        }
+        started = true;
+        complete = ctx.parse(buffer);
+        // the context stops reading at the end of the value
+        if (complete) checkTrailing(buffer, ctx.ptr);
+        return complete;
+    }
+
+    /**
+     * Push a composite chunk, i.e. the nio buffers of a Netty ByteBuf
+     *
+     * @param buffers
+     * @return true if the value is complete
+     */
+    public boolean parse(ByteBuffer[] buffers) {
+        for (ByteBuffer buffer : buffers) {
+            parse(buffer);
+        }
+        return complete;
+    }
+
+    /**
+     * Push a chunk of a byte array.  The array is not referenced after this call returns.
+     *
+     * @param bytes
+     * @param offset
+     * @param length
+     * @return true if the value is complete
+     */
+    public boolean parse(byte[] bytes, int offset, int length) {
+        return parse(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    /**
+     * Whether the value has been completely read
+     *
+     * @return
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Call once input is exhausted.
+     *
+     * @return parsed value or null if no input was pushed
+     * @throws QsonException if input ended before the value was complete
+     */
+    public T finish() {
+        if (!started) return null;
+        complete = true;
+        return ctx.finish();
+    }
+
+    private static void checkTrailing(ByteBuffer buffer, int from) {
+        for (int i = from; i < buffer.limit(); i++) {
+            if (!isWhitespace(buffer.get(i))) {
+                throw new QsonException("Extra bytes after json value");
+            }
+        }
+    }
+}
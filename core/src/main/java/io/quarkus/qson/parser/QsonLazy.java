@@ -0,0 +1,136 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.QsonException;
+
+import static io.quarkus.qson.util.IntChar.*;
+
+/**
+ * Backing document of a lazy view created by {@link QsonLazyParser}.
+ *
+ * Holds the original buffer and the location of each known top level property value.  Locations
+ * are found with a single pass over a {@link StructuralIndex}.  Values are only parsed when
+ * {@link #value(int)} is called.  Unknown properties and nested values are never looked at beyond
+ * the index scan.
+ */
+public class QsonLazy {
+    protected final byte[] buffer;
+    protected final QsonParser[] parsers;
+    protected final int[] valueStart;
+    protected final int[] valueEnd;
+
+    /**
+     * @param buffer
+     * @param offset
+     * @param length
+     * @param keys raw utf-8 json names of the properties
+     * @param parsers parser for each property value
+     */
+    public QsonLazy(byte[] buffer, int offset, int length, byte[][] keys, QsonParser[] parsers) {
+        this.buffer = buffer;
+        this.parsers = parsers;
+        this.valueStart = new int[keys.length];
+        this.valueEnd = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) valueStart[i] = -1;
+        scan(new StructuralIndex().build(buffer, offset, offset + length), keys);
+    }
+
+    private void scan(StructuralIndex index, byte[][] keys) {
+        final int[] positions = index.positions;
+        final int size = index.size;
+        if (size == 0 || buffer[positions[0]] != INT_LCURLY) throw new QsonException("Expecting start of json object");
+        int i = 1;
+        boolean comma = false;
+        while (i < size) {
+            int p = positions[i];
+            int c = buffer[p];
+            if (c == INT_RCURLY && !comma) {
+                return;
+            }
+            if (c != INT_QUOTE || i + 2 >= size) throw new QsonException("Expecting property name at " + p);
+            int keyStart = p + 1;
+            int keyEnd = positions[i + 1];
+            if (buffer[positions[i + 2]] != INT_COLON) throw new QsonException("Expecting ':' at " + positions[i + 2]);
+            int start = positions[i + 2] + 1;
+            i += 3;
+
+            // find the ',' or '}' that ends the value
+            int depth = 0;
+            int end = -1;
+            while (i < size) {
+                p = positions[i];
+                c = buffer[p];
+                if (c == INT_QUOTE) {
+                    i += 2;
+                    continue;
+                }
+                if (c == INT_LCURLY || c == INT_LBRACKET) {
+                    depth++;
+                } else if (c == INT_RCURLY || c == INT_RBRACKET) {
+                    if (depth == 0) {
+                        end = p;
+                        break;
+                    }
+                    depth--;
+                } else if (c == INT_COMMA && depth == 0) {
+                    end = p;
+                    i++;
+                    break;
+                }
+                i++;
+            }
+            if (end < 0) break;
+            comma = buffer[end] == INT_COMMA;
+            int first = start;
+            while (first < end && isWhitespace(buffer[first])) first++;
+            if (first == end) throw new QsonException("Expecting value at " + start);
+            int property = find(keys, keyStart, keyEnd);
+            if (property >= 0) {
+                valueStart[property] = start;
+                valueEnd[property] = end;
+            }
+        }
+        throw new QsonException("Parser incomplete.  EOF reached.");
+    }
+
+    private int find(byte[][] keys, int start, int end) {
+        int len = end - start;
+        for (int k = 0; k < keys.length; k++) {
+            byte[] key = keys[k];
+            if (key.length != len) continue;
+            int j = 0;
+            while (j < len && buffer[start + j] == key[j]) j++;
+            if (j == len) return k;
+        }
+        return -1;
+    }
+
+    /**
+     * Whether the document has a value for the property
+     *
+     * @param property
+     * @return
+     */
+    public boolean has(int property) {
+        return valueStart[property] >= 0;
+    }
+
+    /**
+     * Parse the value of a property.  Not cached, views remember values themselves.
+     *
+     * @param property
+     * @return null if the property is missing or its value is null
+     */
+    public Object value(int property) {
+        int start = valueStart[property];
+        if (start < 0) return null;
+        int end = valueEnd[property];
+        while (start < end && isWhitespace(buffer[start])) start++;
+        while (end > start && isWhitespace(buffer[end - 1])) end--;
+        if (end - start == 4 && buffer[start] == 'n' && buffer[start + 1] == 'u'
+                && buffer[start + 2] == 'l' && buffer[start + 3] == 'l') {
+            return null;
+        }
+        ByteArrayParserContext ctx = new ByteArrayParserContext(parsers[property]);
+        return ctx.finish(buffer, start, end - start);
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.util.IntChar;
+import io.quarkus.qson.writer.JsonByteWriter;
+
+import java.util.function.Function;
+
+/**
+ * Creates lazy views of a json object.  A view is a generated subclass of the mapped type whose getters
+ * parse their property from the original buffer on first access and then remember the value.
+ * Only the structural index scan happens up front.
+ *
+ * The buffer passed to read() must not be modified while views created from it are in use.
+ *
+ * @param <T>
+ */
+public class QsonLazyParser<T> {
+    protected final byte[][] keys;
+    protected final QsonParser[] parsers;
+    protected final Function<QsonLazy, T> factory;
+
+    /**
+     * @param jsonNames json name of each property
+     * @param parsers parser for each property value
+     * @param factory creates the view from its backing document
+     */
+    public QsonLazyParser(String[] jsonNames, QsonParser[] parsers, Function<QsonLazy, T> factory) {
+        this.keys = new byte[jsonNames.length][];
+        for (int i = 0; i < jsonNames.length; i++) {
+            keys[i] = jsonNames[i].getBytes(JsonByteWriter.UTF8);
+        }
+        this.parsers = parsers;
+        this.factory = factory;
+    }
+
+    /**
+     * Create a view over fully buffered json
+     *
+     * @param bytes
+     * @return null if the json is the null literal
+     */
+    public T read(byte[] bytes) {
+        return read(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Create a view over fully buffered json
+     *
+     * @param bytes
+     * @param offset
+     * @param length
+     * @return null if the json is the null literal
+     */
+    public T read(byte[] bytes, int offset, int length) {
+        if (isNull(bytes, offset, offset + length)) return null;
+        return factory.apply(new QsonLazy(bytes, offset, length, keys, parsers));
+    }
+
+    /**
+     * Create a view over a json string
+     *
+     * @param json
+     * @return null if the json is the null literal
+     */
+    public T read(String json) {
+        return read(json.getBytes(JsonByteWriter.UTF8));
+    }
+
+    private static boolean isNull(byte[] bytes, int start, int end) {
+        while (start < end && IntChar.isWhitespace(bytes[start])) start++;
+        return end - start >= 4 && bytes[start] == 'n' && bytes[start + 1] == 'u'
+                && bytes[start + 2] == 'l' && bytes[start + 3] == 'l';
+    }
+}
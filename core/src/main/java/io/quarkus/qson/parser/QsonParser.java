@@ -4,6 +4,7 @@ import io.quarkus.qson.writer.JsonByteWriter;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 public interface QsonParser {
     /**
@@ -50,6 +51,66 @@ public interface QsonParser {
         return ctx.finish(bytes);
     }
 
+    /**
+     * Read object from InputStream using a context obtained from the pool.
+     *
+     * @param is
+     * @param pool
+     * @param <T>
+     * @return
+     * @throws IOException
+     */
+    default <T> T read(InputStream is, ParserContextPool pool) throws IOException {
+        ByteArrayParserContext ctx = pool.acquire(this);
+        try {
+            return ctx.finish(is);
+        } finally {
+            pool.release(ctx);
+        }
+    }
+
+    /**
+     * Read object from byte buffer using a context obtained from the pool.  Expects fully buffered json.
+     *
+     * @param bytes
+     * @param pool
+     * @param <T>
+     * @return
+     */
+    default <T> T read(byte[] bytes, ParserContextPool pool) {
+        ByteArrayParserContext ctx = pool.acquire(this);
+        try {
+            return ctx.finish(bytes);
+        } finally {
+            pool.release(ctx);
+        }
+    }
+
+    /**
+     * Read object from a heap or direct byte buffer without copying it.  Expects fully buffered json
+     * between the buffer's position and limit.
+     *
+     * @param buffer
+     * @param <T>
+     * @return
+     */
+    default <T> T read(ByteBuffer buffer) {
+        ByteBufferParserContext ctx = new ByteBufferParserContext(this);
+        return ctx.finish(buffer);
+    }
+
+    /**
+     * Read object from a composite set of buffers without copying them.  Expects fully buffered json.
+     *
+     * @param buffers
+     * @param <T>
+     * @return
+     */
+    default <T> T read(ByteBuffer[] buffers) {
+        ByteBufferParserContext ctx = new ByteBufferParserContext(this);
+        return ctx.finish(buffers);
+    }
+
     /**
      * Read object from json string.
      *
@@ -0,0 +1,46 @@
+package io.quarkus.qson.parser;
+
+import java.util.Arrays;
+
+/**
+ * Parses a json array into a short[].  Values are collected in a growable short[] so no element is boxed.
+ */
+public class ShortArrayParser extends ObjectParser {
+    public static final ShortArrayParser PARSER = new ShortArrayParser();
+
+    static class Buffer {
+        short[] values = new short[16];
+        int size;
+    }
+
+    public ShortArrayParser() {
+    }
+
+    @Override
+    public boolean start(ParserContext ctx) {
+        return startList(ctx);
+    }
+
+    @Override
+    public boolean listValue(ParserContext ctx) {
+        return startIntegerValue(ctx);
+    }
+
+    @Override
+    public void beginList(ParserContext ctx) {
+        ctx.pushTarget(new Buffer());
+    }
+
+    @Override
+    public void addListValue(ParserContext ctx) {
+        Buffer buffer = ctx.target();
+        if (buffer.size == buffer.values.length) buffer.values = Arrays.copyOf(buffer.values, buffer.size << 1);
+        buffer.values[buffer.size++] = ctx.popShortToken();
+    }
+
+    @Override
+    public void endList(ParserContext ctx) {
+        Buffer buffer = ctx.popTarget();
+        ctx.pushTarget(buffer.size == buffer.values.length ? buffer.values : Arrays.copyOf(buffer.values, buffer.size));
+    }
+}
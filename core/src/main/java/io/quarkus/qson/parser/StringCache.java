@@ -0,0 +1,171 @@
+package io.quarkus.qson.parser;
+
+import io.quarkus.qson.QsonException;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded symbol table that dedups string values while parsing.  Entries are keyed by the hash of the raw UTF-8
+ * bytes of the token, so a repeated value costs a hash and a byte compare instead of a char[] and a String.
+ *
+ * The table is direct mapped and lock free.  Entries are immutable and a slot is simply overwritten when another
+ * value hashes to it, so concurrent parsers may occasionally miss or evict each other's entries but will
+ * never see a wrong value.  Tokens longer than maxLength bypass the table and are not counted in the statistics.
+ *
+ * Caches can be shared by name.  See {@link io.quarkus.qson.QsonIntern}
+ */
+public class StringCache {
+    public static final int DEFAULT_SIZE = 1024;
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private static final Map<String, StringCache> CACHES = new ConcurrentHashMap<>();
+
+    static final class Entry {
+        final int hash;
+        final byte[] bytes;
+        final String value;
+
+        Entry(int hash, byte[] bytes, String value) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.value = value;
+        }
+    }
+
+    protected final Entry[] table;
+    protected final int mask;
+    protected final int maxLength;
+    protected final LongAdder hits = new LongAdder();
+    protected final LongAdder misses = new LongAdder();
+
+    public final ContextValue value = this::value;
+
+    public StringCache() {
+        this(DEFAULT_SIZE, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     *
+     * @param size number of slots, rounded up to a power of 2
+     * @param maxLength longest token in bytes that will be cached
+     */
+    public StringCache(int size, int maxLength) {
+        if (size <= 0 || size > (1 << 30)) throw new QsonException("Illegal string cache size: " + size);
+        int slots = Integer.highestOneBit(size);
+        if (slots < size) slots <<= 1;
+        table = new Entry[slots];
+        mask = slots - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Get or create the shared cache registered under name.  Size and maxLength are only used if the
+     * cache does not exist yet.
+     *
+     * @param name
+     * @param size
+     * @param maxLength
+     * @return
+     */
+    public static StringCache named(String name, int size, int maxLength) {
+        return CACHES.computeIfAbsent(name, (n) -> new StringCache(size, maxLength));
+    }
+
+    public static StringCache named(String name) {
+        return named(name, DEFAULT_SIZE, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * All shared caches by name.  Useful for exporting statistics.
+     *
+     * @return
+     */
+    public static Map<String, StringCache> caches() {
+        return Collections.unmodifiableMap(CACHES);
+    }
+
+    /**
+     * Decode the raw token bytes into a String, returning the cached instance if the same bytes were seen before.
+     *
+     * @param buffer
+     * @param tokenStart
+     * @param tokenEnd
+     * @return
+     */
+    public String intern(byte[] buffer, int tokenStart, int tokenEnd) {
+        int len = tokenEnd - tokenStart;
+        if (len > maxLength) return ParsePrimitives.readString(buffer, tokenStart, tokenEnd);
+        int hash = ParsePrimitives.hash(buffer, tokenStart, tokenEnd);
+        int index = (hash ^ (hash >>> 16)) & mask;
+        Entry entry = table[index];
+        if (entry != null && entry.hash == hash && matches(entry.bytes, buffer, tokenStart, len)) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        String val = ParsePrimitives.readString(buffer, tokenStart, tokenEnd);
+        byte[] bytes = new byte[len];
+        System.arraycopy(buffer, tokenStart, bytes, 0, len);
+        table[index] = new Entry(hash, bytes, val);
+        return val;
+    }
+
+    private static boolean matches(byte[] bytes, byte[] buffer, int tokenStart, int len) {
+        if (bytes.length != len) return false;
+        for (int i = 0; i < len; i++) {
+            if (bytes[i] != buffer[tokenStart + i]) return false;
+        }
+        return true;
+    }
+
+    public String value(ParserContext ctx) {
+        return ctx.popToken(this);
+    }
+
+    public int size() {
+        return table.length;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Fraction of cacheable tokens that were found in the table.
+     *
+     * @return 0 if nothing has been looked up yet
+     */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Drop all entries.  Statistics are kept.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length; i++) table[i] = null;
+    }
+
+    @Override
+    public String toString() {
+        return "StringCache{size=" + table.length + ", hits=" + getHits() + ", misses=" + getMisses() + "}";
+    }
+}
@@ -0,0 +1,162 @@
+package io.quarkus.qson.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Used by {@link QsonLazy} to locate property values without parsing them.  Finds the positions of all unescaped quotes and of every
+ * brace, bracket, colon and comma that is not inside a string.
+ *
+ * Input is processed 64 bytes at a time.  Each 8 byte word is classified with SWAR byte comparisons and
+ * the per byte results are packed into 64 bit masks.  Escapes and string regions are then resolved with
+ * plain bit arithmetic on those masks, the same way simdjson does it with SIMD registers.
+ *
+ * See Langdale and Lemire, "Parsing Gigabytes of JSON per Second".
+ */
+final class StructuralIndex {
+    private static final long ONES = 0x0101_0101_0101_0101L;
+    private static final long LOW7 = 0x7F7F_7F7F_7F7F_7F7FL;
+    private static final long EVEN_BITS = 0x5555_5555_5555_5555L;
+    private static final long QUOTES = ONES * '"';
+    private static final long BACKSLASHES = ONES * '\\';
+    private static final long COLONS = ONES * ':';
+    private static final long COMMAS = ONES * ',';
+    // '[' and '{' are both 0x7B once the 0x20 bit is set, ']' and '}' are both 0x7D
+    private static final long CASE_BIT = ONES * 0x20;
+    private static final long OPENS = ONES * '{';
+    private static final long CLOSES = ONES * '}';
+
+    int[] positions;
+    int size;
+
+    // carried from one 64 byte block to the next
+    private long prevEscaped;
+    private long prevInString;
+    private final byte[] tail = new byte[64];
+
+    public StructuralIndex() {
+        this(64);
+    }
+
+    public StructuralIndex(int capacity) {
+        positions = new int[Math.max(capacity, 64)];
+    }
+
+    /**
+     * Number of structural positions found
+     *
+     * @return
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Structural position at index i.  Positions are in increasing order.
+     *
+     * @param i
+     * @return
+     */
+    public int position(int i) {
+        return positions[i];
+    }
+
+    /**
+     * Index buffer[start, end).  Any previous index is discarded.
+     *
+     * @param buffer
+     * @param start
+     * @param end
+     * @return this
+     */
+    public StructuralIndex build(byte[] buffer, int start, int end) {
+        size = 0;
+        prevEscaped = 0;
+        prevInString = 0;
+        ByteBuffer words = ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN);
+        int i = start;
+        for (; i + 64 <= end; i += 64) {
+            block(words, i, i);
+        }
+        if (i < end) {
+            // pad the last partial block with whitespace
+            Arrays.fill(tail, (byte) ' ');
+            System.arraycopy(buffer, i, tail, 0, end - i);
+            block(ByteBuffer.wrap(tail).order(ByteOrder.LITTLE_ENDIAN), 0, i);
+        }
+        return this;
+    }
+
+    private void block(ByteBuffer words, int offset, int base) {
+        long quote = 0;
+        long backslash = 0;
+        long op = 0;
+        for (int w = 0; w < 8; w++) {
+            long word = words.getLong(offset + (w << 3));
+            int shift = w << 3;
+            long q = eq(word, QUOTES);
+            if (q != 0) quote |= movemask(q) << shift;
+            long b = eq(word, BACKSLASHES);
+            if (b != 0) backslash |= movemask(b) << shift;
+            long folded = word | CASE_BIT;
+            long structural = eq(folded, OPENS) | eq(folded, CLOSES) | eq(word, COLONS) | eq(word, COMMAS);
+            if (structural != 0) op |= movemask(structural) << shift;
+        }
+
+        quote &= ~escaped(backslash);
+        long inString = prefixXor(quote) ^ prevInString;
+        prevInString = inString >> 63;
+        long bits = (op & ~inString) | quote;
+
+        if (size + 64 > positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(positions.length << 1, size + 64));
+        }
+        int[] pos = positions;
+        int n = size;
+        while (bits != 0) {
+            pos[n++] = base + Long.numberOfTrailingZeros(bits);
+            bits &= bits - 1;
+        }
+        size = n;
+    }
+
+    /**
+     * Mask of characters that are escaped by an odd length run of backslashes
+     */
+    private long escaped(long backslash) {
+        backslash &= ~prevEscaped;
+        long followsEscape = backslash << 1 | prevEscaped;
+        long oddSequenceStarts = backslash & ~EVEN_BITS & ~followsEscape;
+        long sequencesStartingOnEvenBits = oddSequenceStarts + backslash;
+        // carry out of the add means the last run continues into the next block
+        prevEscaped = Long.compareUnsigned(sequencesStartingOnEvenBits, oddSequenceStarts) < 0 ? 1 : 0;
+        long invertMask = sequencesStartingOnEvenBits << 1;
+        return (EVEN_BITS ^ invertMask) & followsEscape;
+    }
+
+    /**
+     * High bit of each byte set where the byte of word equals the byte of pattern
+     */
+    private static long eq(long word, long pattern) {
+        long x = word ^ pattern;
+        return ~(((x & LOW7) + LOW7) | x | LOW7);
+    }
+
+    /**
+     * Pack the high bit of each byte into the low 8 bits
+     */
+    private static long movemask(long highBits) {
+        return ((highBits >>> 7) * 0x0102_0408_1020_4080L) >>> 56;
+    }
+
+    private static long prefixXor(long x) {
+        x ^= x << 1;
+        x ^= x << 2;
+        x ^= x << 4;
+        x ^= x << 8;
+        x ^= x << 16;
+        x ^= x << 32;
+        return x;
+    }
+}
@@ -14,13 +14,13 @@ public abstract class ValueParser implements QsonParser {
     public boolean continueEndValue(ParserContext ctx) {
         ctx.popState();
         Object val = value(ctx);
-        ctx.pushTarget(val);
+        ctx.pushTarget(val == null ? ParserContext.NULL : val);
         return true;
     }
 
     public void endValue(ParserContext ctx) {
         Object val = value(ctx);
-        ctx.pushTarget(val);
+        ctx.pushTarget(val == null ? ParserContext.NULL : val);
     }
 
     public boolean continueStart(ParserContext ctx) {
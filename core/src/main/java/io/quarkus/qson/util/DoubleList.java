@@ -0,0 +1,96 @@
+package io.quarkus.qson.util;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of unboxed doubles.  Can be used as a property type instead of List&lt;Double&gt;
+ * so that parsing a json array of numbers doesn't allocate a wrapper per element.
+ */
+public class DoubleList {
+    protected double[] values;
+    protected int size;
+
+    public DoubleList() {
+        this(16);
+    }
+
+    public DoubleList(int initialCapacity) {
+        values = new double[initialCapacity];
+    }
+
+    public static DoubleList of(double... values) {
+        DoubleList list = new DoubleList(values.length);
+        System.arraycopy(values, 0, list.values, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    public void add(double val) {
+        if (size == values.length) values = Arrays.copyOf(values, Math.max(16, size << 1));
+        values[size++] = val;
+    }
+
+    public double get(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return values[index];
+    }
+
+    public void set(int index, double val) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        values[index] = val;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Copy of the elements trimmed to size
+     *
+     * @return
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Backing array (no copy).  Only the first size() elements are valid.
+     *
+     * @return
+     */
+    public double[] getBuffer() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DoubleList)) return false;
+        DoubleList other = (DoubleList) o;
+        if (size != other.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(values[i]) != Double.doubleToLongBits(other.values[i])) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < size; i++) h = 31 * h + Double.hashCode(values[i]);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
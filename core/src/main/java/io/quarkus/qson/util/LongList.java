@@ -0,0 +1,96 @@
+package io.quarkus.qson.util;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of unboxed longs.  Can be used as a property type instead of List&lt;Long&gt;
+ * so that parsing a json array of numbers doesn't allocate a wrapper per element.
+ */
+public class LongList {
+    protected long[] values;
+    protected int size;
+
+    public LongList() {
+        this(16);
+    }
+
+    public LongList(int initialCapacity) {
+        values = new long[initialCapacity];
+    }
+
+    public static LongList of(long... values) {
+        LongList list = new LongList(values.length);
+        System.arraycopy(values, 0, list.values, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    public void add(long val) {
+        if (size == values.length) values = Arrays.copyOf(values, Math.max(16, size << 1));
+        values[size++] = val;
+    }
+
+    public long get(int index) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return values[index];
+    }
+
+    public void set(int index, long val) {
+        if (index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        values[index] = val;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Copy of the elements trimmed to size
+     *
+     * @return
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Backing array (no copy).  Only the first size() elements are valid.
+     *
+     * @return
+     */
+    public long[] getBuffer() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LongList)) return false;
+        LongList other = (LongList) o;
+        if (size != other.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (values[i] != other.values[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < size; i++) h = 31 * h + Long.hashCode(values[i]);
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,71 @@
+package io.quarkus.qson.writer;
+
+import java.util.Iterator;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Writes a json array one element at a time so that writing can be paused between elements when the
+ * destination can't take any more, i.e. a Vert.x WriteStream's queue is full, and resumed later.
+ * Elements are pulled from an Iterator so the collection never has to be materialized or serialized as a whole.
+ *
+ * Not thread safe.
+ */
+public class ArrayStreamWriter {
+    protected final QsonObjectWriter elementWriter;
+    protected final Iterator<?> elements;
+    protected boolean started;
+    protected boolean comma;
+    protected boolean complete;
+
+    public ArrayStreamWriter(QsonObjectWriter elementWriter, Iterator<?> elements) {
+        this.elementWriter = elementWriter;
+        this.elements = elements;
+    }
+
+    public ArrayStreamWriter(QsonObjectWriter elementWriter, Iterable<?> elements) {
+        this(elementWriter, elements.iterator());
+    }
+
+    /**
+     * Write the whole array
+     *
+     * @param writer
+     */
+    public void write(JsonWriter writer) {
+        write(writer, () -> false);
+    }
+
+    /**
+     * Write elements until pause returns true or the array is complete.  pause is checked before
+     * each element.  Call again to resume.
+     *
+     * @param writer
+     * @param pause
+     * @return true once the closing bracket has been written
+     */
+    public boolean write(JsonWriter writer, BooleanSupplier pause) {
+        if (complete) return true;
+        if (!started) {
+            writer.writeLBracket();
+            started = true;
+        }
+        while (elements.hasNext()) {
+            if (pause.getAsBoolean()) return false;
+            if (comma) writer.writeComma();
+            comma = true;
+            elementWriter.write(writer, elements.next());
+        }
+        writer.writeRBracket();
+        complete = true;
+        return true;
+    }
+
+    /**
+     * Whether the closing bracket has been written
+     *
+     * @return
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
@@ -0,0 +1,73 @@
+package io.quarkus.qson.writer;
+
+/**
+ * Encodes binary data as Base64 directly into a byte array.  Output is always padded.
+ * Stateless and thread safe.
+ */
+public final class Base64Encoder {
+    static final byte[] STANDARD = alphabet('+', '/');
+    static final byte[] URL = alphabet('-', '_');
+
+    private Base64Encoder() {
+    }
+
+    private static byte[] alphabet(char c62, char c63) {
+        byte[] table = new byte[64];
+        int i = 0;
+        for (char c = 'A'; c <= 'Z'; c++) table[i++] = (byte) c;
+        for (char c = 'a'; c <= 'z'; c++) table[i++] = (byte) c;
+        for (char c = '0'; c <= '9'; c++) table[i++] = (byte) c;
+        table[i++] = (byte) c62;
+        table[i] = (byte) c63;
+        return table;
+    }
+
+    /**
+     * Number of bytes length bytes of input encode to, not including quotes
+     *
+     * @param length
+     * @return
+     */
+    public static int encodedLength(int length) {
+        return (length + 2) / 3 * 4;
+    }
+
+    /**
+     * Encode without quotes
+     *
+     * @param src
+     * @param offset
+     * @param length
+     * @param urlSafe
+     * @param buf must have room for {@link #encodedLength(int)} bytes
+     * @param pos
+     * @return position after the last encoded byte
+     */
+    public static int encode(byte[] src, int offset, int length, boolean urlSafe, byte[] buf, int pos) {
+        byte[] table = urlSafe ? URL : STANDARD;
+        int end = offset + length / 3 * 3;
+        int i = offset;
+        while (i < end) {
+            int bits = (src[i++] & 0xFF) << 16 | (src[i++] & 0xFF) << 8 | (src[i++] & 0xFF);
+            buf[pos++] = table[bits >>> 18];
+            buf[pos++] = table[(bits >>> 12) & 0x3F];
+            buf[pos++] = table[(bits >>> 6) & 0x3F];
+            buf[pos++] = table[bits & 0x3F];
+        }
+        int remaining = offset + length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xFF) << 16;
+            buf[pos++] = table[bits >>> 18];
+            buf[pos++] = table[(bits >>> 12) & 0x3F];
+            buf[pos++] = '=';
+            buf[pos++] = '=';
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            buf[pos++] = table[bits >>> 18];
+            buf[pos++] = table[(bits >>> 12) & 0x3F];
+            buf[pos++] = table[(bits >>> 6) & 0x3F];
+            buf[pos++] = '=';
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,41 @@
+package io.quarkus.qson.writer;
+
+import io.quarkus.qson.QsonBase64;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes a byte[] or the remaining bytes of a ByteBuffer as a Base64 json string.  The ByteBuffer's
+ * position is not changed.
+ */
+public class Base64Writer implements QsonObjectWriter {
+    public static final Base64Writer STANDARD = new Base64Writer(false);
+    public static final Base64Writer URL = new Base64Writer(true);
+
+    protected final boolean urlSafe;
+
+    private Base64Writer(boolean urlSafe) {
+        this.urlSafe = urlSafe;
+    }
+
+    public static Base64Writer of(QsonBase64.Encoding encoding) {
+        return encoding == QsonBase64.Encoding.URL ? URL : STANDARD;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Object target) {
+        if (target instanceof byte[]) {
+            byte[] bytes = (byte[]) target;
+            writer.writeBase64(bytes, 0, bytes.length, urlSafe);
+            return;
+        }
+        ByteBuffer buffer = (ByteBuffer) target;
+        if (buffer.hasArray()) {
+            writer.writeBase64(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), urlSafe);
+        } else {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            writer.writeBase64(bytes, 0, bytes.length, urlSafe);
+        }
+    }
+}
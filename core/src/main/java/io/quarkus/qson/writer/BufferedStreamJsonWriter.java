@@ -65,6 +65,90 @@ public class BufferedStreamJsonWriter extends JsonByteWriter {
         count += bytes.length;
     }
 
+    @Override
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        if (count + length > buffer.length) {
+            flushBuffer();
+            if (length > buffer.length) {
+                try {
+                    os.write(bytes, offset, length);
+                    return;
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    private void ensureCapacity(int length) {
+        if (count + length > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() {
+        try {
+            os.write(buffer, 0, count);
+            count = 0;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void write(int val) {
+        if (buffer.length < IntegerEncoder.MAX_INT_SIZE) {
+            super.write(val);
+            return;
+        }
+        ensureCapacity(IntegerEncoder.MAX_INT_SIZE);
+        count = IntegerEncoder.encode(val, buffer, count);
+    }
+
+    @Override
+    public void write(long val) {
+        if (buffer.length < IntegerEncoder.MAX_LONG_SIZE) {
+            super.write(val);
+            return;
+        }
+        ensureCapacity(IntegerEncoder.MAX_LONG_SIZE);
+        count = IntegerEncoder.encode(val, buffer, count);
+    }
+
+    @Override
+    public void write(float val) {
+        if (buffer.length < DoubleEncoder.MAX_FLOAT_SIZE) {
+            super.write(val);
+            return;
+        }
+        ensureCapacity(DoubleEncoder.MAX_FLOAT_SIZE);
+        count = DoubleEncoder.encode(val, buffer, count);
+    }
+
+    @Override
+    public void write(double val) {
+        if (buffer.length < DoubleEncoder.MAX_DOUBLE_SIZE) {
+            super.write(val);
+            return;
+        }
+        ensureCapacity(DoubleEncoder.MAX_DOUBLE_SIZE);
+        count = DoubleEncoder.encode(val, buffer, count);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected void writeAscii(String val, int start, int end) {
+        while (start < end) {
+            if (count == buffer.length) flushBuffer();
+            int chunk = Math.min(end - start, buffer.length - count);
+            val.getBytes(start, start + chunk, buffer, count);
+            count += chunk;
+            start += chunk;
+        }
+    }
+
     public void flush() {
         try {
             if (count > 0) {
@@ -37,13 +37,73 @@ public class ByteArrayJsonWriter extends JsonByteWriter {
 
     @Override
     public void writeBytes(byte[] bytes) {
-        if (count + bytes.length > buffer.length) {
-            buffer = Arrays.copyOf(buffer, buffer.length + buffer.length / 2 + bytes.length);
-        }
+        ensureCapacity(bytes.length);
         System.arraycopy(bytes, 0, buffer, count, bytes.length);
         count += bytes.length;
     }
 
+    @Override
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        if (count + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length + buffer.length / 2 + length);
+        }
+        System.arraycopy(bytes, offset, buffer, count, length);
+        count += length;
+    }
+
+    private void ensureCapacity(int length) {
+        if (count + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length + buffer.length / 2 + length);
+        }
+    }
+
+    @Override
+    public void write(int val) {
+        ensureCapacity(IntegerEncoder.MAX_INT_SIZE);
+        count = IntegerEncoder.encode(val, buffer, count);
+    }
+
+    @Override
+    public void write(long val) {
+        ensureCapacity(IntegerEncoder.MAX_LONG_SIZE);
+        count = IntegerEncoder.encode(val, buffer, count);
+    }
+
+    @Override
+    public void write(float val) {
+        ensureCapacity(DoubleEncoder.MAX_FLOAT_SIZE);
+        count = DoubleEncoder.encode(val, buffer, count);
+    }
+
+    @Override
+    public void write(double val) {
+        ensureCapacity(DoubleEncoder.MAX_DOUBLE_SIZE);
+        count = DoubleEncoder.encode(val, buffer, count);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected void writeAscii(String val, int start, int end) {
+        ensureCapacity(end - start);
+        val.getBytes(start, end, buffer, count);
+        count += end - start;
+    }
+
+    @Override
+    public void writeBase64(byte[] val, int offset, int length, boolean urlSafe) {
+        ensureCapacity(Base64Encoder.encodedLength(length) + 2);
+        buffer[count++] = '"';
+        count = Base64Encoder.encode(val, offset, length, urlSafe, buffer, count);
+        buffer[count++] = '"';
+    }
+
+    /**
+     * Discard written bytes so that this writer can be reused.  Buffer capacity is retained.
+     */
+    public void reset() {
+        count = 0;
+    }
+
     /**
      * Gets a copy of written buffer
      *
@@ -0,0 +1,71 @@
+package io.quarkus.qson.writer;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded pool of reusable {@link ByteArrayJsonWriter} instances so that buffer capacity is retained across writes.
+ *
+ * Writers whose buffer has grown beyond the maximum retained capacity are not pooled on release so that
+ * one large response does not pin a large buffer forever.  If the pool is empty, a new writer is allocated.
+ */
+public class ByteArrayJsonWriterPool {
+    public static final int DEFAULT_INITIAL_CAPACITY = 512;
+    public static final int DEFAULT_MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private final AtomicReferenceArray<ByteArrayJsonWriter> pool;
+    private final int initialCapacity;
+    private final int maxRetainedCapacity;
+
+    public ByteArrayJsonWriterPool() {
+        this(Runtime.getRuntime().availableProcessors() * 2, DEFAULT_INITIAL_CAPACITY, DEFAULT_MAX_RETAINED_CAPACITY);
+    }
+
+    /**
+     *
+     * @param size maximum number of pooled writers
+     * @param initialCapacity buffer capacity of newly allocated writers
+     * @param maxRetainedCapacity writers with a larger buffer are dropped on release
+     */
+    public ByteArrayJsonWriterPool(int size, int initialCapacity, int maxRetainedCapacity) {
+        if (size < 1) throw new IllegalArgumentException("Pool size must be at least 1");
+        this.pool = new AtomicReferenceArray<>(size);
+        this.initialCapacity = initialCapacity;
+        this.maxRetainedCapacity = maxRetainedCapacity;
+    }
+
+    /**
+     * Obtain an empty writer
+     *
+     * @return
+     */
+    public ByteArrayJsonWriter acquire() {
+        int size = pool.length();
+        int start = (int) (Thread.currentThread().getId() % size);
+        for (int i = 0; i < size; i++) {
+            int idx = (start + i) % size;
+            ByteArrayJsonWriter writer = pool.get(idx);
+            if (writer != null && pool.compareAndSet(idx, writer, null)) {
+                return writer;
+            }
+        }
+        return new ByteArrayJsonWriter(initialCapacity);
+    }
+
+    /**
+     * Give a writer back to the pool.  The writer, and its underlying buffer, must not be used after it is released.
+     *
+     * @param writer
+     */
+    public void release(ByteArrayJsonWriter writer) {
+        if (writer.getBuffer().length > maxRetainedCapacity) return;
+        writer.reset();
+        int size = pool.length();
+        int start = (int) (Thread.currentThread().getId() % size);
+        for (int i = 0; i < size; i++) {
+            int idx = (start + i) % size;
+            if (pool.get(idx) == null && pool.compareAndSet(idx, null, writer)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.quarkus.qson.writer;
+
+/**
+ * Writer that fills a fixed size chunk and hands it to a {@link ChunkSink} each time it is full.
+ * The same chunk array is reused for the whole write, so memory use is bounded by the chunk size no matter
+ * how large the json is.
+ *
+ * Call {@link #flush()} when done to hand over the last, partially filled chunk.
+ */
+public class ChunkedJsonWriter extends JsonByteWriter {
+
+    /**
+     * Receives full chunks.  bytes is reused once this method returns, so it must be
+     * written or copied before returning.
+     */
+    @FunctionalInterface
+    public interface ChunkSink {
+        void chunk(byte[] bytes, int length);
+    }
+
+    protected final byte[] chunk;
+    protected final ChunkSink sink;
+    protected int count;
+
+    public ChunkedJsonWriter(byte[] chunk, ChunkSink sink) {
+        this.chunk = chunk;
+        this.sink = sink;
+    }
+
+    /**
+     * Chunk size defaults to 8192
+     *
+     * @param sink
+     */
+    public ChunkedJsonWriter(ChunkSink sink) {
+        this(new byte[8192], sink);
+    }
+
+    public ChunkedJsonWriter(int chunkSize, ChunkSink sink) {
+        this(new byte[chunkSize], sink);
+    }
+
+    @Override
+    public void writeByte(int b) {
+        if (count == chunk.length) flushChunk();
+        chunk[count++] = (byte) b;
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes) {
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            if (count == chunk.length) flushChunk();
+            int size = Math.min(length, chunk.length - count);
+            System.arraycopy(bytes, offset, chunk, count, size);
+            count += size;
+            offset += size;
+            length -= size;
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        if (count + length > chunk.length) flushChunk();
+    }
+
+    private void flushChunk() {
+        sink.chunk(chunk, count);
+        count = 0;
+    }
+
+    @Override
+    public void write(int val) {
+        if (chunk.length < IntegerEncoder.MAX_INT_SIZE) {
+            super.write(val);
+            return;
+        }
+        ensureCapacity(IntegerEncoder.MAX_INT_SIZE);
+        count = IntegerEncoder.encode(val, chunk, count);
+    }
+
+    @Override
+    public void write(long val) {
+        if (chunk.length < IntegerEncoder.MAX_LONG_SIZE) {
+            super.write(val);
+            return;
+        }
+        ensureCapacity(IntegerEncoder.MAX_LONG_SIZE);
+        count = IntegerEncoder.encode(val, chunk, count);
+    }
+
+    @Override
+    public void write(float val) {
+        if (chunk.length < DoubleEncoder.MAX_FLOAT_SIZE) {
+            super.write(val);
+            return;
+        }
+        ensureCapacity(DoubleEncoder.MAX_FLOAT_SIZE);
+        count = DoubleEncoder.encode(val, chunk, count);
+    }
+
+    @Override
+    public void write(double val) {
+        if (chunk.length < DoubleEncoder.MAX_DOUBLE_SIZE) {
+            super.write(val);
+            return;
+        }
+        ensureCapacity(DoubleEncoder.MAX_DOUBLE_SIZE);
+        count = DoubleEncoder.encode(val, chunk, count);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected void writeAscii(String val, int start, int end) {
+        while (start < end) {
+            if (count == chunk.length) flushChunk();
+            int size = Math.min(end - start, chunk.length - count);
+            val.getBytes(start, start + size, chunk, count);
+            count += size;
+            start += size;
+        }
+    }
+
+    /**
+     * Number of bytes written to the current chunk that have not been handed to the sink
+     *
+     * @return
+     */
+    public int pending() {
+        return count;
+    }
+
+    /**
+     * Hand the partially filled chunk to the sink, if it isn't empty
+     */
+    public void flush() {
+        if (count > 0) flushChunk();
+    }
+}
@@ -0,0 +1,213 @@
+package io.quarkus.qson.writer;
+
+import java.time.OffsetDateTime;
+
+import static io.quarkus.qson.writer.IntegerEncoder.DIGIT_ONES;
+import static io.quarkus.qson.writer.IntegerEncoder.DIGIT_TENS;
+
+/**
+ * Encodes ISO 8601 offset date times and RFC 1123 date times as quoted json strings directly into a byte array.
+ * Stateless and thread safe.
+ *
+ * Only years 0000-9999 are encoded, the encode methods return -1 for anything else so that the caller can
+ * fall back to a formatter.
+ */
+public final class DateTimeEncoder {
+    /**
+     * Maximum number of bytes a date time can encode to, including quotes
+     */
+    public static final int MAX_SIZE = 40;
+
+    static final byte[][] MONTHS = {
+            {'J', 'a', 'n'}, {'F', 'e', 'b'}, {'M', 'a', 'r'}, {'A', 'p', 'r'}, {'M', 'a', 'y'}, {'J', 'u', 'n'},
+            {'J', 'u', 'l'}, {'A', 'u', 'g'}, {'S', 'e', 'p'}, {'O', 'c', 't'}, {'N', 'o', 'v'}, {'D', 'e', 'c'}
+    };
+    static final byte[][] DAYS = {
+            {'M', 'o', 'n'}, {'T', 'u', 'e'}, {'W', 'e', 'd'}, {'T', 'h', 'u'}, {'F', 'r', 'i'}, {'S', 'a', 't'}, {'S', 'u', 'n'}
+    };
+
+    private DateTimeEncoder() {
+    }
+
+    /**
+     * UTC with millisecond precision, i.e. "2011-12-03T10:15:30.123Z"
+     *
+     * @param epochMillis
+     * @param buf
+     * @param pos
+     * @return position after the closing quote, -1 if the year is out of range
+     */
+    public static int encodeIso8601Millis(long epochMillis, byte[] buf, int pos) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000L);
+        int millis = (int) Math.floorMod(epochMillis, 1000L);
+        long date = civil(Math.floorDiv(epochSecond, 86400L));
+        if (date < 0 || date > 99991231) return -1;
+        buf[pos++] = '"';
+        pos = date(date, buf, pos);
+        buf[pos++] = 'T';
+        pos = time((int) Math.floorMod(epochSecond, 86400L), buf, pos);
+        buf[pos++] = '.';
+        buf[pos++] = (byte) ('0' + millis / 100);
+        pos = two(millis % 100, buf, pos);
+        buf[pos++] = 'Z';
+        buf[pos++] = '"';
+        return pos;
+    }
+
+    /**
+     * Same output as DateTimeFormatter.ISO_OFFSET_DATE_TIME, i.e. "2011-12-03T10:15:30.5+01:00"
+     *
+     * @param dateTime
+     * @param buf
+     * @param pos
+     * @return position after the closing quote, -1 if the year is out of range
+     */
+    public static int encodeIso8601(OffsetDateTime dateTime, byte[] buf, int pos) {
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) return -1;
+        buf[pos++] = '"';
+        pos = date(year * 10000L + dateTime.getMonthValue() * 100 + dateTime.getDayOfMonth(), buf, pos);
+        buf[pos++] = 'T';
+        pos = time(dateTime.getHour() * 3600 + dateTime.getMinute() * 60 + dateTime.getSecond(), buf, pos);
+        int nanos = dateTime.getNano();
+        if (nanos > 0) {
+            buf[pos++] = '.';
+            int scale = 100000000;
+            while (nanos > 0) {
+                buf[pos++] = (byte) ('0' + nanos / scale);
+                nanos %= scale;
+                scale /= 10;
+            }
+        }
+        int offset = dateTime.getOffset().getTotalSeconds();
+        if (offset == 0) {
+            buf[pos++] = 'Z';
+        } else {
+            buf[pos++] = (byte) (offset < 0 ? '-' : '+');
+            offset = Math.abs(offset);
+            pos = two(offset / 3600, buf, pos);
+            buf[pos++] = ':';
+            pos = two(offset / 60 % 60, buf, pos);
+            if (offset % 60 != 0) {
+                buf[pos++] = ':';
+                pos = two(offset % 60, buf, pos);
+            }
+        }
+        buf[pos++] = '"';
+        return pos;
+    }
+
+    /**
+     * GMT with a two digit day of month, i.e. "Tue, 03 Jun 2008 11:05:30 GMT"
+     *
+     * @param epochMillis
+     * @param buf
+     * @param pos
+     * @return position after the closing quote, -1 if the year is out of range
+     */
+    public static int encodeRfc1123Millis(long epochMillis, byte[] buf, int pos) {
+        return rfc1123(Math.floorDiv(epochMillis, 1000L), 0, true, buf, pos);
+    }
+
+    /**
+     * Same output as DateTimeFormatter.RFC_1123_DATE_TIME, i.e. "Tue, 3 Jun 2008 11:05:30 +0200"
+     *
+     * @param dateTime
+     * @param buf
+     * @param pos
+     * @return position after the closing quote, -1 if the year is out of range
+     */
+    public static int encodeRfc1123(OffsetDateTime dateTime, byte[] buf, int pos) {
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) return -1;
+        return rfc1123(dateTime.toEpochSecond(), dateTime.getOffset().getTotalSeconds(), false, buf, pos);
+    }
+
+    private static int rfc1123(long epochSecond, int offset, boolean padDay, byte[] buf, int pos) {
+        long local = epochSecond + offset;
+        long epochDay = Math.floorDiv(local, 86400L);
+        long date = civil(epochDay);
+        if (date < 0 || date > 99991231) return -1;
+        int day = (int) (date % 100);
+        buf[pos++] = '"';
+        byte[] dayName = DAYS[(int) Math.floorMod(epochDay + 3, 7L)];
+        buf[pos++] = dayName[0];
+        buf[pos++] = dayName[1];
+        buf[pos++] = dayName[2];
+        buf[pos++] = ',';
+        buf[pos++] = ' ';
+        if (padDay || day > 9) {
+            pos = two(day, buf, pos);
+        } else {
+            buf[pos++] = (byte) ('0' + day);
+        }
+        buf[pos++] = ' ';
+        byte[] month = MONTHS[(int) (date / 100 % 100) - 1];
+        buf[pos++] = month[0];
+        buf[pos++] = month[1];
+        buf[pos++] = month[2];
+        buf[pos++] = ' ';
+        int year = (int) (date / 10000);
+        pos = two(year / 100, buf, pos);
+        pos = two(year % 100, buf, pos);
+        buf[pos++] = ' ';
+        pos = time((int) Math.floorMod(local, 86400L), buf, pos);
+        buf[pos++] = ' ';
+        if (offset == 0) {
+            buf[pos++] = 'G';
+            buf[pos++] = 'M';
+            buf[pos++] = 'T';
+        } else {
+            buf[pos++] = (byte) (offset < 0 ? '-' : '+');
+            offset = Math.abs(offset);
+            pos = two(offset / 3600, buf, pos);
+            pos = two(offset / 60 % 60, buf, pos);
+        }
+        buf[pos++] = '"';
+        return pos;
+    }
+
+    /**
+     * Proleptic gregorian date of a day since 1970-01-01 packed as year * 10000 + month * 100 + day
+     */
+    static long civil(long epochDay) {
+        // shift to eras starting 0000-03-01 so the leap day is last
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097L);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0) return -1;
+        return year * 10000 + month * 100 + day;
+    }
+
+    private static int two(int val, byte[] buf, int pos) {
+        buf[pos++] = DIGIT_TENS[val];
+        buf[pos++] = DIGIT_ONES[val];
+        return pos;
+    }
+
+    // yyyy-MM-dd
+    private static int date(long date, byte[] buf, int pos) {
+        int year = (int) (date / 10000);
+        pos = two(year / 100, buf, pos);
+        pos = two(year % 100, buf, pos);
+        buf[pos++] = '-';
+        pos = two((int) (date / 100 % 100), buf, pos);
+        buf[pos++] = '-';
+        return two((int) (date % 100), buf, pos);
+    }
+
+    // HH:mm:ss
+    private static int time(int secondOfDay, byte[] buf, int pos) {
+        pos = two(secondOfDay / 3600, buf, pos);
+        buf[pos++] = ':';
+        pos = two(secondOfDay / 60 % 60, buf, pos);
+        buf[pos++] = ':';
+        return two(secondOfDay % 60, buf, pos);
+    }
+}
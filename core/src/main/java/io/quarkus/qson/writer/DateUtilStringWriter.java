@@ -1,30 +1,49 @@
 package io.quarkus.qson.writer;
 
+import io.quarkus.qson.QsonDate;
 import io.quarkus.qson.parser.DateUtil;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+/**
+ * ISO 8601 is written as UTC with millisecond precision and RFC 1123 as GMT.  Both are encoded straight into the
+ * buffer of a {@link JsonByteWriter} by {@link DateTimeEncoder}.  Other writers, years it can't encode, and
+ * custom patterns go through a per thread DateFormat.
+ */
 public class DateUtilStringWriter implements QsonObjectWriter {
 
-    public static final DateUtilStringWriter ISO_8601_OFFSET_DATE_TIME = new DateUtilStringWriter(DateUtil.ISO_8601_OFFSET_DATE_TIME);
-    public static final DateUtilStringWriter RFC_1123_DATE_TIME = new DateUtilStringWriter(DateUtil.RFC_1123_DATE_TIME);
+    public static final DateUtilStringWriter ISO_8601_OFFSET_DATE_TIME = new DateUtilStringWriter(QsonDate.Format.ISO_8601_OFFSET_DATE_TIME, DateUtil.ISO_8601_OFFSET_DATE_TIME);
+    public static final DateUtilStringWriter RFC_1123_DATE_TIME = new DateUtilStringWriter(QsonDate.Format.RFC_1123_DATE_TIME, DateUtil.RFC_1123_DATE_TIME);
 
 
-    protected DateFormat formatter;
+    protected final QsonDate.Format format;
+    protected final ThreadLocal<DateFormat> formatter;
 
     public DateUtilStringWriter(String pattern) {
-        this.formatter = new SimpleDateFormat(pattern);
+        this(QsonDate.Format.PATTERN, new SimpleDateFormat(pattern));
     }
 
-    private DateUtilStringWriter(DateFormat formatter) {
-        this.formatter = formatter;
+    private DateUtilStringWriter(QsonDate.Format format, DateFormat formatter) {
+        this.format = format;
+        this.formatter = DateUtil.perThread(formatter);
     }
 
     @Override
     public void write(JsonWriter writer, Object target) {
         Date date = (Date)target;
-        writer.write(formatter.format(date));
+        if (writer instanceof JsonByteWriter && format != QsonDate.Format.PATTERN) {
+            JsonByteWriter byteWriter = (JsonByteWriter) writer;
+            byte[] buf = byteWriter.numberBuffer();
+            int end = format == QsonDate.Format.ISO_8601_OFFSET_DATE_TIME
+                    ? DateTimeEncoder.encodeIso8601Millis(date.getTime(), buf, 0)
+                    : DateTimeEncoder.encodeRfc1123Millis(date.getTime(), buf, 0);
+            if (end > 0) {
+                byteWriter.writeBytes(buf, 0, end);
+                return;
+            }
+        }
+        writer.write(formatter.get().format(date));
     }
 }
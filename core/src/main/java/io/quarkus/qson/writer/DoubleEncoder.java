@@ -0,0 +1,502 @@
+package io.quarkus.qson.writer;
+
+import java.math.BigInteger;
+
+/**
+ * Shortest round-trip encoding of float and double values directly into a byte array.
+ *
+ * This is an implementation of Raffaello Giulietti's Schubfach algorithm, "The Schubfach way to render doubles",
+ * which is also what Double.toString() and Float.toString() use since JDK 19.  Output is byte-for-byte
+ * the same as those methods, i.e. plain notation for 10^-3 <= |v| < 10^7 and computerized scientific
+ * notation otherwise, with at least one digit after the decimal point.
+ */
+public final class DoubleEncoder {
+    /**
+     * Maximum number of bytes a double can encode to, i.e. "-2.2250738585072014E-308"
+     */
+    public static final int MAX_DOUBLE_SIZE = 24;
+    /**
+     * Maximum number of bytes a float can encode to, i.e. "-1.17549435E-38"
+     */
+    public static final int MAX_FLOAT_SIZE = 15;
+
+    // double constants
+    private static final int D_P = 53;
+    private static final int D_W = 11;
+    private static final int D_Q_MIN = -1074;
+    private static final long D_C_MIN = 1L << (D_P - 1);
+    private static final int D_BQ_MASK = (1 << D_W) - 1;
+    private static final long D_T_MASK = (1L << (D_P - 1)) - 1;
+    private static final long D_C_TINY = 3;
+    private static final int D_H = 17;
+
+    // float constants
+    private static final int F_P = 24;
+    private static final int F_W = 8;
+    private static final int F_Q_MIN = -149;
+    private static final int F_C_MIN = 1 << (F_P - 1);
+    private static final int F_BQ_MASK = (1 << F_W) - 1;
+    private static final int F_T_MASK = (1 << (F_P - 1)) - 1;
+    private static final int F_C_TINY = 8;
+    private static final int F_H = 9;
+
+    private static final long MASK_63 = 0x7FFF_FFFF_FFFF_FFFFL;
+    private static final long MASK_32 = 0xFFFF_FFFFL;
+    private static final int MASK_28 = (1 << 28) - 1;
+
+    private static final byte[] NAN = {'N', 'a', 'N'};
+    private static final byte[] INFINITY = {'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
+
+    private static final long[] POW10 = new long[18];
+
+    /*
+     * Let 10^-k = beta 2^r, for the unique pair of integer r and real beta meeting 2^125 <= beta < 2^126.
+     * Further, let g = floor(beta) + 1, g1 = floor(g 2^-63) and g0 = g - g1 2^63.
+     * g1 and g0 are stored at (k - K_MIN) * 2 and (k - K_MIN) * 2 + 1
+     */
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final long[] G;
+
+    static {
+        long p = 1;
+        for (int i = 0; i < POW10.length; i++) {
+            POW10[i] = p;
+            p *= 10;
+        }
+        G = new long[(K_MAX - K_MIN + 1) << 1];
+        BigInteger mask63 = BigInteger.valueOf(MASK_63);
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            int e = -k;
+            int r = flog2pow10(e) - 125;
+            BigInteger beta;
+            if (e >= 0) {
+                BigInteger pow = BigInteger.TEN.pow(e);
+                beta = r >= 0 ? pow.shiftRight(r) : pow.shiftLeft(-r);
+            } else {
+                beta = BigInteger.ONE.shiftLeft(-r).divide(BigInteger.TEN.pow(-e));
+            }
+            BigInteger g = beta.add(BigInteger.ONE);
+            int idx = (k - K_MIN) << 1;
+            G[idx] = g.shiftRight(63).longValue();
+            G[idx + 1] = g.and(mask63).longValue();
+        }
+    }
+
+    private DoubleEncoder() {
+    }
+
+    /**
+     * Encode value into buffer.  Caller must ensure there is room for {@link #MAX_DOUBLE_SIZE} bytes
+     *
+     * @param v
+     * @param buf
+     * @param pos where to start writing
+     * @return position after the last written byte
+     */
+    public static int encode(double v, byte[] buf, int pos) {
+        long bits = Double.doubleToRawLongBits(v);
+        long t = bits & D_T_MASK;
+        int bq = (int) (bits >>> (D_P - 1)) & D_BQ_MASK;
+        if (bq < D_BQ_MASK) {
+            if (bits < 0) buf[pos++] = '-';
+            if (bq != 0) {
+                // normal value. Here mq = -q
+                int mq = -D_Q_MIN + 1 - bq;
+                long c = D_C_MIN | t;
+                // fast path for integer values
+                if (0 < mq & mq < D_P) {
+                    long f = c >> mq;
+                    if (f << mq == c) {
+                        return doubleChars(f, 0, buf, pos);
+                    }
+                }
+                return toDecimal(-mq, c, 0, buf, pos);
+            }
+            if (t != 0) {
+                // subnormal value
+                return t < D_C_TINY
+                        ? toDecimal(D_Q_MIN, 10 * t, -1, buf, pos)
+                        : toDecimal(D_Q_MIN, t, 0, buf, pos);
+            }
+            buf[pos++] = '0';
+            buf[pos++] = '.';
+            buf[pos++] = '0';
+            return pos;
+        }
+        if (t != 0) return special(NAN, buf, pos);
+        if (bits < 0) buf[pos++] = '-';
+        return special(INFINITY, buf, pos);
+    }
+
+    /**
+     * Encode value into buffer.  Caller must ensure there is room for {@link #MAX_FLOAT_SIZE} bytes
+     *
+     * @param v
+     * @param buf
+     * @param pos where to start writing
+     * @return position after the last written byte
+     */
+    public static int encode(float v, byte[] buf, int pos) {
+        int bits = Float.floatToRawIntBits(v);
+        int t = bits & F_T_MASK;
+        int bq = (bits >>> (F_P - 1)) & F_BQ_MASK;
+        if (bq < F_BQ_MASK) {
+            if (bits < 0) buf[pos++] = '-';
+            if (bq != 0) {
+                // normal value. Here mq = -q
+                int mq = -F_Q_MIN + 1 - bq;
+                int c = F_C_MIN | t;
+                // fast path for integer values
+                if (0 < mq & mq < F_P) {
+                    int f = c >> mq;
+                    if (f << mq == c) {
+                        return floatChars(f, 0, buf, pos);
+                    }
+                }
+                return toDecimal(-mq, c, 0, buf, pos);
+            }
+            if (t != 0) {
+                // subnormal value
+                return t < F_C_TINY
+                        ? toDecimal(F_Q_MIN, 10 * t, -1, buf, pos)
+                        : toDecimal(F_Q_MIN, t, 0, buf, pos);
+            }
+            buf[pos++] = '0';
+            buf[pos++] = '.';
+            buf[pos++] = '0';
+            return pos;
+        }
+        if (t != 0) return special(NAN, buf, pos);
+        if (bits < 0) buf[pos++] = '-';
+        return special(INFINITY, buf, pos);
+    }
+
+    private static int special(byte[] str, byte[] buf, int pos) {
+        System.arraycopy(str, 0, buf, pos, str.length);
+        return pos + str.length;
+    }
+
+    private static int toDecimal(int q, long c, int dk, byte[] buf, int pos) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != D_C_MIN | q == D_Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+
+        int idx = (k - K_MIN) << 1;
+        long g1 = G[idx];
+        long g0 = G[idx + 1];
+
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+
+        long s = vb >> 2;
+        if (s >= 100) {
+            // try to drop a digit: sp10 = 10 floor(s / 10)
+            long sp10 = 10 * multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return doubleChars(upin ? sp10 : tp10, k, buf, pos);
+            }
+        }
+
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return doubleChars(uin ? s : t, k + dk, buf, pos);
+        }
+        // both in range, pick the closest one, or the even one on a tie
+        long cmp = vb - (s + t << 1);
+        return doubleChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, buf, pos);
+    }
+
+    private static int toDecimal(int q, int c, int dk, byte[] buf, int pos) {
+        int out = c & 0x1;
+        long cb = (long) c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != F_C_MIN | q == F_Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 33;
+
+        long g = G[(k - K_MIN) << 1] + 1;
+
+        int vb = rop(g, cb << h);
+        int vbl = rop(g, cbl << h);
+        int vbr = rop(g, cbr << h);
+
+        int s = vb >> 2;
+        if (s >= 100) {
+            // try to drop a digit: sp10 = 10 floor(s / 10)
+            int sp10 = 10 * (int) (s * 1_717_986_919L >>> 34);
+            int tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return floatChars(upin ? sp10 : tp10, k, buf, pos);
+            }
+        }
+
+        int t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return floatChars(uin ? s : t, k + dk, buf, pos);
+        }
+        // both in range, pick the closest one, or the even one on a tie
+        int cmp = vb - (s + t << 1);
+        return floatChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, buf, pos);
+    }
+
+    /**
+     * Computes rop(cp g 2^-127), where g = g1 2^63 + g0
+     */
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * Computes rop(cp g 2^-95)
+     */
+    private static int rop(long g, long cp) {
+        long x1 = multiplyHigh(g, cp);
+        long vbp = x1 >>> 31;
+        return (int) (vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+    }
+
+    /**
+     * Formats the decimal f 10^e
+     */
+    private static int doubleChars(long f, int e, byte[] buf, int pos) {
+        // len such that 10^(len-1) <= f < 10^len
+        int len = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+        if (f >= POW10[len]) {
+            len += 1;
+        }
+        // normalize to 10^(H-1) <= f < 10^H, so that f 10^e = 0.f 10^e
+        f *= POW10[D_H - len];
+        e += len;
+
+        /*
+         * Split the H = 17 digits of f into:
+         *     h = the most significant digit of f
+         *     m = the next 8 most significant digits of f
+         *     l = the last 8, least significant digits of f
+         */
+        long hm = multiplyHigh(f, 193_428_131_138_340_668L) >>> 20;
+        int l = (int) (f - 100_000_000L * hm);
+        int h = (int) (hm * 1_441_151_881L >>> 57);
+        int m = (int) (hm - 100_000_000 * h);
+
+        if (0 < e && e <= 7) {
+            // plain format without leading zeroes
+            buf[pos++] = (byte) ('0' + h);
+            int y = y(m);
+            int t;
+            int i = 1;
+            for (; i < e; ++i) {
+                t = 10 * y;
+                buf[pos++] = (byte) ('0' + (t >>> 28));
+                y = t & MASK_28;
+            }
+            buf[pos++] = '.';
+            for (; i <= 8; ++i) {
+                t = 10 * y;
+                buf[pos++] = (byte) ('0' + (t >>> 28));
+                y = t & MASK_28;
+            }
+            return lowDigits(l, buf, pos);
+        }
+        if (-3 < e && e <= 0) {
+            // plain format with leading zeroes
+            buf[pos++] = '0';
+            buf[pos++] = '.';
+            for (; e < 0; ++e) {
+                buf[pos++] = '0';
+            }
+            buf[pos++] = (byte) ('0' + h);
+            pos = append8Digits(m, buf, pos);
+            return lowDigits(l, buf, pos);
+        }
+        // computerized scientific notation
+        buf[pos++] = (byte) ('0' + h);
+        buf[pos++] = '.';
+        pos = append8Digits(m, buf, pos);
+        pos = lowDigits(l, buf, pos);
+        return exponent(e - 1, buf, pos);
+    }
+
+    /**
+     * Formats the decimal f 10^e
+     */
+    private static int floatChars(int f, int e, byte[] buf, int pos) {
+        // len such that 10^(len-1) <= f < 10^len
+        int len = flog10pow2(Integer.SIZE - Integer.numberOfLeadingZeros(f));
+        if (f >= POW10[len]) {
+            len += 1;
+        }
+        // normalize to 10^(H-1) <= f < 10^H, so that f 10^e = 0.f 10^e
+        f *= (int) POW10[F_H - len];
+        e += len;
+
+        // h = the most significant digit of f, l = the last 8 digits
+        int h = (int) (f * 1_441_151_881L >>> 57);
+        int l = f - 100_000_000 * h;
+
+        if (0 < e && e <= 7) {
+            // plain format without leading zeroes
+            buf[pos++] = (byte) ('0' + h);
+            int y = y(l);
+            int t;
+            int i = 1;
+            for (; i < e; ++i) {
+                t = 10 * y;
+                buf[pos++] = (byte) ('0' + (t >>> 28));
+                y = t & MASK_28;
+            }
+            buf[pos++] = '.';
+            for (; i <= 8; ++i) {
+                t = 10 * y;
+                buf[pos++] = (byte) ('0' + (t >>> 28));
+                y = t & MASK_28;
+            }
+            return removeTrailingZeroes(buf, pos);
+        }
+        if (-3 < e && e <= 0) {
+            // plain format with leading zeroes
+            buf[pos++] = '0';
+            buf[pos++] = '.';
+            for (; e < 0; ++e) {
+                buf[pos++] = '0';
+            }
+            buf[pos++] = (byte) ('0' + h);
+            pos = append8Digits(l, buf, pos);
+            return removeTrailingZeroes(buf, pos);
+        }
+        // computerized scientific notation
+        buf[pos++] = (byte) ('0' + h);
+        buf[pos++] = '.';
+        pos = append8Digits(l, buf, pos);
+        pos = removeTrailingZeroes(buf, pos);
+        return exponent(e - 1, buf, pos);
+    }
+
+    private static int lowDigits(int l, byte[] buf, int pos) {
+        if (l != 0) {
+            pos = append8Digits(l, buf, pos);
+        }
+        return removeTrailingZeroes(buf, pos);
+    }
+
+    private static int append8Digits(int m, byte[] buf, int pos) {
+        // left-to-right digit extraction using fixed point arithmetic
+        int y = y(m);
+        for (int i = 0; i < 8; ++i) {
+            int t = 10 * y;
+            buf[pos++] = (byte) ('0' + (t >>> 28));
+            y = t & MASK_28;
+        }
+        return pos;
+    }
+
+    private static int removeTrailingZeroes(byte[] buf, int pos) {
+        while (buf[pos - 1] == '0') {
+            --pos;
+        }
+        // ... but do not remove the one directly to the right of '.'
+        if (buf[pos - 1] == '.') {
+            ++pos;
+        }
+        return pos;
+    }
+
+    /**
+     * floor((a + 1) 2^28 / 10^8) - 1
+     */
+    private static int y(int a) {
+        return (int) (multiplyHigh((long) (a + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1;
+    }
+
+    private static int exponent(int e, byte[] buf, int pos) {
+        buf[pos++] = 'E';
+        if (e < 0) {
+            buf[pos++] = '-';
+            e = -e;
+        }
+        if (e < 10) {
+            buf[pos++] = (byte) ('0' + e);
+            return pos;
+        }
+        int d;
+        if (e >= 100) {
+            // floor(e / 100)
+            d = e * 1_311 >>> 17;
+            buf[pos++] = (byte) ('0' + d);
+            e -= 100 * d;
+        }
+        // floor(e / 10)
+        d = e * 103 >>> 10;
+        buf[pos++] = (byte) ('0' + d);
+        buf[pos++] = (byte) ('0' + e - 10 * d);
+        return pos;
+    }
+
+    /**
+     * floor(log10(2^e))
+     */
+    private static int flog10pow2(int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * floor(log10(3/4 2^e))
+     */
+    private static int flog10threeQuartersPow2(int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /**
+     * floor(log2(10^e))
+     */
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+    /**
+     * Math.multiplyHigh() for non-negative arguments, which isn't available on Java 8
+     */
+    private static long multiplyHigh(long x, long y) {
+        long x1 = x >>> 32;
+        long x0 = x & MASK_32;
+        long y1 = y >>> 32;
+        long y0 = y & MASK_32;
+        long w0 = x0 * y0;
+        long t = x1 * y0 + (w0 >>> 32);
+        long w1 = (t & MASK_32) + x0 * y1;
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+}
@@ -0,0 +1,130 @@
+package io.quarkus.qson.writer;
+
+/**
+ * Encodes int and long values as ASCII digits directly into a byte array two digits at a time.
+ *
+ * Work is done on negative values so that Integer.MIN_VALUE and Long.MIN_VALUE need no special casing.
+ */
+public final class IntegerEncoder {
+    /**
+     * Maximum number of bytes an int can encode to, including sign
+     */
+    public static final int MAX_INT_SIZE = 11;
+    /**
+     * Maximum number of bytes a long can encode to, including sign
+     */
+    public static final int MAX_LONG_SIZE = 20;
+
+    static final byte[] DIGIT_TENS = new byte[100];
+    static final byte[] DIGIT_ONES = new byte[100];
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (byte) ('0' + i / 10);
+            DIGIT_ONES[i] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private IntegerEncoder() {
+    }
+
+    /**
+     * Number of bytes needed to encode value, including sign
+     *
+     * @param x
+     * @return
+     */
+    public static int size(int x) {
+        int d = 1;
+        if (x >= 0) {
+            d = 0;
+            x = -x;
+        }
+        int p = -10;
+        for (int i = 1; i < 10; i++) {
+            if (x > p) return i + d;
+            p = 10 * p;
+        }
+        return 10 + d;
+    }
+
+    /**
+     * Number of bytes needed to encode value, including sign
+     *
+     * @param x
+     * @return
+     */
+    public static int size(long x) {
+        int d = 1;
+        if (x >= 0) {
+            d = 0;
+            x = -x;
+        }
+        long p = -10;
+        for (int i = 1; i < 19; i++) {
+            if (x > p) return i + d;
+            p = 10 * p;
+        }
+        return 19 + d;
+    }
+
+    /**
+     * Encode value into buffer.  Caller must ensure there is room for {@link #MAX_INT_SIZE} bytes
+     *
+     * @param val
+     * @param buf
+     * @param pos where to start writing
+     * @return position after the last written byte
+     */
+    public static int encode(int val, byte[] buf, int pos) {
+        int end = pos + size(val);
+        writeNegative(val < 0 ? val : -val, buf, end);
+        if (val < 0) buf[pos] = '-';
+        return end;
+    }
+
+    /**
+     * Encode value into buffer.  Caller must ensure there is room for {@link #MAX_LONG_SIZE} bytes
+     *
+     * @param val
+     * @param buf
+     * @param pos where to start writing
+     * @return position after the last written byte
+     */
+    public static int encode(long val, byte[] buf, int pos) {
+        int end = pos + size(val);
+        long i = val < 0 ? val : -val;
+        int p = end;
+        // 64 bit division only while value does not fit into an int
+        while (i < Integer.MIN_VALUE) {
+            long q = i / 100;
+            int r = (int) ((q * 100) - i);
+            i = q;
+            buf[--p] = DIGIT_ONES[r];
+            buf[--p] = DIGIT_TENS[r];
+        }
+        writeNegative((int) i, buf, p);
+        if (val < 0) buf[pos] = '-';
+        return end;
+    }
+
+    /**
+     * Write digits of a non-positive value ending at end (exclusive)
+     */
+    private static void writeNegative(int i, byte[] buf, int end) {
+        int p = end;
+        while (i <= -100) {
+            int q = i / 100;
+            int r = (q * 100) - i;
+            i = q;
+            buf[--p] = DIGIT_ONES[r];
+            buf[--p] = DIGIT_TENS[r];
+        }
+        if (i <= -10) {
+            int r = -i;
+            buf[--p] = DIGIT_ONES[r];
+            buf[--p] = DIGIT_TENS[r];
+        } else {
+            buf[--p] = (byte) ('0' - i);
+        }
+    }
+}
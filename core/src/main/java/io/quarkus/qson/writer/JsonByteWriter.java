@@ -1,8 +1,12 @@
 package io.quarkus.qson.writer;
 
 import io.quarkus.qson.QsonException;
+import io.quarkus.qson.util.DoubleList;
 import io.quarkus.qson.util.IntChar;
+import io.quarkus.qson.util.IntList;
+import io.quarkus.qson.util.LongList;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
@@ -50,36 +54,42 @@ public abstract class JsonByteWriter implements JsonWriter {
         writeByte(IntChar.INT_QUOTE);
     }
 
+    // scratch space for writers that can't encode numbers and dates directly into their own buffer
+    private byte[] numberBuffer;
+
+    /**
+     * Write a range of bytes.  Subclasses backed by an array or stream should override this.
+     *
+     * @param bytes
+     * @param offset
+     * @param length
+     */
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            writeByte(bytes[i]);
+        }
+    }
+
+    byte[] numberBuffer() {
+        if (numberBuffer == null) numberBuffer = new byte[Math.max(DoubleEncoder.MAX_DOUBLE_SIZE, DateTimeEncoder.MAX_SIZE)];
+        return numberBuffer;
+    }
+
     @Override
     public void write(short val) {
-        write((long)val);
+        write((int)val);
     }
 
     @Override
     public void write(int val) {
-        write((long)val);
+        byte[] buf = numberBuffer();
+        writeBytes(buf, 0, IntegerEncoder.encode(val, buf, 0));
     }
 
     @Override
-    public void write(long x) {
-        long places = 1;
-        long n = x / 10;
-        for (; n != 0; n /= 10l) places *= 10l;
-
-        if (x < 0) {
-            writeByte('-');
-            for (long place = places; place >=1; place /= 10l) {
-                int i = (int)(x / place);
-                writeByte('0' - i);
-                x -= i * place;
-            }
-        } else {
-            for (long place = places; place >=1; place /= 10l) {
-                int i = (int)(x / place);
-                writeByte('0' + i);
-                x -= i * place;
-            }
-        }
+    public void write(long val) {
+        byte[] buf = numberBuffer();
+        writeBytes(buf, 0, IntegerEncoder.encode(val, buf, 0));
     }
 
     @Override
@@ -90,17 +100,19 @@ public abstract class JsonByteWriter implements JsonWriter {
 
     @Override
     public void write(byte val) {
-        write((long)val);
+        write((int)val);
     }
 
     @Override
     public void write(float val) {
-        writeBytes(Float.toString(val).getBytes(UTF8));
+        byte[] buf = numberBuffer();
+        writeBytes(buf, 0, DoubleEncoder.encode(val, buf, 0));
     }
 
     @Override
     public void write(double val) {
-        writeBytes(Double.toString(val).getBytes(UTF8));
+        byte[] buf = numberBuffer();
+        writeBytes(buf, 0, DoubleEncoder.encode(val, buf, 0));
     }
 
     @Override
@@ -115,13 +127,13 @@ public abstract class JsonByteWriter implements JsonWriter {
 
     @Override
     public void write(Short val) {
-        write(val.longValue());
+        write(val.intValue());
 
     }
 
     @Override
     public void write(Integer val) {
-        write(val.longValue());
+        write(val.intValue());
 
     }
 
@@ -138,7 +150,7 @@ public abstract class JsonByteWriter implements JsonWriter {
 
     @Override
     public void write(Byte val) {
-        write(val.longValue());
+        write(val.intValue());
     }
 
     @Override
@@ -157,18 +169,26 @@ public abstract class JsonByteWriter implements JsonWriter {
     public void write(String val) {
         writeByte(IntChar.INT_QUOTE);
         final int[] escCodes = sOutputEscapes128;
-        for (int i = 0; i < val.length(); i++) {
-            int ch = val.charAt(i);
+        final int len = val.length();
+        int i = 0;
+        while (i < len) {
+            // find the run of characters that can be copied as is
+            int runStart = i;
+            int ch = 0;
+            for (; i < len; i++) {
+                ch = val.charAt(i);
+                if (ch > 0x7F || escCodes[ch] != 0) break;
+            }
+            if (i > runStart) writeAscii(val, runStart, i);
+            if (i == len) break;
             if (ch <= 0x7F) {
                 int escape = escCodes[ch];
-                if (escape == 0) {
-                    writeByte(ch);
-                } else if (escape > 0) { // 2-char escape
+                if (escape > 0) { // 2-char escape
                     writeByte(IntChar.INT_BACKSLASH);
                     writeByte(escape);
                 } else {
                     // ctrl-char, 6-byte escape...
-                   writeGenericEscape(ch);
+                    writeGenericEscape(ch);
                 }
             } else if (ch <= 0x7FF) { // fine, just needs 2 byte output
                 writeByte(0xc0 | (ch >> 6));
@@ -176,10 +196,35 @@ public abstract class JsonByteWriter implements JsonWriter {
             } else {
                 outputMultiByteChar(ch);
             }
+            i++;
         }
         writeByte(IntChar.INT_QUOTE);
     }
 
+    // scratch space for copying ascii runs for writers that can't copy directly into their own buffer
+    private byte[] asciiBuffer;
+
+    /**
+     * Write characters of val between start and end.  All characters are guaranteed to be ascii and need no escaping.
+     * Writers backed by a byte array should override this to copy directly into their buffer.
+     *
+     * @param val
+     * @param start
+     * @param end
+     */
+    @SuppressWarnings("deprecation")
+    protected void writeAscii(String val, int start, int end) {
+        if (asciiBuffer == null) asciiBuffer = new byte[256];
+        byte[] buf = asciiBuffer;
+        while (start < end) {
+            int chunk = Math.min(end - start, buf.length);
+            // copies the low byte of each char, a straight array copy for latin-1 compact strings
+            val.getBytes(start, start + chunk, buf, 0);
+            writeBytes(buf, 0, chunk);
+            start += chunk;
+        }
+    }
+
     @Override
     public void write(Enum e) {
         write(e.name());
@@ -288,11 +333,149 @@ public abstract class JsonByteWriter implements JsonWriter {
             write((Character) obj);
         } else if (obj instanceof Enum) {
             write((Enum)obj);
+        } else if (obj instanceof int[]) {
+            write((int[])obj);
+        } else if (obj instanceof long[]) {
+            write((long[])obj);
+        } else if (obj instanceof short[]) {
+            write((short[])obj);
+        } else if (obj instanceof float[]) {
+            write((float[])obj);
+        } else if (obj instanceof double[]) {
+            write((double[])obj);
+        } else if (obj instanceof boolean[]) {
+            write((boolean[])obj);
+        } else if (obj instanceof IntList) {
+            write((IntList)obj);
+        } else if (obj instanceof LongList) {
+            write((LongList)obj);
+        } else if (obj instanceof DoubleList) {
+            write((DoubleList)obj);
+        } else if (obj instanceof byte[] || obj instanceof ByteBuffer) {
+            Base64Writer.STANDARD.write(this, obj);
         } else {
             throw new QsonException("Unable to determine type to write: " + obj.getClass().getName());
         }
     }
 
+    @Override
+    public void write(int[] val) {
+        writeByte(IntChar.INT_LBRACKET);
+        for (int i = 0; i < val.length; i++) {
+            if (i > 0) writeByte(IntChar.INT_COMMA);
+            write(val[i]);
+        }
+        writeByte(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void write(long[] val) {
+        writeByte(IntChar.INT_LBRACKET);
+        for (int i = 0; i < val.length; i++) {
+            if (i > 0) writeByte(IntChar.INT_COMMA);
+            write(val[i]);
+        }
+        writeByte(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void write(short[] val) {
+        writeByte(IntChar.INT_LBRACKET);
+        for (int i = 0; i < val.length; i++) {
+            if (i > 0) writeByte(IntChar.INT_COMMA);
+            write(val[i]);
+        }
+        writeByte(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void write(float[] val) {
+        writeByte(IntChar.INT_LBRACKET);
+        for (int i = 0; i < val.length; i++) {
+            if (i > 0) writeByte(IntChar.INT_COMMA);
+            write(val[i]);
+        }
+        writeByte(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void write(double[] val) {
+        writeByte(IntChar.INT_LBRACKET);
+        for (int i = 0; i < val.length; i++) {
+            if (i > 0) writeByte(IntChar.INT_COMMA);
+            write(val[i]);
+        }
+        writeByte(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void write(boolean[] val) {
+        writeByte(IntChar.INT_LBRACKET);
+        for (int i = 0; i < val.length; i++) {
+            if (i > 0) writeByte(IntChar.INT_COMMA);
+            write(val[i]);
+        }
+        writeByte(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void write(IntList val) {
+        int[] values = val.getBuffer();
+        int size = val.size();
+        writeByte(IntChar.INT_LBRACKET);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) writeByte(IntChar.INT_COMMA);
+            write(values[i]);
+        }
+        writeByte(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void write(LongList val) {
+        long[] values = val.getBuffer();
+        int size = val.size();
+        writeByte(IntChar.INT_LBRACKET);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) writeByte(IntChar.INT_COMMA);
+            write(values[i]);
+        }
+        writeByte(IntChar.INT_RBRACKET);
+    }
+
+    @Override
+    public void write(DoubleList val) {
+        double[] values = val.getBuffer();
+        int size = val.size();
+        writeByte(IntChar.INT_LBRACKET);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) writeByte(IntChar.INT_COMMA);
+            write(values[i]);
+        }
+        writeByte(IntChar.INT_RBRACKET);
+    }
+
+    // scratch space for writers that can't encode base64 directly into their own buffer
+    private byte[] base64Buffer;
+
+    /**
+     * Writers backed by a byte array should override this to encode directly into their buffer.
+     */
+    @Override
+    public void writeBase64(byte[] val, int offset, int length, boolean urlSafe) {
+        if (base64Buffer == null) base64Buffer = new byte[1024];
+        byte[] buf = base64Buffer;
+        // whole groups of 3 bytes per chunk so that padding only happens at the end
+        int chunk = buf.length / 4 * 3;
+        writeByte(IntChar.INT_QUOTE);
+        int end = offset + length;
+        while (offset < end) {
+            int size = Math.min(end - offset, chunk);
+            writeBytes(buf, 0, Base64Encoder.encode(val, offset, size, urlSafe, buf, 0));
+            offset += size;
+        }
+        writeByte(IntChar.INT_QUOTE);
+    }
+
     @Override
     public void write(Map val) {
         writeByte(IntChar.INT_LCURLY);
@@ -684,4 +867,280 @@ public abstract class JsonByteWriter implements JsonWriter {
         writeByte(IntChar.INT_RBRACKET);
         return true;
     }
+
+    /**
+     * Encode a property name once as ,"name": for use with the writeProperty(byte[]...) methods.
+     * The name is escaped and UTF-8 encoded.  Writers skip the leading comma for the first property.
+     *
+     * @param name
+     * @return
+     */
+    public static byte[] encodePropertyName(String name) {
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter(name.length() + 8);
+        writer.writeByte(IntChar.INT_COMMA);
+        writer.write(name);
+        writer.writeByte(IntChar.INT_COLON);
+        return writer.toByteArray();
+    }
+
+    private void writePropertyName(byte[] name, boolean comma) {
+        if (comma) writeBytes(name);
+        else writeBytes(name, 1, name.length - 1);
+    }
+
+    @Override
+    public void writeProperty(byte[] name, char val, boolean comma) {
+        writePropertyName(name, comma);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(byte[] name, short val, boolean comma) {
+        writePropertyName(name, comma);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(byte[] name, int val, boolean comma) {
+        writePropertyName(name, comma);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(byte[] name, long val, boolean comma) {
+        writePropertyName(name, comma);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(byte[] name, byte val, boolean comma) {
+        writePropertyName(name, comma);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(byte[] name, float val, boolean comma) {
+        writePropertyName(name, comma);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(byte[] name, double val, boolean comma) {
+        writePropertyName(name, comma);
+        write(val);
+    }
+
+    @Override
+    public void writeProperty(byte[] name, boolean val, boolean comma) {
+        writePropertyName(name, comma);
+        if (val) {
+            writeBytes(TRUE);
+        } else {
+            writeBytes(FALSE);
+        }
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Character val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Short val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Integer val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Long val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Boolean val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Byte val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Float val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Double val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, String val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Enum val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Map val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeObjectProperty(byte[] name, Object val, QsonObjectWriter writer, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        writer.write(this, val);
+        return true;
+    }
+
+    @Override
+    public boolean writeObjectProperty(byte[] name, Object val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        writeObject(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Collection val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        try {
+            write(val);
+        } catch (RuntimeException e) {
+            throw new QsonException("Failed to write collection property: " + new String(name, 1, name.length - 1, UTF8), e);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Map val, QsonObjectWriter objectWriter, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val, objectWriter);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, Collection val, QsonObjectWriter objectWriter, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val, objectWriter);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, int[] val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, long[] val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, short[] val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, float[] val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, double[] val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, boolean[] val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, IntList val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, LongList val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
+
+    @Override
+    public boolean writeProperty(byte[] name, DoubleList val, boolean comma) {
+        if (val == null) return comma;
+        writePropertyName(name, comma);
+        write(val);
+        return true;
+    }
 }
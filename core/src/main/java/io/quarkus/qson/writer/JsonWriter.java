@@ -1,5 +1,9 @@
 package io.quarkus.qson.writer;
 
+import io.quarkus.qson.util.DoubleList;
+import io.quarkus.qson.util.IntList;
+import io.quarkus.qson.util.LongList;
+
 import java.util.Collection;
 import java.util.Map;
 
@@ -57,6 +61,29 @@ public interface JsonWriter {
 
     void write(Enum e);
 
+    /*
+     * Primitive arrays and lists are written element by element without boxing
+     */
+    void write(int[] val);
+    void write(long[] val);
+    void write(short[] val);
+    void write(float[] val);
+    void write(double[] val);
+    void write(boolean[] val);
+    void write(IntList val);
+    void write(LongList val);
+    void write(DoubleList val);
+
+    /**
+     * Write binary data as a quoted Base64 string.  See {@link Base64Encoder}
+     *
+     * @param val
+     * @param offset
+     * @param length
+     * @param urlSafe use the URL and filename safe alphabet
+     */
+    void writeBase64(byte[] val, int offset, int length, boolean urlSafe);
+
     void writeObject(Object obj);
     void write(Map val);
 
@@ -94,4 +121,46 @@ public interface JsonWriter {
     boolean writeProperty(String name, Collection list, boolean comma);
     boolean writeProperty(String name, Map map, QsonObjectWriter writer, boolean comma);
     boolean writeProperty(String name, Collection list, QsonObjectWriter writer, boolean comma);
+
+    /*
+     * Property writes that take a pre-encoded name of the form ,"name":  The leading comma is skipped when
+     * comma is false.  See JsonByteWriter.encodePropertyName()
+     */
+    void writeProperty(byte[] name, char val, boolean comma);
+    void writeProperty(byte[] name, short val, boolean comma);
+    void writeProperty(byte[] name, int val, boolean comma);
+    void writeProperty(byte[] name, long val, boolean comma);
+    void writeProperty(byte[] name, boolean val, boolean comma);
+    void writeProperty(byte[] name, byte val, boolean comma);
+    void writeProperty(byte[] name, float val, boolean comma);
+    void writeProperty(byte[] name, double val, boolean comma);
+    boolean writeProperty(byte[] name, Character val, boolean comma);
+    boolean writeProperty(byte[] name, Short val, boolean comma);
+    boolean writeProperty(byte[] name, Integer val, boolean comma);
+    boolean writeProperty(byte[] name, Long val, boolean comma);
+    boolean writeProperty(byte[] name, Boolean val, boolean comma);
+    boolean writeProperty(byte[] name, Byte val, boolean comma);
+    boolean writeProperty(byte[] name, Float val, boolean comma);
+    boolean writeProperty(byte[] name, Double val, boolean comma);
+    boolean writeProperty(byte[] name, String val, boolean comma);
+
+    boolean writeProperty(byte[] name, Enum val, boolean comma);
+
+    boolean writeObjectProperty(byte[] name, Object obj, QsonObjectWriter writer, boolean comma);
+    boolean writeObjectProperty(byte[] name, Object obj, boolean comma);
+
+    boolean writeProperty(byte[] name, Map map, boolean comma);
+    boolean writeProperty(byte[] name, Collection list, boolean comma);
+    boolean writeProperty(byte[] name, Map map, QsonObjectWriter writer, boolean comma);
+    boolean writeProperty(byte[] name, Collection list, QsonObjectWriter writer, boolean comma);
+
+    boolean writeProperty(byte[] name, int[] val, boolean comma);
+    boolean writeProperty(byte[] name, long[] val, boolean comma);
+    boolean writeProperty(byte[] name, short[] val, boolean comma);
+    boolean writeProperty(byte[] name, float[] val, boolean comma);
+    boolean writeProperty(byte[] name, double[] val, boolean comma);
+    boolean writeProperty(byte[] name, boolean[] val, boolean comma);
+    boolean writeProperty(byte[] name, IntList val, boolean comma);
+    boolean writeProperty(byte[] name, LongList val, boolean comma);
+    boolean writeProperty(byte[] name, DoubleList val, boolean comma);
 }
@@ -0,0 +1,74 @@
+package io.quarkus.qson.writer;
+
+import java.io.OutputStream;
+
+/**
+ * Writes newline delimited json (NDJSON, JSON Lines).  Every record is written with the same
+ * {@link QsonObjectWriter} to the same {@link JsonByteWriter} followed by a '\n'.
+ *
+ * Not thread safe.
+ */
+public class NdjsonWriter {
+    protected final QsonObjectWriter objectWriter;
+    protected final JsonByteWriter writer;
+
+    /**
+     * Write records to an existing json writer
+     *
+     * @param objectWriter
+     * @param writer
+     */
+    public NdjsonWriter(QsonObjectWriter objectWriter, JsonByteWriter writer) {
+        this.objectWriter = objectWriter;
+        this.writer = writer;
+    }
+
+    /**
+     * Write records to an OutputStream through an 8k buffer.  Call {@link #flush()} when done.
+     *
+     * @param objectWriter
+     * @param os
+     */
+    public NdjsonWriter(QsonObjectWriter objectWriter, OutputStream os) {
+        this(objectWriter, new BufferedStreamJsonWriter(os, 8192));
+    }
+
+    /**
+     * Write one record and its newline
+     *
+     * @param record
+     */
+    public void write(Object record) {
+        objectWriter.write(writer, record);
+        writer.writeByte('\n');
+    }
+
+    /**
+     * Write each record on its own line
+     *
+     * @param records
+     */
+    public void writeAll(Iterable<?> records) {
+        for (Object record : records) {
+            write(record);
+        }
+    }
+
+    /**
+     * Underlying json writer
+     *
+     * @return
+     */
+    public JsonByteWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * Flush buffered bytes if writing through a {@link BufferedStreamJsonWriter}
+     */
+    public void flush() {
+        if (writer instanceof BufferedStreamJsonWriter) {
+            ((BufferedStreamJsonWriter) writer).flush();
+        }
+    }
+}
@@ -3,6 +3,10 @@ package io.quarkus.qson.writer;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * ISO 8601 and RFC 1123 are encoded straight into the buffer of a {@link JsonByteWriter} by {@link DateTimeEncoder}.
+ * Other writers, years it can't encode, and custom patterns go through the DateTimeFormatter.
+ */
 public class OffsetDateTimeStringWriter implements QsonObjectWriter {
 
     public static final OffsetDateTimeStringWriter ISO_8601_OFFSET_DATE_TIME = new OffsetDateTimeStringWriter(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
@@ -21,6 +25,19 @@ public class OffsetDateTimeStringWriter implements QsonObjectWriter {
     @Override
     public void write(JsonWriter writer, Object target) {
         OffsetDateTime date = (OffsetDateTime)target;
+        if (writer instanceof JsonByteWriter) {
+            JsonByteWriter byteWriter = (JsonByteWriter) writer;
+            int end = -1;
+            if (formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+                end = DateTimeEncoder.encodeIso8601(date, byteWriter.numberBuffer(), 0);
+            } else if (formatter == DateTimeFormatter.RFC_1123_DATE_TIME) {
+                end = DateTimeEncoder.encodeRfc1123(date, byteWriter.numberBuffer(), 0);
+            }
+            if (end > 0) {
+                byteWriter.writeBytes(byteWriter.numberBuffer(), 0, end);
+                return;
+            }
+        }
         writer.write(date.format(formatter));
     }
 }
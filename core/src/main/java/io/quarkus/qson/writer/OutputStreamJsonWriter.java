@@ -34,4 +34,13 @@ public class OutputStreamJsonWriter extends JsonByteWriter {
             throw new QsonException(e);
         }
     }
+
+    @Override
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        try {
+            stream.write(bytes, offset, length);
+        } catch (IOException e) {
+            throw new QsonException(e);
+        }
+    }
 }
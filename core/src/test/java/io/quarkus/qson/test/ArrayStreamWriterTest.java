@@ -0,0 +1,53 @@
+package io.quarkus.qson.test;
+
+import io.quarkus.qson.writer.ArrayStreamWriter;
+import io.quarkus.qson.writer.ByteArrayJsonWriter;
+import io.quarkus.qson.writer.ChunkedJsonWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class ArrayStreamWriterTest {
+
+    @Test
+    public void testArrayStreamWriter() {
+        List<Integer> chunks = new ArrayList<>();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        ChunkedJsonWriter writer = new ChunkedJsonWriter(64, (bytes, length) -> {
+            chunks.add(length);
+            os.write(bytes, 0, length);
+        });
+        int size = 1000000;
+        Iterator<Integer> elements = IntStream.range(0, size).iterator();
+        ArrayStreamWriter array = new ArrayStreamWriter((w, target) -> w.write((Integer) target), elements);
+        // pause whenever a chunk has been handed off, like a full write queue
+        int pauses = 0;
+        int handedOff = 0;
+        while (true) {
+            int before = chunks.size();
+            if (array.write(writer, () -> chunks.size() > before)) break;
+            pauses++;
+            handedOff = chunks.size();
+        }
+        writer.flush();
+        Assertions.assertTrue(array.isComplete());
+        Assertions.assertTrue(pauses > size / 20, "" + pauses);
+        Assertions.assertTrue(handedOff < chunks.size());
+        for (int length : chunks) Assertions.assertTrue(length <= 64);
+
+        String json = new String(os.toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(json.startsWith("[0,1,2,"));
+        Assertions.assertTrue(json.endsWith(",999998,999999]"));
+        Assertions.assertEquals(size - 1, json.chars().filter(c -> c == ',').count());
+
+        ByteArrayJsonWriter empty = new ByteArrayJsonWriter();
+        new ArrayStreamWriter((w, target) -> w.write((Integer) target), new ArrayList<>()).write(empty);
+        Assertions.assertEquals("[]", new String(empty.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
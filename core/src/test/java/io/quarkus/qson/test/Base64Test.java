@@ -0,0 +1,113 @@
+package io.quarkus.qson.test;
+
+import io.quarkus.qson.QsonException;
+import io.quarkus.qson.parser.Base64Parser;
+import io.quarkus.qson.parser.ByteArrayParserContext;
+import io.quarkus.qson.parser.ByteBufferBase64Parser;
+import io.quarkus.qson.parser.ByteBufferParserContext;
+import io.quarkus.qson.parser.ListParser;
+import io.quarkus.qson.parser.ObjectParser;
+import io.quarkus.qson.writer.Base64Writer;
+import io.quarkus.qson.writer.ByteArrayJsonWriter;
+import io.quarkus.qson.writer.OutputStreamJsonWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+public class Base64Test {
+
+    static String write(Base64Writer base64, Object val) {
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter(4);
+        base64.write(writer, val);
+        return new String(writer.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Random random = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            byte[] bytes = new byte[random.nextInt(i < 100 ? 10 : 3000)];
+            random.nextBytes(bytes);
+            String standard = write(Base64Writer.STANDARD, bytes);
+            Assertions.assertEquals("\"" + Base64.getEncoder().encodeToString(bytes) + "\"", standard);
+            String url = write(Base64Writer.URL, bytes);
+            Assertions.assertEquals("\"" + Base64.getUrlEncoder().encodeToString(bytes) + "\"", url);
+
+            Assertions.assertArrayEquals(bytes, Base64Parser.PARSER.read(standard.getBytes(StandardCharsets.UTF_8)));
+            Assertions.assertArrayEquals(bytes, Base64Parser.PARSER.read(url.getBytes(StandardCharsets.UTF_8)));
+            ByteBuffer buffer = ByteBufferBase64Parser.PARSER.read(ByteBuffer.wrap(standard.getBytes(StandardCharsets.UTF_8)));
+            Assertions.assertEquals(ByteBuffer.wrap(bytes), buffer);
+
+            // token split across buffers
+            ByteArrayParserContext ctx = new ByteArrayParserContext(Base64Parser.PARSER);
+            byte[] json = url.getBytes(StandardCharsets.UTF_8);
+            for (int j = 0; j < json.length; j += 7) {
+                ctx.parse(json, j, Math.min(7, json.length - j));
+            }
+            Assertions.assertArrayEquals(bytes, ctx.finish());
+        }
+    }
+
+    @Test
+    public void testStreamWriter() {
+        byte[] bytes = new byte[5000];
+        new Random(3).nextBytes(bytes);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        Base64Writer.URL.write(new OutputStreamJsonWriter(os), bytes);
+        Assertions.assertEquals("\"" + Base64.getUrlEncoder().encodeToString(bytes) + "\"", new String(os.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testByteBufferWriter() {
+        byte[] bytes = "hello world".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.wrap(bytes, 2, 5).slice();
+        Assertions.assertEquals("\"bGxvIHc=\"", write(Base64Writer.STANDARD, heap));
+        Assertions.assertEquals(0, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        Assertions.assertEquals("\"aGVsbG8gd29ybGQ=\"", write(Base64Writer.STANDARD, direct));
+        Assertions.assertEquals(0, direct.position());
+    }
+
+    @Test
+    public void testParseVariants() {
+        byte[] bytes = {(byte) 0xfb, (byte) 0xff, (byte) 0xbf, 1};
+        Assertions.assertArrayEquals(bytes, Base64Parser.PARSER.read("\"+/+/AQ==\"".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertArrayEquals(bytes, Base64Parser.PARSER.read("\"-_-_AQ\"".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertArrayEquals(bytes, Base64Parser.PARSER.read("\"+\\/+\\/AQ==\"".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertArrayEquals(new byte[0], Base64Parser.PARSER.read("\"\"".getBytes(StandardCharsets.UTF_8)));
+
+        ByteBufferParserContext ctx = new ByteBufferParserContext(Base64Parser.PARSER);
+        Assertions.assertArrayEquals(bytes, ctx.finish(new ByteBuffer[]{
+                ByteBuffer.wrap("\"+/+".getBytes(StandardCharsets.UTF_8)),
+                ByteBuffer.wrap("/AQ==\"".getBytes(StandardCharsets.UTF_8))}));
+
+        Assertions.assertThrows(QsonException.class, () -> Base64Parser.PARSER.read("\"AQ=A\"".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThrows(QsonException.class, () -> Base64Parser.PARSER.read("\"AQ A\"".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThrows(QsonException.class, () -> Base64Parser.PARSER.read("\"AQIDB\"".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThrows(QsonException.class, () -> Base64Parser.PARSER.read("\"AQ\\n\"".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testList() {
+        ListParser parser = new ListParser(Base64Parser.PARSER.value, ObjectParser.PARSER.startStringValue);
+        ByteArrayParserContext ctx = new ByteArrayParserContext(parser);
+        List<byte[]> list = ctx.finish("[\"AQID\", null, \"\"]");
+        Assertions.assertEquals(3, list.size());
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3}, list.get(0));
+        Assertions.assertNull(list.get(1));
+        Assertions.assertEquals(0, list.get(2).length);
+
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter();
+        writer.write(Arrays.asList(new byte[]{1, 2, 3}, ByteBuffer.wrap(new byte[]{4})));
+        Assertions.assertEquals("[\"AQID\",\"BA==\"]", new String(writer.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
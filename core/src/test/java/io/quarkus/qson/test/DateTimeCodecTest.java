@@ -0,0 +1,161 @@
+package io.quarkus.qson.test;
+
+import io.quarkus.qson.QsonException;
+import io.quarkus.qson.parser.ByteArrayParserContext;
+import io.quarkus.qson.parser.DateUtilStringParser;
+import io.quarkus.qson.parser.ListParser;
+import io.quarkus.qson.parser.ObjectParser;
+import io.quarkus.qson.parser.OffsetDateTimeStringParser;
+import io.quarkus.qson.parser.QsonParser;
+import io.quarkus.qson.writer.ByteArrayJsonWriter;
+import io.quarkus.qson.writer.DateUtilStringWriter;
+import io.quarkus.qson.writer.OffsetDateTimeStringWriter;
+import io.quarkus.qson.writer.QsonObjectWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class DateTimeCodecTest {
+
+    static String write(QsonObjectWriter objectWriter, Object val) {
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter();
+        objectWriter.write(writer, val);
+        return new String(writer.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    static <T> T read(QsonParser parser, String json) {
+        ByteArrayParserContext ctx = new ByteArrayParserContext(parser);
+        return ctx.finish(json);
+    }
+
+    static OffsetDateTime random(Random random) {
+        long second = (long) (random.nextDouble() * 253402300799L) - 62135596800L / 2;
+        int nanos = random.nextInt(4) == 0 ? 0 : random.nextInt(1000000000);
+        if (random.nextBoolean()) nanos = nanos / 1000000 * 1000000;
+        int offset = random.nextInt(4) == 0 ? 0 : (random.nextInt(18 * 4 * 2 + 1) - 18 * 4) * 15 * 60;
+        if (random.nextInt(10) == 0) offset = random.nextInt(18 * 3600 * 2 + 1) - 18 * 3600;
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(second, nanos), ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    @Test
+    public void testOffsetDateTime() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            OffsetDateTime val = random(random);
+            if (val.getYear() < 0 || val.getYear() > 9999) continue;
+            String iso = write(OffsetDateTimeStringWriter.ISO_8601_OFFSET_DATE_TIME, val);
+            Assertions.assertEquals("\"" + val.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) + "\"", iso);
+            Assertions.assertEquals(val, read(OffsetDateTimeStringParser.ISO_8601_OFFSET_DATE_TIME, iso));
+
+            OffsetDateTime seconds = val.withNano(0);
+            if (seconds.getOffset().getTotalSeconds() % 60 != 0) continue;
+            String rfc = write(OffsetDateTimeStringWriter.RFC_1123_DATE_TIME, seconds);
+            Assertions.assertEquals("\"" + seconds.format(DateTimeFormatter.RFC_1123_DATE_TIME) + "\"", rfc);
+            Assertions.assertEquals(seconds, read(OffsetDateTimeStringParser.RFC_1123_DATE_TIME, rfc));
+        }
+    }
+
+    @Test
+    public void testDate() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10000; i++) {
+            Date val = new Date(random.nextLong() % 253402300799000L);
+            if (val.getTime() < -62135596800000L) continue;
+            String iso = write(DateUtilStringWriter.ISO_8601_OFFSET_DATE_TIME, val);
+            Assertions.assertEquals("\"" + DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").format(val.toInstant().atOffset(ZoneOffset.UTC)) + "\"", iso);
+            Assertions.assertEquals(val, read(DateUtilStringParser.ISO_8601_OFFSET_DATE_TIME, iso));
+
+            Date seconds = new Date(Math.floorDiv(val.getTime(), 1000L) * 1000);
+            String rfc = write(DateUtilStringWriter.RFC_1123_DATE_TIME, seconds);
+            Assertions.assertEquals(seconds, read(DateUtilStringParser.RFC_1123_DATE_TIME, rfc));
+        }
+        Assertions.assertEquals("\"Tue, 03 Jun 2008 11:05:30 GMT\"", write(DateUtilStringWriter.RFC_1123_DATE_TIME, new Date(1212491130000L)));
+    }
+
+    @Test
+    public void testParseVariants() {
+        long millis = 1212491130000L;
+        Assertions.assertEquals(new Date(millis), read(DateUtilStringParser.ISO_8601_OFFSET_DATE_TIME, "\"2008-06-03T11:05:30Z\""));
+        Assertions.assertEquals(new Date(millis + 500), read(DateUtilStringParser.ISO_8601_OFFSET_DATE_TIME, "\"2008-06-03T13:05:30.5+02\""));
+        Assertions.assertEquals(new Date(millis + 123), read(DateUtilStringParser.ISO_8601_OFFSET_DATE_TIME, "\"2008-06-03T06:35:30.123456-0430\""));
+        Assertions.assertEquals(new Date(millis - 30000), read(DateUtilStringParser.ISO_8601_OFFSET_DATE_TIME, "\"2008-06-03T11:05Z\""));
+        Assertions.assertEquals(new Date(millis), read(DateUtilStringParser.RFC_1123_DATE_TIME, "\"Tue, 3 Jun 2008 11:05:30 GMT\""));
+        Assertions.assertEquals(new Date(millis), read(DateUtilStringParser.RFC_1123_DATE_TIME, "\"3 Jun 2008 07:05:30 EDT\""));
+        Assertions.assertEquals(new Date(millis), read(DateUtilStringParser.RFC_1123_DATE_TIME, "\"Tue, 03 Jun 2008 13:05:30 +0200\""));
+        Assertions.assertEquals(OffsetDateTime.of(2008, 6, 3, 11, 5, 30, 0, ZoneOffset.ofHours(-5)),
+                read(OffsetDateTimeStringParser.RFC_1123_DATE_TIME, "\"Tue, 3 Jun 2008 11:05:30 -0500\""));
+
+        // SimpleDateFormat output in whatever zone the JVM runs in
+        Date now = new Date(System.currentTimeMillis() / 1000 * 1000);
+        for (String zone : new String[]{"UTC", "America/New_York", "Asia/Kolkata", "Europe/Paris"}) {
+            SimpleDateFormat iso = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+            iso.setTimeZone(TimeZone.getTimeZone(zone));
+            Assertions.assertEquals(now, read(DateUtilStringParser.ISO_8601_OFFSET_DATE_TIME, "\"" + iso.format(now) + "\""));
+            // IST is ambiguous to SimpleDateFormat
+            if (zone.equals("Asia/Kolkata")) continue;
+            SimpleDateFormat rfc = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+            rfc.setTimeZone(TimeZone.getTimeZone(zone));
+            Assertions.assertEquals(now, read(DateUtilStringParser.RFC_1123_DATE_TIME, "\"" + rfc.format(now) + "\""));
+        }
+    }
+
+    @Test
+    public void testUnsupportedFallsBack() {
+        OffsetDateTime farFuture = OffsetDateTime.of(12345, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+        String json = write(OffsetDateTimeStringWriter.ISO_8601_OFFSET_DATE_TIME, farFuture);
+        Assertions.assertEquals("\"" + farFuture.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) + "\"", json);
+        Assertions.assertEquals(farFuture, read(OffsetDateTimeStringParser.ISO_8601_OFFSET_DATE_TIME, json));
+
+        Assertions.assertThrows(QsonException.class, () -> read(DateUtilStringParser.ISO_8601_OFFSET_DATE_TIME, "\"2008-06-03 11:05:30\""));
+        Assertions.assertThrows(QsonException.class, () -> read(DateUtilStringParser.RFC_1123_DATE_TIME, "\"Tue 3 Jun 2008\""));
+    }
+
+    @Test
+    public void testNull() {
+        ListParser parser = new ListParser(DateUtilStringParser.ISO_8601_OFFSET_DATE_TIME.value, ObjectParser.PARSER.startStringValue);
+        List<Date> dates = read(parser, "[\"2008-06-03T11:05:30Z\", null]");
+        Assertions.assertEquals(Arrays.asList(new Date(1212491130000L), null), dates);
+        parser = new ListParser(OffsetDateTimeStringParser.RFC_1123_DATE_TIME.value, ObjectParser.PARSER.startStringValue);
+        List<OffsetDateTime> times = read(parser, "[null]");
+        Assertions.assertEquals(Arrays.asList((OffsetDateTime) null), times);
+    }
+
+    @Test
+    public void testPatternThreadSafety() throws Exception {
+        DateUtilStringWriter writer = new DateUtilStringWriter("yyyy-MM-dd HH:mm:ss.SSS");
+        DateUtilStringParser parser = new DateUtilStringParser("yyyy-MM-dd HH:mm:ss.SSS");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 2000; i++) {
+                        Date val = new Date(Math.abs(random.nextLong() % 4102444800000L));
+                        Assertions.assertEquals(val, read(parser, write(writer, val)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package io.quarkus.qson.test;
 
+import io.quarkus.qson.QsonException;
+import io.quarkus.qson.parser.ByteArrayParserContext;
+import io.quarkus.qson.parser.ContextValue;
+import io.quarkus.qson.parser.ListParser;
+import io.quarkus.qson.parser.ObjectParser;
 import io.quarkus.qson.parser.ParsePrimitives;
+import io.quarkus.qson.writer.ByteArrayJsonWriter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 
 public class DecodingTest {
 
@@ -21,4 +31,67 @@ public class DecodingTest {
         String decoded = ParsePrimitives.readString(bytes, 0, bytes.length);
         Assertions.assertEquals(expected, decoded);
     }
+
+    @Test
+    public void testFloatingPoint() {
+        String[] numbers = {"0", "-0", "0.0", "-0.000", "1", "1.5", "-1.5e10", "123.23", "1e23", "1E5", "1e+5",
+                "00012.5", "0.1", "0.30000000000000004", "9007199254740993", "4.9E-324",
+                "2.4703282292062327e-324", "2.4703282292062328e-324", "2.2250738585072011e-308",
+                "1.7976931348623157E308", "1.7976931348623159E308", "1e400", "1e-400",
+                "3.4028235e38", "1.4e-45", "7e-46", "123456789012345678901234567890"};
+        for (String number : numbers) {
+            assertNumber(number);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            double d = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isNaN(d)) assertNumber(Double.toString(d));
+            float f = Float.intBitsToFloat(random.nextInt());
+            if (!Float.isNaN(f)) assertNumber(Float.toString(f));
+            StringBuilder sb = new StringBuilder();
+            if (random.nextBoolean()) sb.append('-');
+            int digits = 1 + random.nextInt(19);
+            for (int j = 0; j < digits; j++) sb.append((char) ('0' + random.nextInt(10)));
+            if (random.nextBoolean()) {
+                sb.append('.');
+                digits = 1 + random.nextInt(10);
+                for (int j = 0; j < digits; j++) sb.append((char) ('0' + random.nextInt(10)));
+            }
+            if (random.nextBoolean()) sb.append('e').append(random.nextInt(700) - 350);
+            assertNumber(sb.toString());
+        }
+    }
+
+    @Test
+    public void testExponentTokens() {
+        ListParser parser = new ListParser(ContextValue.DOUBLE_VALUE, ObjectParser.PARSER.startNumberValue);
+        List<Double> expected = Arrays.asList(1e3, 1.0E10, -2.5E-5, 2E+2, 0.5);
+        byte[] json = "[1e3, 1.0E10, -2.5E-5, 2E+2, 0.5]".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(expected, new ByteArrayParserContext(parser).finish(json));
+        for (int chunk = 1; chunk < 5; chunk++) {
+            ByteArrayParserContext ctx = new ByteArrayParserContext(parser);
+            for (int i = 0; i < json.length; i += chunk) ctx.parse(Arrays.copyOfRange(json, i, Math.min(i + chunk, json.length)));
+            Assertions.assertEquals(expected, ctx.finish());
+        }
+
+        // writer output above 1e7 and below 1e-3 uses exponents
+        for (double d : new double[] {10000000000.5, 1.0E-7, -3.0E22, 123.25}) {
+            ByteArrayJsonWriter writer = new ByteArrayJsonWriter();
+            writer.write(d);
+            String number = new String(writer.toByteArray(), StandardCharsets.UTF_8);
+            Assertions.assertEquals(Arrays.asList(d), new ByteArrayParserContext(parser).finish("[" + number + "]"));
+        }
+
+        for (String bad : new String[] {"[1e]", "[1e+]", "[1.5ex]"}) {
+            Assertions.assertThrows(QsonException.class, () -> new ByteArrayParserContext(parser).finish(bad), bad);
+        }
+    }
+
+    private void assertNumber(String number) {
+        byte[] bytes = ("[" + number + "]").getBytes(StandardCharsets.UTF_8);
+        Assertions.assertEquals(Double.doubleToRawLongBits(Double.parseDouble(number)),
+                Double.doubleToRawLongBits(ParsePrimitives.readDouble(bytes, 1, bytes.length - 1)), number);
+        Assertions.assertEquals(Float.floatToRawIntBits(Float.parseFloat(number)),
+                Float.floatToRawIntBits(ParsePrimitives.readFloat(bytes, 1, bytes.length - 1)), number);
+    }
 }
@@ -1,15 +1,45 @@
 package io.quarkus.qson.test;
 
+import io.quarkus.qson.QsonException;
+import io.quarkus.qson.parser.ArrayStreamParser;
+import io.quarkus.qson.parser.BooleanArrayParser;
 import io.quarkus.qson.parser.ByteArrayParserContext;
+import io.quarkus.qson.parser.ByteBufferParserContext;
+import io.quarkus.qson.parser.ContextValue;
+import io.quarkus.qson.parser.DoubleArrayParser;
+import io.quarkus.qson.parser.DoubleListParser;
 import io.quarkus.qson.parser.GenericParser;
+import io.quarkus.qson.parser.IntArrayParser;
+import io.quarkus.qson.parser.IntListParser;
+import io.quarkus.qson.parser.IntegerParser;
+import io.quarkus.qson.parser.LongArrayParser;
+import io.quarkus.qson.parser.LongListParser;
+import io.quarkus.qson.parser.NdjsonReader;
+import io.quarkus.qson.parser.ObjectParser;
+import io.quarkus.qson.parser.ParserContextPool;
+import io.quarkus.qson.parser.QsonAsyncParser;
 import io.quarkus.qson.parser.QsonParser;
 import io.quarkus.qson.parser.StringParser;
+import io.quarkus.qson.util.DoubleList;
+import io.quarkus.qson.util.IntList;
+import io.quarkus.qson.util.LongList;
+import io.quarkus.qson.writer.ByteArrayJsonWriter;
+import io.quarkus.qson.writer.GenericObjectWriter;
+import io.quarkus.qson.writer.NdjsonWriter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 public class NioExampleParserTest {
 
@@ -216,6 +246,96 @@ public class NioExampleParserTest {
 
     }
 
+    @Test
+    public void testNioParserReusedBuffer() {
+        // tokens spanning several reads must only copy the bytes read, not the whole read buffer
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        byte[] readBuffer = new byte[16];
+        for (int size = 1; size <= 3; size++) {
+            ByteArrayParserContext ctx = new ByteArrayParserContext(NioPersonParser.PARSER, NioPersonParser.PARSER.startState());
+            for (int i = 0; i < bytes.length; i += size) {
+                int len = Math.min(size, bytes.length - i);
+                System.arraycopy(bytes, i, readBuffer, 0, len);
+                if (ctx.parse(readBuffer, len)) break;
+            }
+            Person person = ctx.finish();
+            validatePerson(person);
+        }
+    }
+
+    @Test
+    public void testNioParserSlices() {
+        // tokens spanning several regions of one shared buffer must only copy each region
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (int size = 1; size <= 3; size++) {
+            ByteArrayParserContext ctx = new ByteArrayParserContext(NioPersonParser.PARSER, NioPersonParser.PARSER.startState());
+            for (int i = 0; i < bytes.length; i += size) {
+                if (ctx.parse(bytes, i, Math.min(size, bytes.length - i))) break;
+            }
+            Person person = ctx.finish();
+            validatePerson(person);
+        }
+    }
+
+    @Test
+    public void testPrimitiveArrays() {
+        int[] ints = new int[1000];
+        double[] doubles = new double[1000];
+        Random random = new Random(42);
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = random.nextInt();
+            doubles[i] = random.nextInt(1000000) / 100.0;
+        }
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter();
+        writer.write(ints);
+        byte[] bytes = writer.toByteArray();
+        Assertions.assertArrayEquals(ints, (int[]) IntArrayParser.PARSER.read(bytes));
+        // fed a few bytes at a time so values are split across buffers
+        ByteArrayParserContext ctx = new ByteArrayParserContext(IntArrayParser.PARSER);
+        for (int i = 0; i < bytes.length; i += 7) ctx.parse(bytes, i, Math.min(7, bytes.length - i));
+        Assertions.assertArrayEquals(ints, (int[]) ctx.finish());
+
+        writer = new ByteArrayJsonWriter();
+        writer.write(doubles);
+        Assertions.assertArrayEquals(doubles, (double[]) DoubleArrayParser.PARSER.read(writer.toByteArray()));
+
+        writer = new ByteArrayJsonWriter();
+        writer.writeObject(new boolean[]{true, false});
+        Assertions.assertEquals("[true,false]", new String(writer.toByteArray(), StandardCharsets.UTF_8));
+        Assertions.assertArrayEquals(new boolean[]{true, false}, (boolean[]) BooleanArrayParser.PARSER.read(writer.toByteArray()));
+        Assertions.assertArrayEquals(new long[0], (long[]) LongArrayParser.PARSER.read("[ ]".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertNull(IntArrayParser.PARSER.read("null".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testPrimitiveLists() {
+        LongList longs = new LongList(4);
+        DoubleList doubles = new DoubleList();
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            longs.add(random.nextLong());
+            doubles.add(random.nextInt(1000000) / 100.0);
+        }
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter();
+        writer.write(longs);
+        byte[] bytes = writer.toByteArray();
+        Assertions.assertEquals(longs, LongListParser.PARSER.read(bytes));
+        ByteArrayParserContext ctx = new ByteArrayParserContext(LongListParser.PARSER);
+        for (int i = 0; i < bytes.length; i += 7) ctx.parse(bytes, i, Math.min(7, bytes.length - i));
+        Assertions.assertEquals(longs, ctx.finish());
+
+        writer = new ByteArrayJsonWriter();
+        writer.writeObject(doubles);
+        Assertions.assertEquals(doubles, DoubleListParser.PARSER.read(writer.toByteArray()));
+
+        IntList ints = IntListParser.PARSER.read("[1, -2, 3]".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertEquals(IntList.of(1, -2, 3), ints);
+        Assertions.assertEquals(-2, ints.get(1));
+        Assertions.assertArrayEquals(new int[]{1, -2, 3}, ints.toArray());
+        Assertions.assertTrue(((IntList) IntListParser.PARSER.read("[]".getBytes(StandardCharsets.UTF_8))).isEmpty());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> ints.get(3));
+    }
+
     List<String> breakup(String str, int size) {
         List<String> breakup = new LinkedList<>();
         int i = 0;
@@ -351,4 +471,387 @@ public class NioExampleParserTest {
         Assertions.assertEquals(true, ((Map)list.get(4)).get("married"));
 
     }
+
+    @Test
+    public void testPooledContext() {
+        ParserContextPool pool = new ParserContextPool(1);
+        ByteArrayParserContext ctx = pool.acquire(GenericParser.PARSER);
+        pool.release(ctx);
+        Assertions.assertSame(ctx, pool.acquire(new StringParser()));
+        Assertions.assertEquals("hello", ctx.finish("\"hello\""));
+        pool.release(ctx);
+
+        for (int i = 0; i < 3; i++) {
+            validateGeneric(GenericParser.PARSER.read(generic.getBytes(), pool));
+            List list = GenericParser.PARSER.read(genericList.getBytes(), pool);
+            Assertions.assertEquals("one", list.get(0));
+        }
+
+        // split tokens reuse the token buffer after a reset
+        ctx = pool.acquire(GenericParser.PARSER);
+        for (String str : breakup(generic, 3)) {
+            if (ctx.parse(str)) break;
+        }
+        validateGeneric(ctx.finish());
+        ctx.reset(GenericParser.PARSER);
+        for (String str : breakup(generic, 5)) {
+            if (ctx.parse(str)) break;
+        }
+        validateGeneric(ctx.finish());
+    }
+
+    static class RetainingContext extends ByteArrayParserContext {
+        RetainingContext(QsonParser parser) {
+            super(parser);
+        }
+
+        boolean hasSpareTokenBuffer() {
+            return spareTokenBuffer != null;
+        }
+
+        boolean hasStreamBuffer() {
+            return streamBuffer != null;
+        }
+    }
+
+    @Test
+    public void testRetainedCapacity() throws Exception {
+        RetainingContext ctx = new RetainingContext(new StringParser());
+        ctx.setMaxRetainedCapacity(64);
+        for (String str : breakup("\"short\"", 3)) {
+            if (ctx.parse(str)) break;
+        }
+        Assertions.assertEquals("short", ctx.finish());
+        ctx.reset(new StringParser());
+        Assertions.assertTrue(ctx.hasSpareTokenBuffer());
+
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 200) sb.append("long string ");
+        String big = sb.toString();
+        for (String str : breakup("\"" + big + "\"", 150)) {
+            if (ctx.parse(str)) break;
+        }
+        Assertions.assertEquals(big, ctx.finish());
+        ctx.reset(new StringParser());
+        Assertions.assertFalse(ctx.hasSpareTokenBuffer());
+
+        ctx.parse(new ByteArrayInputStream("\"x\"".getBytes(StandardCharsets.UTF_8)), 32);
+        Assertions.assertEquals("x", ctx.finish());
+        ctx.reset(new StringParser());
+        Assertions.assertTrue(ctx.hasStreamBuffer());
+        ctx.parse(new ByteArrayInputStream("\"x\"".getBytes(StandardCharsets.UTF_8)), 128);
+        Assertions.assertEquals("x", ctx.finish());
+        ctx.reset(new StringParser());
+        Assertions.assertFalse(ctx.hasStreamBuffer());
+    }
+
+    @Test
+    public void testByteBufferParser() {
+        byte[] bytes = generic.getBytes(StandardCharsets.UTF_8);
+        validateGeneric(GenericParser.PARSER.read(ByteBuffer.wrap(bytes)));
+
+        // heap buffer with offset and position
+        byte[] padded = new byte[bytes.length + 20];
+        System.arraycopy(bytes, 0, padded, 10, bytes.length);
+        ByteBuffer slice = ByteBuffer.wrap(padded, 5, bytes.length + 10).slice();
+        slice.position(5);
+        slice.limit(5 + bytes.length);
+        validateGeneric(GenericParser.PARSER.read(slice));
+        Assertions.assertEquals(5, slice.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        validateGeneric(GenericParser.PARSER.read(direct));
+
+        for (int i = 1; i <= bytes.length; i++) {
+            List<ByteBuffer> buffers = new LinkedList<>();
+            for (int j = 0; j < bytes.length; j += i) {
+                int size = Math.min(i, bytes.length - j);
+                ByteBuffer buf = ByteBuffer.allocateDirect(size);
+                buf.put(bytes, j, size).flip();
+                buffers.add(buf);
+            }
+            ByteBufferParserContext ctx = new ByteBufferParserContext(GenericParser.PARSER);
+            validateGeneric(ctx.finish(buffers.toArray(new ByteBuffer[0])));
+        }
+    }
+
+    static String junk = "{\n" +
+            "  \"junkString\": \"with \\\"escaped\\\" quotes, } ] and \\\\\",\n" +
+            "  \"name\": \"Bill\",\n" +
+            "  \"junkNested\": {\"a\": [1, 2.5e3, -7, {\"b\": [[], {}, \"}\"]}], \"c\": null, \"d\": false},\n" +
+            "  \"age\": 50,\n" +
+            "  \"junkNumber\": -1.25E-10,\n" +
+            "  \"junkArray\": [true, false, null, \"[\", [[[]]]],\n" +
+            "  \"married\": true,\n" +
+            "  \"junkLast\": 12345" +
+            "}";
+
+    @Test
+    public void testSkipUnknown() {
+        ByteArrayParserContext ctx = new ByteArrayParserContext(NioPersonParser.PARSER);
+        validateSkipped(ctx.finish(junk));
+
+        for (int i = 1; i <= junk.length(); i++) {
+            ctx = new ByteArrayParserContext(NioPersonParser.PARSER);
+            for (String str : breakup(junk, i)) {
+                if (ctx.parse(str)) break;
+            }
+            validateSkipped(ctx.finish());
+        }
+
+        try {
+            ctx = new ByteArrayParserContext(NioPersonParser.PARSER);
+            ctx.finish("{\"junk\": [1, 2}, \"name\": \"Bill\"}");
+            Assertions.fail();
+        } catch (QsonException e) {
+        }
+    }
+
+    @Test
+    public void testSkipMalformed() {
+        String[] malformed = {
+                "xyz",
+                "tru",
+                "nul1",
+                "1.2.3-e",
+                "1e",
+                "-",
+                "1.",
+                "[1, 2 3]",
+                "[1,, 2]",
+                "[1, 2,]",
+                "{\"x\" 1}",
+                "{\"x\": 1 \"y\": 2}",
+                "{1: 2}",
+                "{\"x\": 1,}",
+                "[\"a\" : 1]",
+                "[{\"a\": [1, 2}]]",
+        };
+        for (String junk : malformed) {
+            String json = "{\"junk\": " + junk + ", \"name\": \"Bill\"}";
+            Assertions.assertThrows(QsonException.class, () -> new ByteArrayParserContext(NioPersonParser.PARSER).finish(json), json);
+            for (int i = 1; i < 4; i++) {
+                List<String> parts = breakup(json, i);
+                Assertions.assertThrows(QsonException.class, () -> {
+                    ByteArrayParserContext ctx = new ByteArrayParserContext(NioPersonParser.PARSER);
+                    for (String str : parts) {
+                        if (ctx.parse(str)) break;
+                    }
+                    ctx.finish();
+                }, json);
+            }
+        }
+
+        String[] valid = {"1e3", "-2.5E-5", "0.5e+2", "[]", "{}", "[[], {}]", "{\"a\": {\"b\": []}}", "true", "null", "\"x\""};
+        for (String junk : valid) {
+            Person person = new ByteArrayParserContext(NioPersonParser.PARSER).finish("{\"junk\": " + junk + ", \"name\": \"Bill\"}");
+            Assertions.assertEquals("Bill", person.getName());
+        }
+    }
+
+    @Test
+    public void testArrayStream() throws Exception {
+        ArrayStreamParser<Person> parser = new ArrayStreamParser<>(ContextValue.OBJECT_VALUE, NioPersonParser.PARSER.start);
+        String array = "[" + json + ", " + junk + ",null]";
+        for (int i = 1; i <= array.length(); i++) {
+            List<Person> people = new LinkedList<>();
+            ByteArrayParserContext ctx = parser.parserContext(people::add);
+            for (String str : breakup(array, i)) {
+                if (ctx.parse(str)) break;
+            }
+            Assertions.assertNull(ctx.finish());
+            Assertions.assertEquals(3, people.size());
+            validatePerson(people.get(0));
+            validateSkipped(people.get(1));
+            Assertions.assertNull(people.get(2));
+        }
+
+        Iterator<Person> it = parser.iterator(new ByteArrayInputStream(array.getBytes(StandardCharsets.UTF_8)), 16);
+        validatePerson(it.next());
+        validateSkipped(it.next());
+        Assertions.assertTrue(it.hasNext());
+        Assertions.assertNull(it.next());
+        Assertions.assertFalse(it.hasNext());
+
+        ArrayStreamParser<Integer> ints = new ArrayStreamParser<>(ContextValue.INT_VALUE, ObjectParser.PARSER.startIntegerValue);
+        List<Integer> list = ints.stream(new ByteArrayInputStream("[1, 2,3 ,42]".getBytes(StandardCharsets.UTF_8)))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(4, list.size());
+        Assertions.assertEquals(42, list.get(3));
+        Assertions.assertFalse(ints.iterator(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8))).hasNext());
+    }
+
+    @Test
+    public void testNdjson() throws Exception {
+        String line = json.replace('\n', ' ');
+        String ndjson = line + "\n\n  " + line + "\r\n" + line;
+        for (int i = 1; i <= ndjson.length(); i++) {
+            List<Person> people = new LinkedList<>();
+            NdjsonReader<Person> reader = new NdjsonReader<>(NioPersonParser.PARSER);
+            for (String str : breakup(ndjson, i)) {
+                byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+                reader.parse(bytes, 0, bytes.length, people::add);
+            }
+            reader.finish(people::add);
+            Assertions.assertEquals(3, people.size());
+            for (Person person : people) validatePerson(person);
+        }
+
+        List<Object> values = new LinkedList<>();
+        new NdjsonReader<>(GenericParser.PARSER, 4)
+                .read(new ByteArrayInputStream("1\n\"two\"\n[3]\nnull\n".getBytes(StandardCharsets.UTF_8)), values::add);
+        Assertions.assertEquals(4, values.size());
+        Assertions.assertEquals("two", values.get(1));
+        Assertions.assertNull(values.get(3));
+
+        try {
+            new NdjsonReader<>(GenericParser.PARSER).read("{}\n{} {}\n".getBytes(StandardCharsets.UTF_8), values::add);
+            Assertions.fail();
+        } catch (QsonException e) {
+            Assertions.assertTrue(e.getMessage().contains("line 2"));
+        }
+
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter();
+        NdjsonWriter ndjsonWriter = new NdjsonWriter(new GenericObjectWriter(), writer);
+        List<Integer> expected = new LinkedList<>();
+        for (int i = 0; i < 100000; i++) {
+            Map<String, Object> record = new HashMap<>();
+            record.put("id", i);
+            record.put("name", "record" + i);
+            ndjsonWriter.write(record);
+            expected.add(i);
+        }
+        List<Map<String, Object>> records = NdjsonReader.readParallel(GenericParser.PARSER, writer.toByteArray());
+        Assertions.assertEquals(expected, records.stream().map(m -> ((Number) m.get("id")).intValue()).collect(Collectors.toList()));
+        Assertions.assertEquals("record99999", records.get(99999).get("name"));
+
+        // errors in later chunks report the line within the whole input
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i < 50000; i++) {
+            sb.append(i == 40000 ? "{\"a\": }" : "{}").append('\n');
+        }
+        try {
+            NdjsonReader.readParallel(GenericParser.PARSER, sb.toString().getBytes(StandardCharsets.UTF_8));
+            Assertions.fail();
+        } catch (QsonException e) {
+            Assertions.assertTrue(e.getMessage().endsWith("line 40000"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testAsyncParser() {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (int i = 1; i <= bytes.length; i++) {
+            QsonAsyncParser<Person> parser = new QsonAsyncParser<>(NioPersonParser.PARSER);
+            boolean complete = false;
+            for (int start = 0; start < bytes.length; start += i) {
+                int length = Math.min(i, bytes.length - start);
+                // alternate heap and direct chunks
+                ByteBuffer buffer = (start / i) % 2 == 0 ? ByteBuffer.wrap(bytes, start, length) : ByteBuffer.allocateDirect(length);
+                if (buffer.isDirect()) {
+                    buffer.put(bytes, start, length);
+                    buffer.flip();
+                }
+                Assertions.assertFalse(complete);
+                complete = parser.parse(buffer);
+            }
+            Assertions.assertTrue(complete);
+            Assertions.assertTrue(parser.parse(ByteBuffer.wrap(" \n".getBytes(StandardCharsets.UTF_8))));
+            validatePerson(parser.finish());
+        }
+
+        QsonAsyncParser<Person> parser = new QsonAsyncParser<>(NioPersonParser.PARSER);
+        Assertions.assertTrue(parser.parse(bytes, 0, bytes.length));
+        try {
+            parser.parse(ByteBuffer.wrap(" {}".getBytes(StandardCharsets.UTF_8)));
+            Assertions.fail();
+        } catch (QsonException e) {
+        }
+
+        QsonAsyncParser<Integer> number = new QsonAsyncParser<>(new IntegerParser());
+        Assertions.assertFalse(number.parse(ByteBuffer.wrap("4".getBytes(StandardCharsets.UTF_8))));
+        Assertions.assertFalse(number.parse(ByteBuffer.wrap("2".getBytes(StandardCharsets.UTF_8))));
+        Assertions.assertEquals(42, number.finish());
+
+        Assertions.assertNull(new QsonAsyncParser<>(NioPersonParser.PARSER).finish());
+        QsonAsyncParser<Person> incomplete = new QsonAsyncParser<>(NioPersonParser.PARSER);
+        incomplete.parse(bytes, 0, 10);
+        try {
+            incomplete.finish();
+            Assertions.fail();
+        } catch (QsonException e) {
+        }
+    }
+
+    @Test
+    public void testInputStream() throws Exception {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (int size = 1; size <= 64; size++) {
+            byte[] readBuffer = new byte[size];
+            for (int trickle = 1; trickle <= 3; trickle++) {
+                ByteArrayParserContext ctx = new ByteArrayParserContext(NioPersonParser.PARSER);
+                ctx.parse(new TrickleInputStream(bytes, trickle), readBuffer);
+                validatePerson(ctx.finish());
+            }
+        }
+
+        // tokens larger than the read buffer
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) builder.append((char) ('a' + i % 26));
+        String big = builder.toString();
+        String str = "{\"name\": \"" + big + "\", \"age\": 123456789, \"married\": true}";
+        for (int size : new int[] {4, 16, 999, 1000, 1001, 8192}) {
+            ByteArrayParserContext ctx = new ByteArrayParserContext(NioPersonParser.PARSER);
+            ctx.parse(new TrickleInputStream(str.getBytes(StandardCharsets.UTF_8), 7), new byte[size]);
+            Person person = ctx.finish();
+            Assertions.assertEquals(big, person.getName());
+            Assertions.assertEquals(123456789, person.getAge());
+            Assertions.assertTrue(person.isMarried());
+        }
+
+        // top level number only ends at eof
+        for (int size = 1; size <= 6; size++) {
+            ByteArrayParserContext ctx = new ByteArrayParserContext(new IntegerParser());
+            Assertions.assertFalse(ctx.parse(new ByteArrayInputStream("123456".getBytes(StandardCharsets.UTF_8)), new byte[size]));
+            Assertions.assertEquals(123456, (Integer) ctx.finish());
+        }
+
+        // pooled contexts keep their read buffer
+        ParserContextPool pool = new ParserContextPool(1);
+        for (int i = 0; i < 3; i++) {
+            validatePerson(NioPersonParser.PARSER.read(new TrickleInputStream(bytes, 5), pool));
+        }
+    }
+
+    static class TrickleInputStream extends InputStream {
+        final byte[] bytes;
+        final int max;
+        int pos;
+
+        TrickleInputStream(byte[] bytes, int max) {
+            this.bytes = bytes;
+            this.max = max;
+        }
+
+        @Override
+        public int read() {
+            return pos < bytes.length ? bytes[pos++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (pos >= bytes.length) return -1;
+            int n = Math.min(Math.min(len, max), bytes.length - pos);
+            System.arraycopy(bytes, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+    }
+
+    private void validateSkipped(Person person) {
+        Assertions.assertEquals("Bill", person.getName());
+        Assertions.assertEquals(50, person.getAge());
+        Assertions.assertTrue(person.isMarried());
+    }
 }
@@ -0,0 +1,155 @@
+package io.quarkus.qson.test;
+
+import io.quarkus.qson.writer.BufferedStreamJsonWriter;
+import io.quarkus.qson.writer.ByteArrayJsonWriter;
+import io.quarkus.qson.writer.ChunkedJsonWriter;
+import io.quarkus.qson.writer.OutputStreamJsonWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+public class NumberWriterTest {
+
+    static final long[] LONGS = {0, 1, -1, 9, 10, 99, 100, -100, 101, 999, 1000, 12345, -12345,
+            Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L,
+            999999999999999999L, 1000000000000000000L, -1000000000000000000L,
+            Long.MAX_VALUE, Long.MIN_VALUE};
+
+    @Test
+    public void testIntegers() {
+        Random random = new Random(42);
+        for (long val : LONGS) {
+            assertLong(val);
+            assertInt((int) val);
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertLong(random.nextLong());
+            assertLong(random.nextLong() >> random.nextInt(64));
+            assertInt(random.nextInt());
+            assertInt(random.nextInt() >> random.nextInt(32));
+        }
+    }
+
+    @Test
+    public void testFloatingPoint() {
+        // same output as JDK 19+ Double.toString() and Float.toString()
+        assertDouble("0.0", 0.0);
+        assertDouble("-0.0", -0.0);
+        assertDouble("1.0", 1.0);
+        assertDouble("0.1", 0.1);
+        assertDouble("123.23", 123.23);
+        assertDouble("-1.5", -1.5);
+        assertDouble("1234567.0", 1234567.0);
+        assertDouble("1.0E7", 1.0E7);
+        assertDouble("1.2345678E7", 12345678.0);
+        assertDouble("0.001", 0.001);
+        assertDouble("9.999E-4", 9.999E-4);
+        assertDouble("1.0E23", 1.0E23);
+        assertDouble("4.9E-324", Double.MIN_VALUE);
+        assertDouble("2.2250738585072014E-308", Double.MIN_NORMAL);
+        assertDouble("1.7976931348623157E308", Double.MAX_VALUE);
+        assertDouble("NaN", Double.NaN);
+        assertDouble("-Infinity", Double.NEGATIVE_INFINITY);
+        assertFloat("0.0", 0.0f);
+        assertFloat("123.23", 123.23f);
+        assertFloat("1234567.2", 1234567.21f);
+        assertFloat("6.66", 6.66f);
+        assertFloat("1.4E-45", Float.MIN_VALUE);
+        assertFloat("1.1754944E-38", Float.MIN_NORMAL);
+        assertFloat("3.4028235E38", Float.MAX_VALUE);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            double d = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isNaN(d)) assertRoundTrip(d);
+            assertRoundTrip(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+            float f = Float.intBitsToFloat(random.nextInt());
+            if (!Float.isNaN(f)) assertRoundTrip(f);
+        }
+    }
+
+    private void assertDouble(String expected, double val) {
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter(4);
+        writer.write(val);
+        Assertions.assertEquals(expected, new String(writer.toByteArray(), StandardCharsets.UTF_8));
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        new OutputStreamJsonWriter(os).write(val);
+        Assertions.assertEquals(expected, new String(os.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private void assertFloat(String expected, float val) {
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter(4);
+        writer.write(val);
+        Assertions.assertEquals(expected, new String(writer.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private void assertRoundTrip(double val) {
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter(4);
+        writer.write(val);
+        String str = new String(writer.toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertEquals(val, Double.parseDouble(str));
+        // never longer than the pre JDK 19 toString()
+        Assertions.assertTrue(str.length() <= Double.toString(val).length(), str);
+    }
+
+    private void assertRoundTrip(float val) {
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter(4);
+        writer.write(val);
+        String str = new String(writer.toByteArray(), StandardCharsets.UTF_8);
+        Assertions.assertEquals(val, Float.parseFloat(str));
+        Assertions.assertTrue(str.length() <= Float.toString(val).length(), str);
+    }
+
+    @Test
+    public void testBufferedWriters() {
+        // small buffers force flushes in the middle of numbers
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        BufferedStreamJsonWriter buffered = new BufferedStreamJsonWriter(os, 16);
+        ByteArrayOutputStream os2 = new ByteArrayOutputStream();
+        OutputStreamJsonWriter stream = new OutputStreamJsonWriter(os2);
+        ByteArrayJsonWriter array = new ByteArrayJsonWriter(1);
+        ByteArrayOutputStream os3 = new ByteArrayOutputStream();
+        ChunkedJsonWriter chunked = new ChunkedJsonWriter(16, (bytes, length) -> {
+            Assertions.assertTrue(length <= 16);
+            os3.write(bytes, 0, length);
+        });
+        StringBuilder expected = new StringBuilder();
+        for (long val : LONGS) {
+            buffered.write(val);
+            buffered.writeComma();
+            buffered.write((int) val);
+            buffered.writeComma();
+            chunked.write(val);
+            chunked.writeComma();
+            chunked.write((int) val);
+            chunked.writeComma();
+            stream.write(val);
+            stream.write((int) val);
+            array.write(val);
+            array.write((int) val);
+            expected.append(val).append(',').append((int) val).append(',');
+        }
+        buffered.flush();
+        chunked.flush();
+        Assertions.assertEquals(expected.toString(), new String(os.toByteArray(), StandardCharsets.UTF_8));
+        Assertions.assertEquals(expected.toString(), new String(os3.toByteArray(), StandardCharsets.UTF_8));
+        String noCommas = expected.toString().replace(",", "");
+        Assertions.assertEquals(noCommas, new String(os2.toByteArray(), StandardCharsets.UTF_8));
+        Assertions.assertEquals(noCommas, new String(array.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private void assertLong(long val) {
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter(4);
+        writer.write(val);
+        Assertions.assertEquals(Long.toString(val), new String(writer.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private void assertInt(int val) {
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter(4);
+        writer.write(val);
+        Assertions.assertEquals(Integer.toString(val), new String(writer.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,131 @@
+package io.quarkus.qson.test;
+
+import io.quarkus.qson.parser.ByteArrayParserContext;
+import io.quarkus.qson.parser.ByteBufferParserContext;
+import io.quarkus.qson.parser.ListParser;
+import io.quarkus.qson.parser.ObjectParser;
+import io.quarkus.qson.parser.StringCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class StringCacheTest {
+
+    static String intern(StringCache cache, String val) {
+        byte[] bytes = ("xx" + val + "yy").getBytes(StandardCharsets.UTF_8);
+        return cache.intern(bytes, 2, bytes.length - 2);
+    }
+
+    @Test
+    public void testIntern() {
+        StringCache cache = new StringCache(100, 8);
+        Assertions.assertEquals(128, cache.size());
+
+        String us = intern(cache, "US");
+        Assertions.assertEquals("US", us);
+        Assertions.assertSame(us, intern(cache, "US"));
+        Assertions.assertSame(us, intern(cache, "US"));
+        Assertions.assertEquals("DE", intern(cache, "DE"));
+        Assertions.assertEquals("\u00e9t\u00e9", intern(cache, "\u00e9t\u00e9"));
+        Assertions.assertSame(intern(cache, "\u00e9t\u00e9"), intern(cache, "\u00e9t\u00e9"));
+        Assertions.assertEquals(4, cache.getHits());
+        Assertions.assertEquals(3, cache.getMisses());
+        Assertions.assertEquals(4.0 / 7, cache.getHitRate());
+
+        // too long, bypasses the table
+        String longValue = intern(cache, "123456789");
+        Assertions.assertEquals("123456789", longValue);
+        Assertions.assertNotSame(longValue, intern(cache, "123456789"));
+        Assertions.assertEquals(7, cache.getHits() + cache.getMisses());
+
+        // raw bytes are the key, escapes are decoded
+        Assertions.assertEquals("a/b", intern(cache, "a\\/b"));
+
+        cache.resetStatistics();
+        Assertions.assertEquals(0.0, cache.getHitRate());
+        cache.clear();
+        Assertions.assertNotSame(us, intern(cache, "US"));
+        Assertions.assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testCollisions() {
+        // "Aa" and "BB" have the same hash
+        StringCache cache = new StringCache(1, 64);
+        Assertions.assertEquals("Aa", intern(cache, "Aa"));
+        Assertions.assertEquals("BB", intern(cache, "BB"));
+        Assertions.assertEquals("Aa", intern(cache, "Aa"));
+        Assertions.assertEquals(0, cache.getHits());
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals("v" + (i % 7), intern(cache, "v" + (i % 7)));
+        }
+    }
+
+    @Test
+    public void testNamed() {
+        StringCache cache = StringCache.named("StringCacheTest.named", 16, 16);
+        Assertions.assertSame(cache, StringCache.named("StringCacheTest.named"));
+        Assertions.assertEquals(16, cache.size());
+        Assertions.assertSame(cache, StringCache.caches().get("StringCacheTest.named"));
+    }
+
+    @Test
+    public void testParse() {
+        StringCache cache = new StringCache();
+        ListParser parser = new ListParser(cache.value, ObjectParser.PARSER.startStringValue);
+        String json = "[\"active\", \"inactive\", \"active\", null, \"act\\u0069ve\", \"active\"]";
+
+        List<String> list = new ByteArrayParserContext(parser).finish(json);
+        Assertions.assertEquals(6, list.size());
+        Assertions.assertEquals("active", list.get(0));
+        Assertions.assertSame(list.get(0), list.get(2));
+        Assertions.assertSame(list.get(0), list.get(5));
+        Assertions.assertNull(list.get(3));
+        Assertions.assertEquals("active", list.get(4));
+
+        // token split across buffers
+        ByteArrayParserContext ctx = new ByteArrayParserContext(parser);
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i += 5) {
+            ctx.parse(bytes, i, Math.min(5, bytes.length - i));
+        }
+        List<String> split = ctx.finish();
+        Assertions.assertSame(list.get(0), split.get(0));
+        Assertions.assertSame(list.get(1), split.get(1));
+
+        ByteBufferParserContext bufferCtx = new ByteBufferParserContext(parser);
+        List<String> buffers = bufferCtx.finish(new ByteBuffer[]{
+                ByteBuffer.wrap("[\"inac".getBytes(StandardCharsets.UTF_8)),
+                ByteBuffer.wrap("tive\"]".getBytes(StandardCharsets.UTF_8))});
+        Assertions.assertSame(list.get(1), buffers.get(0));
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        StringCache cache = new StringCache(8, 64);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 20000; i++) {
+                        String val = "value" + (i % 20);
+                        if (!val.equals(intern(cache, val))) throw new AssertionError(val);
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+        Assertions.assertNull(failure.get());
+        Assertions.assertEquals(80000, cache.getHits() + cache.getMisses());
+    }
+}
@@ -5,11 +5,16 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.quarkus.qson.parser.ByteArrayParserContext;
 import io.quarkus.qson.parser.GenericParser;
+import io.quarkus.qson.writer.BufferedStreamJsonWriter;
 import io.quarkus.qson.writer.ByteArrayJsonWriter;
 import io.quarkus.qson.writer.GenericObjectWriter;
+import io.quarkus.qson.writer.JsonByteWriter;
+import io.quarkus.qson.writer.OutputStreamJsonWriter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -156,6 +161,54 @@ public class TestCharEscaping
         Assertions.assertEquals(Character.toString(c), value);
     }
 
+    @Test
+    public void testAsciiRuns() throws Exception {
+        String[] targets = {"", "hello", "tab\there", "\"quoted\"", "\u0001ctrl", "trailing\n", "caf\u00e9 au lait",
+                "Line\u2028feed", generateRandom(300), new String(new char[1000]).replace('\0', 'x')};
+        for (String target : targets) {
+            ByteArrayJsonWriter array = new ByteArrayJsonWriter(2);
+            array.write(target);
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            new OutputStreamJsonWriter(os).write(target);
+            ByteArrayOutputStream os2 = new ByteArrayOutputStream();
+            BufferedStreamJsonWriter buffered = new BufferedStreamJsonWriter(os2, 7);
+            buffered.write(target);
+            buffered.flush();
+            Assertions.assertArrayEquals(array.toByteArray(), os.toByteArray());
+            Assertions.assertArrayEquals(array.toByteArray(), os2.toByteArray());
+
+            ByteArrayParserContext ctx = new ByteArrayParserContext(GenericParser.PARSER);
+            Assertions.assertEquals(target, ctx.finish(array.toByteArray()));
+        }
+    }
+
+    @Test
+    public void testEncodedPropertyNames() throws Exception {
+        String[] names = {"name", "with \"quote\"", "caf\u00e9", "x"};
+        ByteArrayJsonWriter expected = new ByteArrayJsonWriter();
+        ByteArrayJsonWriter encoded = new ByteArrayJsonWriter();
+        expected.writeLCurley();
+        encoded.writeLCurley();
+        expected.writeProperty(names[0], 42, false);
+        encoded.writeProperty(JsonByteWriter.encodePropertyName(names[0]), 42, false);
+        expected.writeProperty(names[1], "value", true);
+        encoded.writeProperty(JsonByteWriter.encodePropertyName(names[1]), "value", true);
+        expected.writeProperty(names[2], true, true);
+        encoded.writeProperty(JsonByteWriter.encodePropertyName(names[2]), true, true);
+        expected.writeProperty(names[3], Arrays.asList(1, 2), true);
+        encoded.writeProperty(JsonByteWriter.encodePropertyName(names[3]), Arrays.asList(1, 2), true);
+        Assertions.assertFalse(encoded.writeProperty(JsonByteWriter.encodePropertyName("null"), (String) null, false));
+        expected.writeRCurley();
+        encoded.writeRCurley();
+        Assertions.assertEquals(new String(expected.toByteArray(), UTF8), new String(encoded.toByteArray(), UTF8));
+
+        ByteArrayParserContext ctx = new ByteArrayParserContext(GenericParser.PARSER);
+        Map map = ctx.finish(encoded.toByteArray());
+        Assertions.assertEquals(42L, ((Number) map.get(names[0])).longValue());
+        Assertions.assertEquals("value", map.get(names[1]));
+        Assertions.assertEquals(Boolean.TRUE, map.get(names[2]));
+    }
+
     @Test
     public void testOne() throws Exception {
         testOneChar((char)1129);
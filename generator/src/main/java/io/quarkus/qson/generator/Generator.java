@@ -11,7 +11,11 @@ import java.util.Map;
 
 public class Generator implements QsonGenerator {
 
+    public static final int DEFAULT_KEY_HASH_THRESHOLD = 16;
+
     QsonDate.Format dateFormat = QsonDate.Format.ISO_8601_OFFSET_DATE_TIME;
+    int keyHashThreshold = DEFAULT_KEY_HASH_THRESHOLD;
+    String stringCache;
 
     Map<Class, ClassMapping> classGenerators = new HashMap<>();
 
@@ -87,6 +91,28 @@ public class Generator implements QsonGenerator {
         return dateFormat;
     }
 
+    @Override
+    public QsonGenerator keyHashThreshold(int propertyCount) {
+        this.keyHashThreshold = propertyCount;
+        return this;
+    }
+
+    @Override
+    public int getKeyHashThreshold() {
+        return keyHashThreshold;
+    }
+
+    @Override
+    public QsonGenerator stringCache(String name) {
+        this.stringCache = name;
+        return this;
+    }
+
+    @Override
+    public String getStringCache() {
+        return stringCache;
+    }
+
     public ParserGenerator.Builder parser(Type generic) {
         return new ParserGenerator.Builder(this).type(generic);
     }
@@ -101,4 +127,8 @@ public class Generator implements QsonGenerator {
     public WriterGenerator.Builder writer(GenericType genericType) {
         return new WriterGenerator.Builder(this).type(genericType.getType());
     }
+
+    public LazyGenerator.Builder lazy(Class type) {
+        return new LazyGenerator.Builder(this).type(type);
+    }
 }
@@ -0,0 +1,268 @@
+package io.quarkus.qson.generator;
+
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldCreator;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.qson.QsonDate;
+import io.quarkus.qson.QsonException;
+import io.quarkus.qson.parser.DateUtilNumberParser;
+import io.quarkus.qson.parser.DateUtilStringParser;
+import io.quarkus.qson.parser.GenericParser;
+import io.quarkus.qson.parser.OffsetDateTimeNumberParser;
+import io.quarkus.qson.parser.OffsetDateTimeStringParser;
+import io.quarkus.qson.parser.QsonLazy;
+import io.quarkus.qson.parser.QsonParser;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generates a lazy view of a user class using Gizmo.
+ *
+ * The view is a subclass of the user class.  Each getter is overridden to parse its property from the
+ * backing {@link QsonLazy} document the first time it is called, pass the value to the original setter,
+ * and then delegate to the original getter.  Setters are overridden so that a value set by the application
+ * is never replaced by the document.  A factory class is generated alongside to create views without reflection.
+ *
+ * Only properties with a public or protected getter and setter are lazy.  Methods of the user class that
+ * read fields directly instead of calling getters see unloaded values.
+ */
+public class LazyGenerator {
+
+    // constructor
+    public static final String INIT = "<init>";
+    public static final String LAZY_FIELD = "_qson_lazy";
+
+    public static class Builder {
+        Class type;
+        ClassOutput output;
+        String className;
+        String factoryClassName;
+        List<PropertyMapping> properties;
+        Generator generator;
+
+        protected Builder(Generator generator) {
+            this.generator = generator;
+        }
+
+        public Builder type(Class targetType) {
+            this.type = targetType;
+            return this;
+        }
+
+        public Builder output(ClassOutput output) {
+            this.output = output;
+            return this;
+        }
+
+        /**
+         * Name of the generated view class
+         *
+         * @return
+         */
+        public String className() {
+            return className;
+        }
+
+        /**
+         * Name of the generated factory class.  It implements Function&lt;QsonLazy, T&gt;
+         *
+         * @return
+         */
+        public String factoryClassName() {
+            return factoryClassName;
+        }
+
+        /**
+         * Lazy properties in the order that QsonLazy indexes them.
+         *
+         * @return
+         */
+        public List<PropertyMapping> properties() {
+            return properties;
+        }
+
+        public Builder generate() {
+            if (Modifier.isFinal(type.getModifiers()) || type.isEnum() || type.isInterface()) {
+                throw new QsonException("Lazy view cannot extend: " + type.getName());
+            }
+            ClassMapping mapping = generator.mappingFor(type);
+            if (mapping.isValue() || mapping.isTransformed()) {
+                throw new QsonException("Lazy view unsupported for value or transformed class: " + type.getName());
+            }
+            try {
+                Constructor ctor = type.getDeclaredConstructor();
+                if (!Modifier.isPublic(ctor.getModifiers()) && !Modifier.isProtected(ctor.getModifiers())) {
+                    throw new NoSuchMethodException();
+                }
+            } catch (NoSuchMethodException e) {
+                throw new QsonException("Lazy view requires a no-arg constructor: " + type.getName());
+            }
+            properties = new ArrayList<>();
+            for (PropertyMapping ref : mapping.getProperties()) {
+                if (ref.isAny || ref.getter == null || ref.setter == null) continue;
+                if (!overridable(ref.getter) || !overridable(ref.setter)) continue;
+                properties.add(ref);
+            }
+            className = fqn(type);
+            factoryClassName = className + "Factory";
+            LazyGenerator lazy = new LazyGenerator(output, type, className, properties);
+            lazy.generate();
+            lazy.generateFactory(factoryClassName);
+            return this;
+        }
+    }
+
+    private static boolean overridable(Method method) {
+        int modifiers = method.getModifiers();
+        // views are loaded by a different class loader so package private methods can't be overridden
+        return !Modifier.isFinal(modifiers) && !Modifier.isStatic(modifiers)
+                && (Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers));
+    }
+
+    /**
+     * Parser for a single property value.  Dates honor the property's format, everything else
+     * uses the parser generated for the property's type.
+     *
+     * @param mapper
+     * @param ref
+     * @return
+     */
+    public static QsonParser propertyParser(QsonMapper mapper, PropertyMapping ref) {
+        QsonDate.Format format = ref.getDateFormat() == null ? mapper.getDateFormat() : ref.getDateFormat();
+        String pattern = ref.getDateFormat() == null ? null : ref.getDatePattern();
+        if (Date.class.equals(ref.genericType) && !mapper.hasMappingFor(Date.class)) {
+            if (pattern != null) {
+                return new DateUtilStringParser(pattern);
+            } else if (format == QsonDate.Format.MILLISECONDS) {
+                return DateUtilNumberParser.MILLIS_UTC;
+            } else if (format == QsonDate.Format.SECONDS) {
+                return DateUtilNumberParser.SECONDS_UTC;
+            } else if (format == QsonDate.Format.ISO_8601_OFFSET_DATE_TIME) {
+                return DateUtilStringParser.ISO_8601_OFFSET_DATE_TIME;
+            } else if (format == QsonDate.Format.RFC_1123_DATE_TIME) {
+                return DateUtilStringParser.RFC_1123_DATE_TIME;
+            } else {
+                throw new QsonException("Unsupported");
+            }
+        } else if (OffsetDateTime.class.equals(ref.genericType) && !mapper.hasMappingFor(OffsetDateTime.class)) {
+            if (pattern != null) {
+                return new OffsetDateTimeStringParser(pattern);
+            } else if (format == QsonDate.Format.MILLISECONDS) {
+                return OffsetDateTimeNumberParser.MILLIS_UTC;
+            } else if (format == QsonDate.Format.SECONDS) {
+                return OffsetDateTimeNumberParser.SECONDS_UTC;
+            } else if (format == QsonDate.Format.ISO_8601_OFFSET_DATE_TIME) {
+                return OffsetDateTimeStringParser.ISO_8601_OFFSET_DATE_TIME;
+            } else if (format == QsonDate.Format.RFC_1123_DATE_TIME) {
+                return OffsetDateTimeStringParser.RFC_1123_DATE_TIME;
+            } else {
+                throw new QsonException("Unsupported");
+            }
+        } else if (Object.class.equals(ref.genericType)) {
+            return GenericParser.PARSER;
+        }
+        return mapper.parserFor(ref.genericType);
+    }
+
+    private static String fqn(Class clz) {
+        return clz.getName() + "__QsonLazy";
+    }
+
+    final ClassOutput classOutput;
+    final Class targetType;
+    final String className;
+    final List<PropertyMapping> properties;
+
+    LazyGenerator(ClassOutput classOutput, Class targetType, String className, List<PropertyMapping> properties) {
+        this.classOutput = classOutput;
+        this.targetType = targetType;
+        this.className = className;
+        this.properties = properties;
+    }
+
+    void generate() {
+        ClassCreator creator = ClassCreator.builder().classOutput(classOutput)
+                .className(className)
+                .superClass(targetType).build();
+        FieldCreator lazy = creator.getFieldCreator(LAZY_FIELD, QsonLazy.class).setModifiers(ACC_PRIVATE | ACC_FINAL);
+
+        MethodCreator ctor = creator.getMethodCreator(INIT, void.class, QsonLazy.class);
+        ctor.invokeSpecialMethod(MethodDescriptor.ofConstructor(targetType), ctor.getThis());
+        ctor.writeInstanceField(lazy.getFieldDescriptor(), ctor.getThis(), ctor.getMethodParam(0));
+        ctor.returnValue(null);
+
+        for (int i = 0; i < properties.size(); i++) {
+            PropertyMapping ref = properties.get(i);
+            FieldCreator loaded = creator.getFieldCreator(ref.propertyName + "_loaded", boolean.class).setModifiers(ACC_PRIVATE);
+            getter(creator, ref, i, lazy.getFieldDescriptor(), loaded.getFieldDescriptor());
+            setter(creator, ref, loaded.getFieldDescriptor());
+        }
+        creator.close();
+    }
+
+    private void getter(ClassCreator creator, PropertyMapping ref, int index, FieldDescriptor lazy, FieldDescriptor loaded) {
+        MethodDescriptor getter = MethodDescriptor.ofMethod(ref.getter);
+        MethodCreator method = creator.getMethodCreator(getter);
+        method.setModifiers(ref.getter.getModifiers() & (ACC_PUBLIC | ACC_PROTECTED));
+
+        BytecodeCreator notLoaded = method.ifZero(method.readInstanceField(loaded, method.getThis())).trueBranch();
+        notLoaded.writeInstanceField(loaded, notLoaded.getThis(), notLoaded.load(true));
+        ResultHandle document = notLoaded.readInstanceField(lazy, notLoaded.getThis());
+        ResultHandle value = notLoaded.invokeVirtualMethod(MethodDescriptor.ofMethod(QsonLazy.class, "value", Object.class, int.class),
+                document, notLoaded.load(index));
+        BytecodeCreator hasValue = notLoaded.ifNull(value).falseBranch();
+        Class type = ref.setter.getParameterTypes()[0];
+        hasValue.invokeSpecialMethod(MethodDescriptor.ofMethod(ref.setter), hasValue.getThis(), unbox(hasValue, value, type));
+
+        method.returnValue(method.invokeSpecialMethod(getter, method.getThis()));
+    }
+
+    private void setter(ClassCreator creator, PropertyMapping ref, FieldDescriptor loaded) {
+        MethodDescriptor setter = MethodDescriptor.ofMethod(ref.setter);
+        MethodCreator method = creator.getMethodCreator(setter);
+        method.setModifiers(ref.setter.getModifiers() & (ACC_PUBLIC | ACC_PROTECTED));
+        method.writeInstanceField(loaded, method.getThis(), method.load(true));
+        ResultHandle result = method.invokeSpecialMethod(setter, method.getThis(), method.getMethodParam(0));
+        method.returnValue(void.class.equals(ref.setter.getReturnType()) ? null : result);
+    }
+
+    private static ResultHandle unbox(BytecodeCreator scope, ResultHandle value, Class type) {
+        if (!type.isPrimitive()) return scope.checkCast(value, type);
+        Class boxed;
+        if (type.equals(int.class)) boxed = Integer.class;
+        else if (type.equals(long.class)) boxed = Long.class;
+        else if (type.equals(short.class)) boxed = Short.class;
+        else if (type.equals(byte.class)) boxed = Byte.class;
+        else if (type.equals(boolean.class)) boxed = Boolean.class;
+        else if (type.equals(float.class)) boxed = Float.class;
+        else if (type.equals(double.class)) boxed = Double.class;
+        else if (type.equals(char.class)) boxed = Character.class;
+        else throw new QsonException("Unsupported primitive: " + type.getName());
+        ResultHandle cast = scope.checkCast(value, boxed);
+        return scope.invokeVirtualMethod(MethodDescriptor.ofMethod(boxed, type.getName() + "Value", type), cast);
+    }
+
+    void generateFactory(String factoryClassName) {
+        ClassCreator creator = ClassCreator.builder().classOutput(classOutput)
+                .className(factoryClassName)
+                .interfaces(Function.class).build();
+        MethodCreator apply = creator.getMethodCreator("apply", Object.class, Object.class);
+        ResultHandle document = apply.checkCast(apply.getMethodParam(0), QsonLazy.class);
+        apply.returnValue(apply.newInstance(MethodDescriptor.ofConstructor(className, QsonLazy.class), document));
+        creator.close();
+    }
+}
@@ -14,32 +14,49 @@ import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.qson.QsonDate;
 import io.quarkus.qson.QsonException;
 import io.quarkus.qson.parser.AnySetter;
+import io.quarkus.qson.parser.ArrayStreamParser;
+import io.quarkus.qson.parser.Base64Parser;
 import io.quarkus.qson.parser.BaseParser;
+import io.quarkus.qson.parser.BooleanArrayParser;
 import io.quarkus.qson.parser.BooleanParser;
+import io.quarkus.qson.parser.ByteBufferBase64Parser;
 import io.quarkus.qson.parser.ByteParser;
 import io.quarkus.qson.parser.ContextValue;
 import io.quarkus.qson.parser.DateTimeNumberParser;
 import io.quarkus.qson.parser.DateUtilNumberParser;
 import io.quarkus.qson.parser.DateUtilStringParser;
+import io.quarkus.qson.parser.DoubleArrayParser;
+import io.quarkus.qson.parser.DoubleListParser;
 import io.quarkus.qson.parser.DoubleParser;
 import io.quarkus.qson.parser.EnumParser;
+import io.quarkus.qson.parser.FloatArrayParser;
 import io.quarkus.qson.parser.FloatParser;
 import io.quarkus.qson.parser.GenericParser;
 import io.quarkus.qson.parser.GenericSetParser;
+import io.quarkus.qson.parser.IntArrayParser;
+import io.quarkus.qson.parser.IntListParser;
 import io.quarkus.qson.parser.IntegerParser;
 import io.quarkus.qson.parser.ListParser;
+import io.quarkus.qson.parser.LongArrayParser;
+import io.quarkus.qson.parser.LongListParser;
 import io.quarkus.qson.parser.LongParser;
 import io.quarkus.qson.parser.MapParser;
 import io.quarkus.qson.parser.ObjectParser;
 import io.quarkus.qson.parser.OffsetDateTimeNumberParser;
 import io.quarkus.qson.parser.OffsetDateTimeStringParser;
+import io.quarkus.qson.parser.ParsePrimitives;
 import io.quarkus.qson.parser.ParserContext;
 import io.quarkus.qson.parser.ParserState;
 import io.quarkus.qson.parser.QsonParser;
 import io.quarkus.qson.parser.SetParser;
+import io.quarkus.qson.parser.ShortArrayParser;
 import io.quarkus.qson.parser.ShortParser;
+import io.quarkus.qson.parser.StringCache;
 import io.quarkus.qson.parser.StringParser;
 import io.quarkus.qson.parser.ValueParser;
+import io.quarkus.qson.util.DoubleList;
+import io.quarkus.qson.util.IntList;
+import io.quarkus.qson.util.LongList;
 import io.quarkus.qson.util.Types;
 
 import java.lang.reflect.Constructor;
@@ -48,6 +65,9 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -56,6 +76,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static org.objectweb.asm.Opcodes.*;
 
@@ -80,11 +101,22 @@ public class ParserGenerator {
         List<PropertyMapping> properties;
         Set<Type> referenced = new HashSet<>();
         Generator generator;
+        boolean arrayStream;
 
         protected Builder(Generator generator) {
             this.generator = generator;
         }
 
+        /**
+         * Generate an {@link ArrayStreamParser} for a top level json array whose elements are of the builder's type
+         *
+         * @return
+         */
+        public Builder arrayStream() {
+            this.arrayStream = true;
+            return this;
+        }
+
         public Builder type(Type targetType) {
             this.type = targetType;
             return this;
@@ -113,6 +145,14 @@ public class ParserGenerator {
             return referenced;
         }
         public Builder generate() {
+            if (arrayStream) {
+                className = Util.generatedClassName(type) + "__ArrayStream";
+                ParserGenerator deserializer = new ParserGenerator(output, className, Types.getRawType(type), type);
+                deserializer.generator = generator;
+                deserializer.generateArrayStream();
+                Util.addReference(generator, referenced, type);
+                return this;
+            }
             if (type instanceof Class) {
                 if (int.class.equals(type)
                         || Integer.class.equals(type)) {
@@ -156,6 +196,14 @@ public class ParserGenerator {
                     className = StringParser.class.getName();
                     return this;
                 }
+                if (Util.isPrimitiveArray((Class) type) || Util.isPrimitiveList((Class) type)) {
+                    className = primitiveArrayParser((Class) type).getName();
+                    return this;
+                }
+                if (Util.isBase64Type((Class) type)) {
+                    className = base64Parser((Class) type).getName();
+                    return this;
+                }
                 if (Map.class.equals(type) || List.class.equals(type)) {
                     className = GenericParser.class.getName();
                     return this;
@@ -258,6 +306,41 @@ public class ParserGenerator {
         return prefix + clz.getName() + "__Parser";
     }
 
+    private static Class primitiveArrayParser(Class type) {
+        if (type.equals(int[].class)) return IntArrayParser.class;
+        if (type.equals(long[].class)) return LongArrayParser.class;
+        if (type.equals(short[].class)) return ShortArrayParser.class;
+        if (type.equals(float[].class)) return FloatArrayParser.class;
+        if (type.equals(double[].class)) return DoubleArrayParser.class;
+        if (type.equals(boolean[].class)) return BooleanArrayParser.class;
+        if (type.equals(IntList.class)) return IntListParser.class;
+        if (type.equals(LongList.class)) return LongListParser.class;
+        if (type.equals(DoubleList.class)) return DoubleListParser.class;
+        throw new QsonException("Not a primitive array or list: " + type.getName());
+    }
+
+    /**
+     * Primitive array and list parsers are singletons that start with a list
+     */
+    private static ResultHandle primitiveArrayState(BytecodeCreator scope, Class type, String state) {
+        Class parser = primitiveArrayParser(type);
+        ResultHandle PARSER = scope.readStaticField(FieldDescriptor.of(parser, "PARSER", parser));
+        return scope.readInstanceField(FieldDescriptor.of(BaseParser.class, state, ParserState.class), PARSER);
+    }
+
+    private static Class base64Parser(Class type) {
+        return type.equals(ByteBuffer.class) ? ByteBufferBase64Parser.class : Base64Parser.class;
+    }
+
+    /**
+     * Base64 parsers are value parser singletons.  Either alphabet is accepted so there is nothing per property.
+     */
+    private static ResultHandle base64State(BytecodeCreator scope, Class type, String state) {
+        Class parser = base64Parser(type);
+        ResultHandle PARSER = scope.readStaticField(FieldDescriptor.of(parser, "PARSER", parser));
+        return scope.readInstanceField(FieldDescriptor.of(ValueParser.class, state, ParserState.class), PARSER);
+    }
+
     ParserGenerator(ClassOutput classOutput, Class targetType, Type targetGenericType) {
         this(classOutput, fqn(targetType), targetType, targetGenericType);
     }
@@ -401,6 +484,35 @@ public class ParserGenerator {
     }
 
 
+    void generateArrayStream() {
+        creator = ClassCreator.builder().classOutput(classOutput)
+                .className(className)
+                .superClass(ArrayStreamParser.class).build();
+        MethodCreator staticConstructor = creator.getMethodCreator(CLINIT, void.class);
+        staticConstructor.setModifiers(ACC_STATIC);
+        if (Types.typeContainsType(targetGenericType, Date.class) && !generator.hasMappingFor(Date.class)) {
+            FieldCreator defaultDateUtil = creator.getFieldCreator(DEFAULT_DATE_UTIL, ValueParser.class).setModifiers(ACC_STATIC | ACC_PRIVATE | ACC_FINAL);
+            staticConstructor.writeStaticField(defaultDateUtil.getFieldDescriptor(), allocateDateUtilParser(staticConstructor, generator.getDateFormat(), null));
+        }
+        if (Types.typeContainsType(targetGenericType, OffsetDateTime.class) && !generator.hasMappingFor(OffsetDateTime.class)) {
+            FieldCreator defaultOffsetDateTime = creator.getFieldCreator(DEFAULT_OFFSET_DATE_TIME, ValueParser.class).setModifiers(ACC_STATIC | ACC_PRIVATE | ACC_FINAL);
+            staticConstructor.writeStaticField(defaultOffsetDateTime.getFieldDescriptor(), allocateOffsetDateTimeParser(staticConstructor, generator.getDateFormat(), null));
+        }
+        if (targetType.equals(Map.class) || targetType.equals(List.class) || targetType.equals(Set.class)) {
+            collectionField(staticConstructor, null, targetType, targetGenericType, "element_n");
+        }
+        staticConstructor.returnValue(null);
+
+        // element states are wired up exactly like the elements of a generated List parser
+        MethodCreator constructor = creator.getMethodCreator(INIT, void.class);
+        ResultHandle valueContextValue = contextValue(targetType, targetGenericType, constructor);
+        ResultHandle valueState = collectionValueState(null, targetType, targetGenericType, constructor, "element");
+        constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(ArrayStreamParser.class, ContextValue.class, ParserState.class),
+                constructor.getThis(), valueContextValue, valueState);
+        constructor.returnValue(null);
+        creator.close();
+    }
+
     void generateCollection() {
         creator = ClassCreator.builder().classOutput(classOutput)
                 .className(className)
@@ -443,6 +555,25 @@ public class ParserGenerator {
 
         MethodCreator method = creator.getMethodCreator("endStringValue", void.class, ParserContext.class);
         _ParserContext ctx = new _ParserContext(method.getMethodParam(0));
+
+        // match raw token bytes against constant names: switch on token length, then a byte-wise trie.
+        // Names that aren't plain ascii, and escaped tokens, fall through to valueOf()
+        Map<Integer, List<String>> byLength = new TreeMap<>();
+        for (Object constant : targetType.getEnumConstants()) {
+            String name = ((Enum) constant).name();
+            if (!isAscii(name)) continue;
+            byLength.computeIfAbsent(name.length(), k -> new ArrayList<>()).add(name);
+        }
+        if (!byLength.isEmpty()) {
+            ResultHandle length = ctx.tokenLength(method);
+            for (Map.Entry<Integer, List<String>> entry : byLength.entrySet()) {
+                List<String> names = entry.getValue();
+                Collections.sort(names);
+                BytecodeCreator ifScope = method.createScope();
+                chooseEnum(ifScope.ifIntegerEqual(length, ifScope.load(entry.getKey().intValue())).trueBranch(), ctx, names, 0);
+            }
+        }
+
         ResultHandle str = ctx.popToken(method);
         ResultHandle e = method.invokeStaticMethod(MethodDescriptor.ofMethod(targetType, "valueOf", targetType, String.class), str);
         ctx.pushTarget(method, e);
@@ -450,6 +581,47 @@ public class ParserGenerator {
         creator.close();
     }
 
+    private static boolean isAscii(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) > 0x7F) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Names are all the same length and sorted so that names sharing a byte at offset are adjacent
+     */
+    private void chooseEnum(BytecodeCreator scope, _ParserContext ctx, List<String> names, int offset) {
+        if (names.size() == 1) {
+            String name = names.get(0);
+            BytecodeCreator ifScope = scope.createScope();
+            ResultHandle check = ctx.compareToken(ifScope, ifScope.load(offset), ifScope.load(name.substring(offset)));
+            BytecodeCreator match = ifScope.ifNonZero(check).trueBranch();
+            ctx.pushTarget(match, match.readStaticField(FieldDescriptor.of(targetType, name, targetType)));
+            match.returnValue(null);
+            return;
+        }
+        ResultHandle c = ctx.tokenCharAt(scope, offset);
+        for (int i = 0; i < names.size(); i++) {
+            char ch = names.get(i).charAt(offset);
+            List<String> sameChars = new ArrayList<>();
+            sameChars.add(names.get(i));
+            for (i = i + 1; i < names.size(); i++) {
+                String next = names.get(i);
+                if (next.charAt(offset) == ch) {
+                    sameChars.add(next);
+                } else {
+                    i--;
+                    break;
+                }
+            }
+            BytecodeCreator ifScope = scope.createScope();
+            BranchResult branchResult = ifScope.ifIntegerEqual(c, ifScope.load(ch));
+            chooseEnum(branchResult.trueBranch(), ctx, sameChars, offset + 1);
+            scope = branchResult.falseBranch();
+        }
+    }
+
     void generate() {
         creator = ClassCreator.builder().classOutput(classOutput)
                 .className(className)
@@ -480,7 +652,11 @@ public class ParserGenerator {
         staticConstructor.writeStaticField(PARSER.getFieldDescriptor(), instance);
 
         processDateProperties(staticConstructor);
+        if (useKeyHash()) {
+            keyFields(staticConstructor);
+        }
         for (PropertyMapping ref : properties) {
+            stringCacheField(staticConstructor, ref);
             collectionField(staticConstructor, ref);
             MethodCreator method = propertyEndMethod(ref);
             propertyEndFunction(ref, staticConstructor, method);
@@ -555,6 +731,31 @@ public class ParserGenerator {
         return ref.getPropertyName() + "_dateParser";
     }
 
+    /**
+     * Name of the string cache for the property, either from @QsonIntern or the generator default
+     */
+    private String stringCache(PropertyMapping ref) {
+        if (ref == null || !Types.typeContainsType(ref.genericType, String.class)) return null;
+        return ref.getStringCache() != null ? ref.getStringCache() : generator.getStringCache();
+    }
+
+    private String getPropertyStringCache(PropertyMapping ref) {
+        return ref.getPropertyName() + "_strings";
+    }
+
+    private void stringCacheField(MethodCreator staticConstructor, PropertyMapping ref) {
+        String name = stringCache(ref);
+        if (name == null) return;
+        FieldCreator cache = creator.getFieldCreator(getPropertyStringCache(ref), StringCache.class).setModifiers(ACC_STATIC | ACC_PRIVATE | ACC_FINAL);
+        ResultHandle instance = staticConstructor.invokeStaticMethod(MethodDescriptor.ofMethod(StringCache.class, "named", StringCache.class, String.class, int.class, int.class),
+                staticConstructor.load(name), staticConstructor.load(ref.getStringCacheSize()), staticConstructor.load(ref.getStringCacheMaxLength()));
+        staticConstructor.writeStaticField(cache.getFieldDescriptor(), instance);
+    }
+
+    private ResultHandle getStringCache(PropertyMapping ref, BytecodeCreator scope) {
+        return scope.readStaticField(FieldDescriptor.of(fqn(), getPropertyStringCache(ref), StringCache.class));
+    }
+
 
     private void collectionField(MethodCreator staticConstructor, PropertyMapping ref) {
         Type genericType = ref.genericType;
@@ -582,7 +783,7 @@ public class ParserGenerator {
                 }
 
                 ResultHandle keyContextValue = contextValue(keyClass, keyType, staticConstructor);
-                ResultHandle valueContextValue = contextValue(valueClass, valueType, staticConstructor);
+                ResultHandle valueContextValue = valueContextValue(ref, valueClass, valueType, staticConstructor);
                 ResultHandle valueState = collectionValueState(ref, valueClass, valueType, staticConstructor, property);
                 ResultHandle continueValueState = continueValueState(ref, valueClass, valueType, staticConstructor, property);
                 FieldCreator mapParser = creator.getFieldCreator(property, MapParser.class).setModifiers(ACC_STATIC | ACC_PRIVATE | ACC_FINAL);
@@ -603,7 +804,7 @@ public class ParserGenerator {
                 }
 
 
-                ResultHandle valueContextValue = contextValue(valueClass, valueType, staticConstructor);
+                ResultHandle valueContextValue = valueContextValue(ref, valueClass, valueType, staticConstructor);
                 ResultHandle valueState = collectionValueState(ref, valueClass, valueType, staticConstructor, property);
                 FieldCreator collectionParser = creator.getFieldCreator(property, ListParser.class).setModifiers(ACC_STATIC | ACC_PRIVATE | ACC_FINAL);
                 ResultHandle instance = staticConstructor.newInstance(MethodDescriptor.ofConstructor(ListParser.class, ContextValue.class, ParserState.class),
@@ -623,7 +824,7 @@ public class ParserGenerator {
                     collectionField(staticConstructor, ref, valueClass, valueType, property + "_n");
                 }
 
-                ResultHandle valueContextValue = contextValue(valueClass, valueType, staticConstructor);
+                ResultHandle valueContextValue = valueContextValue(ref, valueClass, valueType, staticConstructor);
                 ResultHandle valueState = collectionValueState(ref, valueClass, valueType, staticConstructor, property);
                 FieldCreator collectionParser = creator.getFieldCreator(property, SetParser.class).setModifiers(ACC_STATIC | ACC_PRIVATE | ACC_FINAL);
                 ResultHandle instance = staticConstructor.newInstance(MethodDescriptor.ofConstructor(SetParser.class, ContextValue.class, ParserState.class),
@@ -636,6 +837,13 @@ public class ParserGenerator {
         }
     }
 
+    private ResultHandle valueContextValue(PropertyMapping ref, Class type, Type genericType, BytecodeCreator scope) {
+        if (type.equals(String.class) && stringCache(ref) != null) {
+            return scope.readInstanceField(FieldDescriptor.of(StringCache.class, "value", ContextValue.class), getStringCache(ref, scope));
+        }
+        return contextValue(type, genericType, scope);
+    }
+
     private ResultHandle contextValue(Class type, Type genericType, BytecodeCreator scope) {
         if (type.equals(String.class)) {
             return scope.readStaticField(FieldDescriptor.of(ContextValue.class, "STRING_VALUE", ContextValue.class));
@@ -718,6 +926,10 @@ public class ParserGenerator {
                 ResultHandle PARSER = scope.readStaticField(parserField);
                 return scope.readInstanceField(FieldDescriptor.of(GenericSetParser.class, "startList", ParserState.class), PARSER);
             }
+        } else if (Util.isPrimitiveArray(type) || Util.isPrimitiveList(type)) {
+            return primitiveArrayState(scope, type, "start");
+        } else if (Util.isBase64Type(type)) {
+            return base64State(scope, type, "start");
         } else if (type.equals(OffsetDateTime.class) && !generator.hasMappingFor(type)) {
             ResultHandle PARSER = getOffsetDateTimeParser(ref, scope);
             return scope.readInstanceField(FieldDescriptor.of(ValueParser.class, "start", ParserState.class), PARSER);
@@ -802,6 +1014,10 @@ public class ParserGenerator {
                 ResultHandle PARSER = scope.readStaticField(parserField);
                 return scope.readInstanceField(FieldDescriptor.of(GenericSetParser.class, "continueStartList", ParserState.class), PARSER);
             }
+        } else if (Util.isPrimitiveArray(type) || Util.isPrimitiveList(type)) {
+            return primitiveArrayState(scope, type, "continueStart");
+        } else if (Util.isBase64Type(type)) {
+            return base64State(scope, type, "continueStart");
         } else if (type.equals(OffsetDateTime.class) && !generator.hasMappingFor(type)) {
             ResultHandle PARSER = getOffsetDateTimeParser(ref, scope);
             return scope.readInstanceField(FieldDescriptor.of(ValueParser.class, "continueStart", ParserState.class), PARSER);
@@ -870,6 +1086,9 @@ public class ParserGenerator {
 
     private ResultHandle popSetterValue(_ParserContext ctx, PropertyMapping setter, BytecodeCreator scope) {
         Class type = setter.type;
+        if (type.equals(String.class) && stringCache(setter) != null) {
+            return ctx.popToken(scope, getStringCache(setter, scope));
+        }
         return popValue(ctx, scope, type);
     }
 
@@ -924,7 +1143,11 @@ public class ParserGenerator {
         ctx.endToken(method);
         ResultHandle stateIndex = ctx.stateIndex(method);
 
-        chooseField(method, ctx, stateIndex, properties, 0);
+        if (useKeyHash()) {
+            hashField(method, ctx, stateIndex);
+        } else {
+            chooseField(method, ctx, stateIndex, properties, 0);
+        }
 
         if (anyMethod == null) {
             ResultHandle result = method.invokeVirtualMethod(MethodDescriptor.ofMethod(BaseParser.class, "skipValue", boolean.class, ParserContext.class),
@@ -936,6 +1159,69 @@ public class ParserGenerator {
         }
     }
 
+    private boolean useKeyHash() {
+        return properties.size() >= generator.getKeyHashThreshold();
+    }
+
+    private String keyField(PropertyMapping setter) {
+        return setter.propertyName + "_key";
+    }
+
+    private static byte[] keyBytes(PropertyMapping setter) {
+        return setter.jsonName.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void keyFields(MethodCreator staticConstructor) {
+        ResultHandle utf8 = staticConstructor.readStaticField(FieldDescriptor.of(StandardCharsets.class, "UTF_8", Charset.class));
+        for (PropertyMapping setter : properties) {
+            FieldCreator key = creator.getFieldCreator(keyField(setter), byte[].class).setModifiers(ACC_STATIC | ACC_PRIVATE | ACC_FINAL);
+            ResultHandle bytes = staticConstructor.invokeVirtualMethod(MethodDescriptor.ofMethod(String.class, "getBytes", byte[].class, Charset.class),
+                    staticConstructor.load(setter.jsonName), utf8);
+            staticConstructor.writeStaticField(key.getFieldDescriptor(), bytes);
+        }
+    }
+
+    /**
+     * Dispatch on the length of the key, then on the hash of its raw bytes, then verify with a byte compare.
+     * Used instead of chooseField() for classes with many properties where the trie becomes a long branch ladder.
+     */
+    private void hashField(BytecodeCreator scope, _ParserContext ctx, ResultHandle stateIndex) {
+        Map<Integer, Map<Integer, List<PropertyMapping>>> byLength = new TreeMap<>();
+        for (PropertyMapping setter : properties) {
+            byte[] key = keyBytes(setter);
+            byLength.computeIfAbsent(key.length, k -> new TreeMap<>())
+                    .computeIfAbsent(ParsePrimitives.hash(key, 0, key.length), k -> new ArrayList<>())
+                    .add(setter);
+        }
+        ResultHandle length = ctx.tokenLength(scope);
+        for (Map.Entry<Integer, Map<Integer, List<PropertyMapping>>> entry : byLength.entrySet()) {
+            BytecodeCreator ifScope = scope.createScope();
+            BytecodeCreator lengthMatch = ifScope.ifIntegerEqual(length, ifScope.load(entry.getKey().intValue())).trueBranch();
+            Map<Integer, List<PropertyMapping>> byHash = entry.getValue();
+            if (byHash.size() == 1) {
+                // only one candidate hash for this length, the byte compare is enough
+                for (PropertyMapping setter : byHash.values().iterator().next()) {
+                    compareKey(lengthMatch, ctx, stateIndex, setter);
+                }
+                continue;
+            }
+            ResultHandle hash = ctx.tokenHash(lengthMatch);
+            for (Map.Entry<Integer, List<PropertyMapping>> hashEntry : byHash.entrySet()) {
+                BytecodeCreator hashScope = lengthMatch.createScope();
+                BytecodeCreator hashMatch = hashScope.ifIntegerEqual(hash, hashScope.load(hashEntry.getKey().intValue())).trueBranch();
+                for (PropertyMapping setter : hashEntry.getValue()) {
+                    compareKey(hashMatch, ctx, stateIndex, setter);
+                }
+            }
+        }
+    }
+
+    private void compareKey(BytecodeCreator scope, _ParserContext ctx, ResultHandle stateIndex, PropertyMapping setter) {
+        BytecodeCreator ifScope = scope.createScope();
+        ResultHandle check = ctx.compareToken(ifScope, ifScope.readStaticField(FieldDescriptor.of(fqn(), keyField(setter), byte[].class)));
+        matchHandler(ctx, stateIndex, setter, ifScope.ifNonZero(check).trueBranch());
+    }
+
     private void chooseField(BytecodeCreator scope, _ParserContext ctx, ResultHandle stateIndex, List<PropertyMapping> setters, int offset) {
         if (setters.size() == 1) {
             PropertyMapping setter = setters.get(0);
@@ -1062,6 +1348,10 @@ public class ParserGenerator {
                 ResultHandle PARSER = scope.readStaticField(parserField);
                 return scope.readInstanceField(FieldDescriptor.of(GenericParser.class, "continueStartObject", ParserState.class), PARSER);
             }
+        } else if (Util.isPrimitiveArray(type) || Util.isPrimitiveList(type)) {
+            return primitiveArrayState(scope, type, "continueStart");
+        } else if (Util.isBase64Type(type)) {
+            return base64State(scope, type, "continueStart");
         } else if (setter.type.equals(Object.class)) {
             FieldDescriptor parserField = FieldDescriptor.of(GenericParser.class, "PARSER", GenericParser.class);
             ResultHandle PARSER = scope.readStaticField(parserField);
@@ -1150,6 +1440,16 @@ public class ParserGenerator {
                 MethodDescriptor descriptor = MethodDescriptor.ofMethod(GenericParser.class, "startObject", boolean.class, ParserContext.class);
                 return scope.invokeVirtualMethod(descriptor, PARSER, ctx.ctx);
             }
+        } else if (Util.isPrimitiveArray(type) || Util.isPrimitiveList(type)) {
+            Class parser = primitiveArrayParser(type);
+            ResultHandle PARSER = scope.readStaticField(FieldDescriptor.of(parser, "PARSER", parser));
+            MethodDescriptor descriptor = MethodDescriptor.ofMethod(parser, "start", boolean.class, ParserContext.class);
+            return scope.invokeVirtualMethod(descriptor, PARSER, ctx.ctx);
+        } else if (Util.isBase64Type(type)) {
+            Class parser = base64Parser(type);
+            ResultHandle PARSER = scope.readStaticField(FieldDescriptor.of(parser, "PARSER", parser));
+            MethodDescriptor descriptor = MethodDescriptor.ofMethod(ValueParser.class, "start", boolean.class, ParserContext.class);
+            return scope.invokeVirtualMethod(descriptor, PARSER, ctx.ctx);
         } else if (setter.type.equals(Object.class)) {
             FieldDescriptor parserField = FieldDescriptor.of(GenericParser.class, "PARSER", GenericParser.class);
             ResultHandle PARSER = scope.readStaticField(parserField);
@@ -1216,11 +1516,27 @@ public class ParserGenerator {
             return scope.invokeInterfaceMethod(MethodDescriptor.ofMethod(ParserContext.class, "tokenCharAt", int.class, int.class), ctx, scope.load(index));
         }
 
+        public ResultHandle tokenLength(BytecodeCreator scope) {
+            return scope.invokeInterfaceMethod(MethodDescriptor.ofMethod(ParserContext.class, "tokenLength", int.class), ctx);
+        }
+
+        public ResultHandle tokenHash(BytecodeCreator scope) {
+            return scope.invokeInterfaceMethod(MethodDescriptor.ofMethod(ParserContext.class, "tokenHash", int.class), ctx);
+        }
+
+        public ResultHandle compareToken(BytecodeCreator scope, ResultHandle bytes) {
+            return scope.invokeInterfaceMethod(MethodDescriptor.ofMethod(ParserContext.class, "compareToken", boolean.class, byte[].class), ctx, bytes);
+        }
+
 
         public ResultHandle popToken(BytecodeCreator scope) {
             return scope.invokeInterfaceMethod(MethodDescriptor.ofMethod(ParserContext.class, "popToken", String.class), ctx);
         }
 
+        public ResultHandle popToken(BytecodeCreator scope, ResultHandle cache) {
+            return scope.invokeInterfaceMethod(MethodDescriptor.ofMethod(ParserContext.class, "popToken", String.class, StringCache.class), ctx, cache);
+        }
+
 
         public ResultHandle popBooleanToken(BytecodeCreator scope) {
             return scope.invokeInterfaceMethod(MethodDescriptor.ofMethod(ParserContext.class, "popBooleanToken", boolean.class), ctx);
@@ -2,6 +2,9 @@ package io.quarkus.qson.generator;
 
 import io.quarkus.qson.GenericType;
 import io.quarkus.qson.QsonException;
+import io.quarkus.qson.parser.ArrayStreamParser;
+import io.quarkus.qson.parser.QsonLazy;
+import io.quarkus.qson.parser.QsonLazyParser;
 import io.quarkus.qson.parser.QsonParser;
 import io.quarkus.qson.util.Types;
 import io.quarkus.qson.writer.JsonByteWriter;
@@ -12,8 +15,10 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Cannot be used with Graal!
@@ -26,6 +31,8 @@ public class QsonMapper extends Generator implements QsonGenerator {
     private Map<String, String> generatedDeserializers = new HashMap<>();
     private ConcurrentHashMap<String, QsonObjectWriter> serializers = new ConcurrentHashMap<>();
     private Map<String, String> generatedSerializers = new HashMap<>();
+    private ConcurrentHashMap<Class, QsonLazyParser> lazyParsers = new ConcurrentHashMap<>();
+    private ConcurrentHashMap<String, ArrayStreamParser> arrayStreamParsers = new ConcurrentHashMap<>();
     private final GizmoClassLoader cl;
 
     /**
@@ -171,6 +178,96 @@ public class QsonMapper extends Generator implements QsonGenerator {
         return (T)read(is, type.getType());
     }
 
+    /**
+     * Generate a lazy view parser for a class.  Views returned by the lazy parser are subclasses of type
+     * backed by the original buffer.  Each property is parsed the first time its getter is called.
+     * Useful when only a few properties of a large document are needed.
+     *
+     * Type must be a non final class with a public or protected no-arg constructor.
+     *
+     * @param type
+     * @param <T>
+     * @return
+     */
+    public <T> QsonLazyParser<T> lazyParserFor(Class<T> type) {
+        QsonLazyParser<T> parser = lazyParsers.get(type);
+        if (parser != null) return parser;
+        synchronized(lazyParsers) {
+            parser = lazyParsers.get(type);
+            if (parser != null) return parser;
+            LazyGenerator.Builder builder = lazy(type).output(cl).generate();
+            List<PropertyMapping> properties = builder.properties();
+            String[] names = new String[properties.size()];
+            QsonParser[] parsers = new QsonParser[properties.size()];
+            for (int i = 0; i < properties.size(); i++) {
+                names[i] = properties.get(i).getJsonName();
+                parsers[i] = LazyGenerator.propertyParser(this, properties.get(i));
+            }
+            try {
+                Class factory = cl.loadClass(builder.factoryClassName());
+                parser = new QsonLazyParser<>(names, parsers, (Function<QsonLazy, T>) factory.newInstance());
+                lazyParsers.put(type, parser);
+            } catch (Throwable e) {
+                throw new QsonException(e);
+            }
+        }
+        return parser;
+    }
+
+    /**
+     * Generate a parser for a top level json array that hands each element of elementType to a consumer
+     * as soon as it is parsed instead of building a collection.  See {@link ArrayStreamParser}.
+     *
+     * @param elementType
+     * @param <T>
+     * @return
+     */
+    public <T> ArrayStreamParser<T> arrayStreamParserFor(Class<T> elementType) {
+        return arrayStreamParserFor((Type) elementType);
+    }
+
+    /**
+     * Generate a parser for a top level json array that hands each element of elementType to a consumer
+     * as soon as it is parsed instead of building a collection.  See {@link ArrayStreamParser}.
+     *
+     * @param elementType
+     * @param <T>
+     * @return
+     */
+    public <T> ArrayStreamParser<T> arrayStreamParserFor(GenericType<T> elementType) {
+        return arrayStreamParserFor(elementType.getType());
+    }
+
+    /**
+     * Generate a parser for a top level json array that hands each element of elementType to a consumer
+     * as soon as it is parsed instead of building a collection.  See {@link ArrayStreamParser}.
+     *
+     * @param elementType
+     * @param <T>
+     * @return
+     */
+    public <T> ArrayStreamParser<T> arrayStreamParserFor(Type elementType) {
+        String key = key(elementType);
+        ArrayStreamParser<T> parser = arrayStreamParsers.get(key);
+        if (parser != null) return parser;
+        synchronized(deserializers) {
+            parser = arrayStreamParsers.get(key);
+            if (parser != null) return parser;
+            ParserGenerator.Builder builder = parser(elementType).arrayStream().output(cl).generate();
+            for (Type entry : builder.referenced()) {
+                generateDeserializers(entry);
+            }
+            try {
+                Class deserializer = cl.loadClass(builder.className());
+                parser = (ArrayStreamParser<T>) deserializer.newInstance();
+                arrayStreamParsers.put(key, parser);
+            } catch (Throwable e) {
+                throw new QsonException(e);
+            }
+        }
+        return parser;
+    }
+
     private String generateDeserializers(Type genericType) {
         String key = key(genericType);
         if (generatedDeserializers.containsKey(key)) return generatedDeserializers.get(key);
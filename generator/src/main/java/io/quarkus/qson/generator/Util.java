@@ -1,9 +1,13 @@
 package io.quarkus.qson.generator;
 
+import io.quarkus.qson.util.DoubleList;
+import io.quarkus.qson.util.IntList;
+import io.quarkus.qson.util.LongList;
 import io.quarkus.qson.util.Types;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.time.OffsetDateTime;
 import java.util.Date;
 import java.util.List;
@@ -35,6 +39,7 @@ public class Util {
                 .replace(',', '$')
                 .replace("<", "_")
                 .replace(">", "")
+                .replace("[]", "_Array")
                 .replace("java.util.", "")
                 .replace("java.lang.", "")
                 .replace('.', '_');
@@ -74,8 +79,45 @@ public class Util {
         return OffsetDateTime.class.equals(type) || Date.class.equals(type);
     }
 
+    /**
+     * Is int[], long[], short[], float[], double[] or boolean[]
+     *
+     * @param type
+     * @return
+     */
+    public static boolean isPrimitiveArray(Class type) {
+        return type.equals(int[].class)
+                || type.equals(long[].class)
+                || type.equals(short[].class)
+                || type.equals(float[].class)
+                || type.equals(double[].class)
+                || type.equals(boolean[].class);
+    }
+
+    /**
+     * Is IntList, LongList or DoubleList
+     *
+     * @param type
+     * @return
+     */
+    public static boolean isPrimitiveList(Class type) {
+        return type.equals(IntList.class)
+                || type.equals(LongList.class)
+                || type.equals(DoubleList.class);
+    }
+
+    /**
+     * Is byte[] or ByteBuffer, which are mapped to Base64 json strings
+     *
+     * @param type
+     * @return
+     */
+    public static boolean isBase64Type(Class type) {
+        return type.equals(byte[].class) || type.equals(ByteBuffer.class);
+    }
+
     public static boolean isUserType(QsonGenerator generator, Class type) {
-        if (type.isPrimitive()) return false;
+        if (type.isPrimitive() || isPrimitiveArray(type) || isPrimitiveList(type) || isBase64Type(type)) return false;
         if (type.equals(String.class)
                 || type.equals(Integer.class)
                 || type.equals(Short.class)
@@ -9,13 +9,16 @@ import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.qson.QsonBase64;
 import io.quarkus.qson.QsonDate;
 import io.quarkus.qson.QsonException;
 import io.quarkus.qson.util.Types;
+import io.quarkus.qson.writer.Base64Writer;
 import io.quarkus.qson.writer.CollectionWriter;
 import io.quarkus.qson.writer.DateNumberWriter;
 import io.quarkus.qson.writer.DateUtilStringWriter;
 import io.quarkus.qson.writer.GenericObjectWriter;
+import io.quarkus.qson.writer.JsonByteWriter;
 import io.quarkus.qson.writer.JsonWriter;
 import io.quarkus.qson.writer.MapWriter;
 import io.quarkus.qson.writer.OffsetDateTimeStringWriter;
@@ -200,6 +203,29 @@ public class WriterGenerator {
         return ref.getPropertyName() + "_dateParser";
     }
 
+    private String getPropertyNameField(PropertyMapping ref) {
+        return ref.getPropertyName() + "_jsonName";
+    }
+
+    /**
+     * Property names are encoded once in the static initializer as ,"name": so writing
+     * a property name is a single copy of bytes.
+     *
+     * @param staticConstructor
+     */
+    private void processPropertyNames(MethodCreator staticConstructor) {
+        for (PropertyMapping ref : properties) {
+            FieldCreator name = creator.getFieldCreator(getPropertyNameField(ref), byte[].class).setModifiers(ACC_STATIC | ACC_PRIVATE | ACC_FINAL);
+            ResultHandle encoded = staticConstructor.invokeStaticMethod(MethodDescriptor.ofMethod(JsonByteWriter.class, "encodePropertyName", byte[].class, String.class),
+                    staticConstructor.load(ref.jsonName));
+            staticConstructor.writeStaticField(name.getFieldDescriptor(), encoded);
+        }
+    }
+
+    private ResultHandle getPropertyName(BytecodeCreator scope, PropertyMapping ref) {
+        return scope.readStaticField(FieldDescriptor.of(fqn(), getPropertyNameField(ref), byte[].class));
+    }
+
     private ResultHandle allocateDateUtilWriter(BytecodeCreator scope, QsonDate.Format format, String pattern) {
         if (pattern != null) {
             return scope.newInstance(MethodDescriptor.ofConstructor(DateUtilStringWriter.class, String.class), scope.load(pattern));
@@ -400,6 +426,7 @@ public class WriterGenerator {
         ResultHandle instance = staticConstructor.newInstance(MethodDescriptor.ofConstructor(fqn()));
         staticConstructor.writeStaticField(SERIALIZER.getFieldDescriptor(), instance);
         processDateProperties(staticConstructor);
+        processPropertyNames(staticConstructor);
         for (PropertyMapping getter : properties) {
             collectionField(staticConstructor, getter);
         }
@@ -444,6 +471,7 @@ public class WriterGenerator {
                 return getDateUtilWriter(ref, staticConstructor);
             }
         }
+        if (Util.isBase64Type(type)) return getBase64Writer(ref, staticConstructor);
         if (!hasNestedWriter(generator, type, genericType)) return null;
         if (Util.isUserType(generator, type)) {
             return staticConstructor.readStaticField(FieldDescriptor.of(fqn(type, genericType), "SERIALIZER", fqn(type, genericType)));
@@ -500,6 +528,11 @@ public class WriterGenerator {
         return scope.readStaticField(parserField);
     }
 
+    private ResultHandle getBase64Writer(PropertyMapping ref, BytecodeCreator scope) {
+        String field = ref != null && ref.getBase64() == QsonBase64.Encoding.URL ? "URL" : "STANDARD";
+        return scope.readStaticField(FieldDescriptor.of(Base64Writer.class, field, Base64Writer.class));
+    }
+
     private void writeMethod() {
         MethodCreator method = creator.getMethodCreator("write", void.class, JsonWriter.class, Object.class);
         ResultHandle jsonWriter = method.getMethodParam(0);
@@ -512,8 +545,8 @@ public class WriterGenerator {
         // todo support an interface as type
         for (PropertyMapping getter : properties) {
             if (getter.type.equals(int.class)) {
-                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, String.class, int.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, byte[].class, int.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) {
@@ -521,14 +554,14 @@ public class WriterGenerator {
                     forceComma = true;
                 }
             } else if (getter.type.equals(Integer.class)) {
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Integer.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Integer.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) method.assign(comma, result);
             } else if (getter.type.equals(short.class)) {
-                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, String.class, short.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, byte[].class, short.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) {
@@ -536,14 +569,14 @@ public class WriterGenerator {
                     forceComma = true;
                 }
             } else if (getter.type.equals(Short.class)) {
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Short.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Short.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) method.assign(comma, result);
             } else if (getter.type.equals(long.class)) {
-                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, String.class, long.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, byte[].class, long.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) {
@@ -551,14 +584,14 @@ public class WriterGenerator {
                     forceComma = true;
                 }
             } else if (getter.type.equals(Long.class)) {
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Long.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Long.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) method.assign(comma, result);
             } else if (getter.type.equals(byte.class)) {
-                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, String.class, byte.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, byte[].class, byte.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) {
@@ -566,14 +599,14 @@ public class WriterGenerator {
                     forceComma = true;
                 }
             } else if (getter.type.equals(Byte.class)) {
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Byte.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Byte.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) method.assign(comma, result);
             } else if (getter.type.equals(boolean.class)) {
-                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, String.class, boolean.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, byte[].class, boolean.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) {
@@ -581,14 +614,14 @@ public class WriterGenerator {
                     forceComma = true;
                 }
             } else if (getter.type.equals(Boolean.class)) {
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Boolean.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Boolean.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) method.assign(comma, result);
             } else if (getter.type.equals(float.class)) {
-                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, String.class, float.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, byte[].class, float.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) {
@@ -596,14 +629,14 @@ public class WriterGenerator {
                     forceComma = true;
                 }
             } else if (getter.type.equals(Float.class)) {
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Float.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Float.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) method.assign(comma, result);
             } else if (getter.type.equals(double.class)) {
-                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, String.class, double.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, byte[].class, double.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) {
@@ -611,14 +644,14 @@ public class WriterGenerator {
                     forceComma = true;
                 }
             } else if (getter.type.equals(Double.class)) {
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Double.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Double.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) method.assign(comma, result);
             } else if (getter.type.equals(char.class)) {
-                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, String.class, char.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", void.class, byte[].class, char.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) {
@@ -626,59 +659,73 @@ public class WriterGenerator {
                     forceComma = true;
                 }
             } else if (getter.type.equals(Character.class)) {
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Character.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Character.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) method.assign(comma, result);
             } else if (getter.type.equals(String.class)) {
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, String.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, String.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
+                        comma);
+                if (!forceComma) method.assign(comma, result);
+            } else if (Util.isPrimitiveArray(getter.type) || Util.isPrimitiveList(getter.type)) {
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, getter.type, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) method.assign(comma, result);
+            } else if (Util.isBase64Type(getter.type)) {
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeObjectProperty", boolean.class, byte[].class, Object.class, QsonObjectWriter.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
+                        method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
+                        getBase64Writer(getter, method),
+                        comma
+                );
+                if (!forceComma) method.assign(comma, result);
             } else if (Map.class.isAssignableFrom(getter.type)) {
                 if (hasCollectionWriter(generator, getter)) {
-                    ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Map.class, QsonObjectWriter.class, boolean.class), jsonWriter,
-                            method.load(getter.jsonName),
+                    ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Map.class, QsonObjectWriter.class, boolean.class), jsonWriter,
+                            getPropertyName(method, getter),
                             method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                             getMapWriter(method, getter),
                             comma
                     );
                     if (!forceComma) method.assign(comma, result);
                 } else {
-                    ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Map.class, boolean.class), jsonWriter,
-                            method.load(getter.jsonName),
+                    ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Map.class, boolean.class), jsonWriter,
+                            getPropertyName(method, getter),
                             method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                             comma);
                     if (!forceComma) method.assign(comma, result);
                 }
             } else if (Collection.class.isAssignableFrom(getter.type)) {
                 if (hasCollectionWriter(generator, getter)) {
-                    ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Collection.class, QsonObjectWriter.class, boolean.class), jsonWriter,
-                            method.load(getter.jsonName),
+                    ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Collection.class, QsonObjectWriter.class, boolean.class), jsonWriter,
+                            getPropertyName(method, getter),
                             method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                             getCollectionWriter(method, getter),
                             comma
                     );
                     if (!forceComma) method.assign(comma, result);
                 } else {
-                    ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, String.class, Collection.class, boolean.class), jsonWriter,
-                            method.load(getter.jsonName),
+                    ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeProperty", boolean.class, byte[].class, Collection.class, boolean.class), jsonWriter,
+                            getPropertyName(method, getter),
                             method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                             comma);
                     if (!forceComma) method.assign(comma, result);
                 }
             } else if (getter.type.equals(Object.class)) {
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeObjectProperty", boolean.class, String.class, Object.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeObjectProperty", boolean.class, byte[].class, Object.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         comma);
                 if (!forceComma) method.assign(comma, result);
             } else if (getter.type.equals(OffsetDateTime.class) && !generator.hasMappingFor(OffsetDateTime.class)) {
 
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeObjectProperty", boolean.class, String.class, Object.class, QsonObjectWriter.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeObjectProperty", boolean.class, byte[].class, Object.class, QsonObjectWriter.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         getOffsetDateTimeWriter(getter, method),
                         comma
@@ -686,16 +733,16 @@ public class WriterGenerator {
                 if (!forceComma) method.assign(comma, result);
             } else if (getter.type.equals(Date.class) && !generator.hasMappingFor(Date.class)) {
 
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeObjectProperty", boolean.class, String.class, Object.class, QsonObjectWriter.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeObjectProperty", boolean.class, byte[].class, Object.class, QsonObjectWriter.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         getDateUtilWriter(getter, method),
                         comma
                 );
                 if (!forceComma) method.assign(comma, result);
             } else {
-                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeObjectProperty", boolean.class, String.class, Object.class, QsonObjectWriter.class, boolean.class), jsonWriter,
-                        method.load(getter.jsonName),
+                ResultHandle result = method.invokeInterfaceMethod(MethodDescriptor.ofMethod(JsonWriter.class, "writeObjectProperty", boolean.class, byte[].class, Object.class, QsonObjectWriter.class, boolean.class), jsonWriter,
+                        getPropertyName(method, getter),
                         method.invokeVirtualMethod(MethodDescriptor.ofMethod(targetType, getter.getter.getName(), getter.type), target),
                         method.readStaticField(FieldDescriptor.of(fqn(getter.type, getter.genericType), "SERIALIZER", fqn(getter.type, getter.genericType))),
                         comma
@@ -735,6 +782,8 @@ public class WriterGenerator {
             } else {
                 throw new QsonException("Should be unreachable");
             }
+        } else if (Util.isBase64Type(valueClass)) {
+            return getBase64Writer(ref, method);
         } else if (Util.isUserType(generator, valueClass)) {
             return method.readStaticField(FieldDescriptor.of(fqn(valueClass, valueType), "SERIALIZER", fqn(valueClass, valueType)));
         } else {
@@ -756,7 +805,7 @@ public class WriterGenerator {
     }
 
     private static boolean isGeneric(QsonGenerator generator, Class type, Type generic) {
-        if (type.isPrimitive()) return true;
+        if (type.isPrimitive() || Util.isPrimitiveArray(type) || Util.isPrimitiveList(type) || Util.isBase64Type(type)) return true;
         if (type.equals(String.class)
                 || type.equals(Integer.class)
                 || type.equals(Short.class)
@@ -800,7 +849,7 @@ public class WriterGenerator {
     }
 
     private static boolean hasNestedWriter(QsonGenerator generator, Class type, Type genericType) {
-        if (Util.isDateType(type)) return true;
+        if (Util.isDateType(type) || Util.isBase64Type(type)) return true;
         if (Util.isUserType(generator, type)) return true;
         if (!Map.class.isAssignableFrom(type)
                 && !List.class.isAssignableFrom(type)
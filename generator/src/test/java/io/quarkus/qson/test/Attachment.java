@@ -0,0 +1,66 @@
+package io.quarkus.qson.test;
+
+import io.quarkus.qson.QsonBase64;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+public class Attachment {
+    private String name;
+    private byte[] data;
+    private byte[] token;
+    private ByteBuffer buffer;
+    private List<byte[]> chunks;
+    private Map<String, byte[]> signatures;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+
+    @QsonBase64(QsonBase64.Encoding.URL)
+    public byte[] getToken() {
+        return token;
+    }
+
+    public void setToken(byte[] token) {
+        this.token = token;
+    }
+
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    public void setBuffer(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public List<byte[]> getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(List<byte[]> chunks) {
+        this.chunks = chunks;
+    }
+
+    @QsonBase64(QsonBase64.Encoding.URL)
+    public Map<String, byte[]> getSignatures() {
+        return signatures;
+    }
+
+    public void setSignatures(Map<String, byte[]> signatures) {
+        this.signatures = signatures;
+    }
+}
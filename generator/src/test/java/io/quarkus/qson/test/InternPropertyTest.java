@@ -0,0 +1,111 @@
+package io.quarkus.qson.test;
+
+import io.quarkus.qson.GenericType;
+import io.quarkus.qson.QsonIntern;
+import io.quarkus.qson.generator.QsonMapper;
+import io.quarkus.qson.parser.StringCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class InternPropertyTest {
+
+    public static class Address {
+        private String street;
+        private String country;
+        private String status;
+        private List<String> tags;
+        private Map<String, String> labels;
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        @QsonIntern
+        public String getCountry() {
+            return country;
+        }
+
+        public void setCountry(String country) {
+            this.country = country;
+        }
+
+        @QsonIntern(value = "InternPropertyTest.shared", size = 16)
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        @QsonIntern(value = "InternPropertyTest.shared", size = 16)
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Map<String, String> getLabels() {
+            return labels;
+        }
+
+        public void setLabels(Map<String, String> labels) {
+            this.labels = labels;
+        }
+    }
+
+    static final String JSON = "[\n" +
+            "  { \"street\": \"Main\", \"country\": \"US\", \"status\": \"active\", \"tags\": [\"a\", \"active\"], \"labels\": { \"k\": \"v\" } },\n" +
+            "  { \"street\": \"Main\", \"country\": \"US\", \"status\": \"active\", \"tags\": [\"a\"], \"labels\": { \"k\": \"v\" } },\n" +
+            "  { \"street\": \"Main\", \"country\": null, \"status\": \"gone\" }\n" +
+            "]";
+
+    @Test
+    public void testProperties() {
+        QsonMapper mapper = new QsonMapper();
+        List<Address> addresses = mapper.read(JSON, new GenericType<List<Address>>() {});
+        Assertions.assertEquals(3, addresses.size());
+        Assertions.assertEquals("US", addresses.get(0).getCountry());
+        Assertions.assertSame(addresses.get(0).getCountry(), addresses.get(1).getCountry());
+        Assertions.assertNull(addresses.get(2).getCountry());
+        Assertions.assertSame(addresses.get(0).getStatus(), addresses.get(1).getStatus());
+        Assertions.assertSame(addresses.get(0).getStatus(), addresses.get(0).getTags().get(1));
+        Assertions.assertSame(addresses.get(0).getTags().get(0), addresses.get(1).getTags().get(0));
+        Assertions.assertEquals("gone", addresses.get(2).getStatus());
+
+        // not interned
+        Assertions.assertEquals(addresses.get(0).getStreet(), addresses.get(1).getStreet());
+        Assertions.assertNotSame(addresses.get(0).getStreet(), addresses.get(1).getStreet());
+        Assertions.assertNotSame(addresses.get(0).getLabels().get("k"), addresses.get(1).getLabels().get("k"));
+
+        StringCache country = StringCache.named(Address.class.getName() + ".country");
+        Assertions.assertTrue(country.getHits() >= 1);
+        Assertions.assertTrue(country.getHitRate() > 0.0);
+        StringCache shared = StringCache.named("InternPropertyTest.shared");
+        Assertions.assertEquals(16, shared.size());
+        Assertions.assertTrue(shared.getHits() >= 3);
+    }
+
+    @Test
+    public void testMapperDefault() {
+        QsonMapper mapper = new QsonMapper();
+        mapper.stringCache("InternPropertyTest.default");
+        List<Address> addresses = mapper.read(JSON, new GenericType<List<Address>>() {});
+        Assertions.assertSame(addresses.get(0).getStreet(), addresses.get(1).getStreet());
+        Assertions.assertSame(addresses.get(0).getLabels().get("k"), addresses.get(1).getLabels().get("k"));
+        Assertions.assertSame(addresses.get(0).getCountry(), addresses.get(1).getCountry());
+        Assertions.assertTrue(StringCache.named("InternPropertyTest.default").getHits() >= 3);
+
+        String json = mapper.writeString(addresses.get(0));
+        Assertions.assertTrue(json.contains("\"country\":\"US\""));
+    }
+}
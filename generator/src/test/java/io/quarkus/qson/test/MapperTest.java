@@ -1,17 +1,27 @@
 package io.quarkus.qson.test;
 
+import io.quarkus.qson.QsonException;
 import io.quarkus.qson.GenericType;
 import io.quarkus.qson.generator.QsonMapper;
+import io.quarkus.qson.parser.ArrayStreamParser;
 import io.quarkus.qson.parser.ByteArrayParserContext;
+import io.quarkus.qson.parser.QsonLazyParser;
 import io.quarkus.qson.parser.QsonParser;
+import io.quarkus.qson.util.DoubleList;
+import io.quarkus.qson.util.IntList;
+import io.quarkus.qson.util.LongList;
 import io.quarkus.qson.writer.ByteArrayJsonWriter;
 import io.quarkus.qson.writer.JsonByteWriter;
 import io.quarkus.qson.writer.QsonObjectWriter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -311,6 +321,25 @@ public class MapperTest {
         Assertions.assertEquals(Color.BLUE, color);
     }
 
+    @Test
+    public void testEnumMatching() throws Exception {
+        QsonMapper mapper = new QsonMapper();
+        QsonParser parser = mapper.parserFor(Status.class);
+        for (Status status : Status.values()) {
+            ByteArrayParserContext ctx = new ByteArrayParserContext(parser);
+            Assertions.assertEquals(status, ctx.finish("\"" + status.name() + "\""));
+        }
+        // escaped names are not matched on raw bytes
+        ByteArrayParserContext ctx = new ByteArrayParserContext(parser);
+        Assertions.assertEquals(Status.PAUSED, ctx.finish("\"PAUSE\\u0044\""));
+        try {
+            ctx = new ByteArrayParserContext(parser);
+            ctx.finish("\"PAUSEX\"");
+            Assertions.fail();
+        } catch (Exception e) {
+        }
+    }
+
     @Test
     public void testIncompleteString() throws Exception {
         QsonMapper mapper = new QsonMapper();
@@ -367,6 +396,107 @@ public class MapperTest {
 
     }
 
+    @Test
+    public void testPersonKeyHash() throws Exception {
+        QsonMapper mapper = new QsonMapper();
+        // force hashed key matching for every generated class
+        mapper.keyHashThreshold(0);
+        QsonParser parser = mapper.parserFor(Person2.class);
+        ByteArrayParserContext ctx = new ByteArrayParserContext(parser);
+        Person2 person = ctx.finish(json);
+        validatePerson(person);
+
+        // keys split across buffers
+        ctx = new ByteArrayParserContext(parser);
+        person = ctx.finish(new ByteArrayInputStream(json.getBytes(JsonByteWriter.UTF8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 3));
+            }
+        });
+        validatePerson(person);
+    }
+
+    @Test
+    public void testLazy() throws Exception {
+        QsonMapper mapper = new QsonMapper();
+        QsonLazyParser<Person2> parser = mapper.lazyParserFor(Person2.class);
+        Assertions.assertSame(parser, mapper.lazyParserFor(Person2.class));
+
+        Person2 person = parser.read(json);
+        Assertions.assertNotEquals(Person2.class, person.getClass());
+        validatePerson(person);
+        // second access returns the remembered value
+        Assertions.assertSame(person.getDad(), person.getDad());
+
+        // values set by the application are never replaced by the document
+        person = parser.read(json);
+        person.setName("Fonzi");
+        Assertions.assertEquals("Fonzi", person.getName());
+        Assertions.assertEquals(50, person.getAge());
+
+        person = parser.read("{ \"junk\": { \"name\": \"wrong\", \"list\": [1, {\"a\": \"]}\"}] }, \"name\" : \"Bill\", \"age\": null }");
+        Assertions.assertEquals("Bill", person.getName());
+        Assertions.assertEquals(0, person.getAge());
+        Assertions.assertNull(person.getDad());
+
+        // escaped quotes and backslashes must not end strings early in the index scan
+        person = parser.read("{ \"junk\": \"x\\\\\", \"a\\\"b\": [\"\\\"]\", \"\\\\\\\"\"], \"name\": \"Bill\" }");
+        Assertions.assertEquals("Bill", person.getName());
+
+        // lazy and eager reads reject the same malformed objects
+        for (String bad : new String[] {"{ \"name\": \"Bill\", }", "{ \"junk\": [1], }", "{ \"name\": }", "{ , }"}) {
+            Assertions.assertThrows(QsonException.class, () -> parser.read(bad), bad);
+            Assertions.assertThrows(QsonException.class, () -> mapper.read(bad, Person2.class), bad);
+        }
+        Assertions.assertNull(parser.read("{}").getName());
+
+        Assertions.assertNull(parser.read("null"));
+    }
+
+    @Test
+    public void testArrayStream() throws Exception {
+        QsonMapper mapper = new QsonMapper();
+        ArrayStreamParser<Person2> parser = mapper.arrayStreamParserFor(Person2.class);
+        Assertions.assertSame(parser, mapper.arrayStreamParserFor(Person2.class));
+        String array = "[" + json + "," + json + "]";
+
+        List<Person2> people = new ArrayList<>();
+        ByteArrayParserContext ctx = parser.parserContext(people::add);
+        byte[] bytes = array.getBytes(JsonByteWriter.UTF8);
+        for (int i = 0; i < bytes.length; i += 7) {
+            int size = Math.min(7, bytes.length - i);
+            byte[] chunk = new byte[size];
+            System.arraycopy(bytes, i, chunk, 0, size);
+            ctx.parse(chunk);
+            // first element is delivered as soon as its closing brace is parsed
+            Assertions.assertEquals(i + size > json.length() ? 1 : 0, Math.min(people.size(), 1));
+        }
+        ctx.finish();
+        Assertions.assertEquals(2, people.size());
+        validatePerson(people.get(0));
+        validatePerson(people.get(1));
+
+        int count = 0;
+        for (Iterator<Person2> it = parser.iterator(new ByteArrayInputStream(bytes)); it.hasNext(); count++) {
+            validatePerson(it.next());
+        }
+        Assertions.assertEquals(2, count);
+
+        ArrayStreamParser<List<Integer>> lists = mapper.arrayStreamParserFor(new GenericType<List<Integer>>() {});
+        List<List<Integer>> result = new ArrayList<>();
+        lists.read("[[1, 2], [], [3]]".getBytes(JsonByteWriter.UTF8), result::add);
+        Assertions.assertEquals(3, result.size());
+        Assertions.assertEquals(2, result.get(0).get(1));
+        Assertions.assertTrue(result.get(1).isEmpty());
+        Assertions.assertEquals(3, result.get(2).get(0));
+
+        List<String> strings = new ArrayList<>();
+        mapper.arrayStreamParserFor(String.class).read("[\"a\", null, \"b\"]".getBytes(JsonByteWriter.UTF8), strings::add);
+        Assertions.assertEquals(3, strings.size());
+        Assertions.assertNull(strings.get(1));
+    }
+
     public void validatePerson(Person2 person) {
         Assertions.assertEquals("Bill", person.getName());
         Assertions.assertEquals(50, person.getAge());
@@ -677,6 +807,156 @@ public class MapperTest {
     }
 
 
+    @Test
+    public void testPrimitiveArrays() throws Exception {
+        String json = "{ \"ints\": [1, -2, 2147483647], \"longs\": [9223372036854775807, -1], \"shorts\": [], " +
+                "\"floats\": [1.5, -0.25], \"doubles\": [3.14159, 10000000000.5, -2], \"booleans\": [true, false, true], " +
+                "\"intsList\": [[1, 2], [], [3]], \"doublesMap\": { \"a\": [1.0, 2.5] }, \"name\": \"bill\" }";
+        test(json, new GenericType<PrimitiveArrays>() {},
+                (obj) -> {
+                    PrimitiveArrays target = (PrimitiveArrays)obj;
+                    Assertions.assertArrayEquals(new int[]{1, -2, 2147483647}, target.getInts());
+                    Assertions.assertArrayEquals(new long[]{9223372036854775807L, -1}, target.getLongs());
+                    Assertions.assertArrayEquals(new short[0], target.getShorts());
+                    Assertions.assertArrayEquals(new float[]{1.5f, -0.25f}, target.getFloats());
+                    Assertions.assertArrayEquals(new double[]{3.14159, 10000000000.5, -2}, target.getDoubles());
+                    Assertions.assertArrayEquals(new boolean[]{true, false, true}, target.getBooleans());
+                    Assertions.assertEquals(3, target.getIntsList().size());
+                    Assertions.assertArrayEquals(new int[0], target.getIntsList().get(1));
+                    Assertions.assertArrayEquals(new int[]{3}, target.getIntsList().get(2));
+                    Assertions.assertArrayEquals(new double[]{1.0, 2.5}, target.getDoublesMap().get("a"));
+                    Assertions.assertEquals("bill", target.getName());
+                });
+        test("{ \"ints\": null, \"name\": \"x\" }", new GenericType<PrimitiveArrays>() {},
+                (obj) -> {
+                    PrimitiveArrays target = (PrimitiveArrays)obj;
+                    Assertions.assertNull(target.getInts());
+                    Assertions.assertEquals("x", target.getName());
+                });
+
+        QsonMapper mapper = new QsonMapper();
+        PrimitiveArrays arrays = new PrimitiveArrays();
+        arrays.setFloats(new float[]{1.5f});
+        Assertions.assertEquals("{\"floats\":[1.5]}", mapper.writeString(arrays));
+    }
+
+    @Test
+    public void testTopLevelPrimitiveArrays() throws Exception {
+        test("[1.5, 2, -0.03]", new GenericType<double[]>() {},
+                (obj) -> Assertions.assertArrayEquals(new double[]{1.5, 2, -0.03}, (double[])obj));
+        test("[1e3, 1.0E10, -2.5E-5]", new GenericType<double[]>() {},
+                (obj) -> Assertions.assertArrayEquals(new double[]{1e3, 1.0E10, -2.5E-5}, (double[])obj));
+        test("[1e3, 1.0E10, -2.5E-5]", new GenericType<float[]>() {},
+                (obj) -> Assertions.assertArrayEquals(new float[]{1e3f, 1.0E10f, -2.5E-5f}, (float[])obj));
+        test("[]", new GenericType<long[]>() {},
+                (obj) -> Assertions.assertEquals(0, ((long[])obj).length));
+        test("[[true], [false, true]]", new GenericType<List<boolean[]>>() {},
+                (obj) -> Assertions.assertArrayEquals(new boolean[]{false, true}, ((List<boolean[]>)obj).get(1)));
+
+        QsonMapper mapper = new QsonMapper();
+        Assertions.assertEquals("[1.5,2.0,-0.03]", mapper.writeString(double[].class, new double[]{1.5, 2, -0.03}));
+    }
+
+    @Test
+    public void testPrimitiveLists() throws Exception {
+        String json = "{ \"name\": \"cpu\", \"counts\": [1, -2, 2147483647], \"timestamps\": [1212491130000, 0], " +
+                "\"values\": [0.5, 99.25, -3], \"buckets\": { \"a\": [], \"b\": [7] } }";
+        test(json, new GenericType<Series>() {},
+                (obj) -> {
+                    Series target = (Series)obj;
+                    Assertions.assertEquals("cpu", target.getName());
+                    Assertions.assertEquals(IntList.of(1, -2, 2147483647), target.getCounts());
+                    Assertions.assertEquals(LongList.of(1212491130000L, 0), target.getTimestamps());
+                    Assertions.assertEquals(DoubleList.of(0.5, 99.25, -3), target.getValues());
+                    Assertions.assertTrue(target.getBuckets().get("a").isEmpty());
+                    Assertions.assertEquals(IntList.of(7), target.getBuckets().get("b"));
+                });
+        test("{ \"counts\": null, \"name\": \"x\" }", new GenericType<Series>() {},
+                (obj) -> Assertions.assertNull(((Series)obj).getCounts()));
+
+        QsonMapper mapper = new QsonMapper();
+        Series series = new Series();
+        series.setValues(DoubleList.of(0.5, -3));
+        Assertions.assertEquals("{\"values\":[0.5,-3.0]}", mapper.writeString(series));
+    }
+
+    @Test
+    public void testTopLevelPrimitiveLists() throws Exception {
+        test("[3, 2, 1]", new GenericType<IntList>() {},
+                (obj) -> Assertions.assertEquals(IntList.of(3, 2, 1), obj));
+        test("[1e3, 1.0E10, -2.5E-5]", new GenericType<DoubleList>() {},
+                (obj) -> Assertions.assertEquals(DoubleList.of(1e3, 1.0E10, -2.5E-5), obj));
+        test("[[1.5], [], [2, 3]]", new GenericType<List<DoubleList>>() {},
+                (obj) -> Assertions.assertEquals(DoubleList.of(2, 3), ((List<DoubleList>)obj).get(2)));
+
+        QsonMapper mapper = new QsonMapper();
+        Assertions.assertEquals("[3,2,1]", mapper.writeString(IntList.class, IntList.of(3, 2, 1)));
+    }
+
+    static final byte[] BASE64_BYTES = {(byte) 0xfb, (byte) 0xff, (byte) 0xbf, 1, 2};
+
+    @Test
+    public void testBase64() throws Exception {
+        String json = "{ \"name\": \"file\", \"data\": \"+/+/AQI=\", \"token\": \"-_-_AQI\", \"buffer\": \"aGVsbG8=\", " +
+                "\"chunks\": [\"AQ==\", \"\"], \"signatures\": { \"a\": \"+/+/AQI=\" } }";
+        test(json, new GenericType<Attachment>() {},
+                (obj) -> {
+                    Attachment target = (Attachment)obj;
+                    Assertions.assertEquals("file", target.getName());
+                    Assertions.assertArrayEquals(BASE64_BYTES, target.getData());
+                    Assertions.assertArrayEquals(BASE64_BYTES, target.getToken());
+                    Assertions.assertEquals(ByteBuffer.wrap("hello".getBytes()), target.getBuffer());
+                    Assertions.assertEquals(2, target.getChunks().size());
+                    Assertions.assertArrayEquals(new byte[]{1}, target.getChunks().get(0));
+                    Assertions.assertEquals(0, target.getChunks().get(1).length);
+                    Assertions.assertArrayEquals(BASE64_BYTES, target.getSignatures().get("a"));
+                });
+        test("{ \"data\": null, \"name\": \"x\" }", new GenericType<Attachment>() {},
+                (obj) -> Assertions.assertNull(((Attachment)obj).getData()));
+
+        QsonMapper mapper = new QsonMapper();
+        Attachment attachment = mapper.read("{ \"chunks\": [\"AQ==\", null] }", Attachment.class);
+        Assertions.assertNull(attachment.getChunks().get(1));
+    }
+
+    @Test
+    public void testBase64Encoding() throws Exception {
+        QsonMapper mapper = new QsonMapper();
+        Attachment attachment = new Attachment();
+        attachment.setData(BASE64_BYTES);
+        attachment.setToken(BASE64_BYTES);
+        Map<String, byte[]> signatures = new HashMap<>();
+        signatures.put("a", BASE64_BYTES);
+        attachment.setSignatures(signatures);
+        String json = mapper.writeString(attachment);
+        Assertions.assertTrue(json.contains("\"data\":\"+/+/AQI=\""));
+        Assertions.assertTrue(json.contains("\"token\":\"-_-_AQI=\""));
+        Assertions.assertTrue(json.contains("\"signatures\":{\"a\":\"-_-_AQI=\"}"));
+        Assertions.assertFalse(json.contains("\"name\""));
+
+        // larger than the initial write buffer
+        byte[] big = new byte[100000];
+        for (int i = 0; i < big.length; i++) big[i] = (byte) (i * 31);
+        attachment.setData(big);
+        json = mapper.writeString(attachment);
+        Assertions.assertTrue(json.contains(Base64.getEncoder().encodeToString(big)));
+        Attachment read = mapper.read(json, Attachment.class);
+        Assertions.assertArrayEquals(big, read.getData());
+    }
+
+    @Test
+    public void testTopLevelBase64() throws Exception {
+        test("\"+/+/AQI\"", new GenericType<byte[]>() {},
+                (obj) -> Assertions.assertArrayEquals(BASE64_BYTES, (byte[])obj));
+        test("\"-_-_AQI=\"", new GenericType<ByteBuffer>() {},
+                (obj) -> Assertions.assertEquals(ByteBuffer.wrap(BASE64_BYTES), obj));
+        test("[\"AQ==\", \"AgM=\"]", new GenericType<List<byte[]>>() {},
+                (obj) -> Assertions.assertArrayEquals(new byte[]{2, 3}, ((List<byte[]>)obj).get(1)));
+
+        QsonMapper mapper = new QsonMapper();
+        Assertions.assertEquals("\"+/+/AQI=\"", mapper.writeString(byte[].class, BASE64_BYTES));
+    }
+
     private void test(String json, GenericType type, Consumer assertions) {
         QsonMapper mapper = new QsonMapper();
         QsonParser parser = mapper.parserFor(type);
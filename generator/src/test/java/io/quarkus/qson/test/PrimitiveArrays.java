@@ -0,0 +1,88 @@
+package io.quarkus.qson.test;
+
+import java.util.List;
+import java.util.Map;
+
+public class PrimitiveArrays {
+    private int[] ints;
+    private long[] longs;
+    private short[] shorts;
+    private float[] floats;
+    private double[] doubles;
+    private boolean[] booleans;
+    private List<int[]> intsList;
+    private Map<String, double[]> doublesMap;
+    private String name;
+
+    public int[] getInts() {
+        return ints;
+    }
+
+    public void setInts(int[] ints) {
+        this.ints = ints;
+    }
+
+    public long[] getLongs() {
+        return longs;
+    }
+
+    public void setLongs(long[] longs) {
+        this.longs = longs;
+    }
+
+    public short[] getShorts() {
+        return shorts;
+    }
+
+    public void setShorts(short[] shorts) {
+        this.shorts = shorts;
+    }
+
+    public float[] getFloats() {
+        return floats;
+    }
+
+    public void setFloats(float[] floats) {
+        this.floats = floats;
+    }
+
+    public double[] getDoubles() {
+        return doubles;
+    }
+
+    public void setDoubles(double[] doubles) {
+        this.doubles = doubles;
+    }
+
+    public boolean[] getBooleans() {
+        return booleans;
+    }
+
+    public void setBooleans(boolean[] booleans) {
+        this.booleans = booleans;
+    }
+
+    public List<int[]> getIntsList() {
+        return intsList;
+    }
+
+    public void setIntsList(List<int[]> intsList) {
+        this.intsList = intsList;
+    }
+
+    public Map<String, double[]> getDoublesMap() {
+        return doublesMap;
+    }
+
+    public void setDoublesMap(Map<String, double[]> doublesMap) {
+        this.doublesMap = doublesMap;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
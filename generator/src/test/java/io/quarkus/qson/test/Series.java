@@ -0,0 +1,55 @@
+package io.quarkus.qson.test;
+
+import io.quarkus.qson.util.DoubleList;
+import io.quarkus.qson.util.IntList;
+import io.quarkus.qson.util.LongList;
+
+import java.util.Map;
+
+public class Series {
+    private String name;
+    private IntList counts;
+    private LongList timestamps;
+    private DoubleList values;
+    private Map<String, IntList> buckets;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public IntList getCounts() {
+        return counts;
+    }
+
+    public void setCounts(IntList counts) {
+        this.counts = counts;
+    }
+
+    public LongList getTimestamps() {
+        return timestamps;
+    }
+
+    public void setTimestamps(LongList timestamps) {
+        this.timestamps = timestamps;
+    }
+
+    public DoubleList getValues() {
+        return values;
+    }
+
+    public void setValues(DoubleList values) {
+        this.values = values;
+    }
+
+    public Map<String, IntList> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(Map<String, IntList> buckets) {
+        this.buckets = buckets;
+    }
+}
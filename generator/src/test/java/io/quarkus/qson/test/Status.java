@@ -0,0 +1,13 @@
+package io.quarkus.qson.test;
+
+public enum Status {
+    ACTIVE,
+    ACTIVATED,
+    INACTIVE,
+    PENDING,
+    PAUSED,
+    PAUSES,
+    A,
+    B
+    ;
+}
@@ -0,0 +1,171 @@
+package io.quarkus.qson.runtime;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.quarkus.qson.writer.Base64Encoder;
+import io.quarkus.qson.writer.DoubleEncoder;
+import io.quarkus.qson.writer.IntegerEncoder;
+import io.quarkus.qson.writer.JsonByteWriter;
+
+/**
+ * Writer that writes directly into a Netty ByteBuf so that json can be handed to Vert.x
+ * without an intermediate byte array.
+ *
+ * The caller owns the buffer and must either pass it on to something that releases it
+ * or call {@link #release()}.
+ */
+public class ByteBufJsonWriter extends JsonByteWriter {
+    final ByteBuf buffer;
+
+    /**
+     * Allocates a 512 byte initial capacity buffer from the pooled allocator
+     */
+    public ByteBufJsonWriter() {
+        this(PooledByteBufAllocator.DEFAULT.directBuffer(512));
+    }
+
+    public ByteBufJsonWriter(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void writeByte(int b) {
+        buffer.writeByte(b);
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes) {
+        buffer.writeBytes(bytes);
+    }
+
+    @Override
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        buffer.writeBytes(bytes, offset, length);
+    }
+
+    // encoding space for direct buffers, heap buffers are encoded into in place
+    private byte[] scratch;
+
+    private byte[] scratch() {
+        if (scratch == null) scratch = new byte[1024];
+        return scratch;
+    }
+
+    /**
+     * Copy from scratch space to the writer index.  Caller has already made room with ensureWritable
+     */
+    private void append(byte[] buf, int length) {
+        int index = buffer.writerIndex();
+        buffer.setBytes(index, buf, 0, length);
+        buffer.writerIndex(index + length);
+    }
+
+    @Override
+    public void write(int val) {
+        buffer.ensureWritable(IntegerEncoder.MAX_INT_SIZE);
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            buffer.writerIndex(IntegerEncoder.encode(val, buffer.array(), offset + buffer.writerIndex()) - offset);
+        } else {
+            byte[] buf = scratch();
+            append(buf, IntegerEncoder.encode(val, buf, 0));
+        }
+    }
+
+    @Override
+    public void write(long val) {
+        buffer.ensureWritable(IntegerEncoder.MAX_LONG_SIZE);
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            buffer.writerIndex(IntegerEncoder.encode(val, buffer.array(), offset + buffer.writerIndex()) - offset);
+        } else {
+            byte[] buf = scratch();
+            append(buf, IntegerEncoder.encode(val, buf, 0));
+        }
+    }
+
+    @Override
+    public void write(float val) {
+        buffer.ensureWritable(DoubleEncoder.MAX_FLOAT_SIZE);
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            buffer.writerIndex(DoubleEncoder.encode(val, buffer.array(), offset + buffer.writerIndex()) - offset);
+        } else {
+            byte[] buf = scratch();
+            append(buf, DoubleEncoder.encode(val, buf, 0));
+        }
+    }
+
+    @Override
+    public void write(double val) {
+        buffer.ensureWritable(DoubleEncoder.MAX_DOUBLE_SIZE);
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            buffer.writerIndex(DoubleEncoder.encode(val, buffer.array(), offset + buffer.writerIndex()) - offset);
+        } else {
+            byte[] buf = scratch();
+            append(buf, DoubleEncoder.encode(val, buf, 0));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    protected void writeAscii(String val, int start, int end) {
+        buffer.ensureWritable(end - start);
+        if (buffer.hasArray()) {
+            int index = buffer.writerIndex();
+            val.getBytes(start, end, buffer.array(), buffer.arrayOffset() + index);
+            buffer.writerIndex(index + end - start);
+        } else {
+            byte[] buf = scratch();
+            while (start < end) {
+                int chunk = Math.min(end - start, buf.length);
+                val.getBytes(start, start + chunk, buf, 0);
+                append(buf, chunk);
+                start += chunk;
+            }
+        }
+    }
+
+    @Override
+    public void writeBase64(byte[] val, int offset, int length, boolean urlSafe) {
+        buffer.ensureWritable(Base64Encoder.encodedLength(length) + 2);
+        if (buffer.hasArray()) {
+            byte[] array = buffer.array();
+            int arrayOffset = buffer.arrayOffset();
+            int pos = arrayOffset + buffer.writerIndex();
+            array[pos++] = '"';
+            pos = Base64Encoder.encode(val, offset, length, urlSafe, array, pos);
+            array[pos++] = '"';
+            buffer.writerIndex(pos - arrayOffset);
+        } else {
+            byte[] buf = scratch();
+            // whole groups of 3 bytes per chunk so that padding only happens at the end
+            int chunk = buf.length / 4 * 3;
+            buffer.writeByte('"');
+            int end = offset + length;
+            while (offset < end) {
+                int size = Math.min(end - offset, chunk);
+                append(buf, Base64Encoder.encode(val, offset, size, urlSafe, buf, 0));
+                offset += size;
+            }
+            buffer.writeByte('"');
+        }
+    }
+
+    /**
+     * Underlying buffer.  Ownership is passed on to the caller
+     *
+     * @return
+     */
+    public ByteBuf getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Release the underlying buffer i.e. on a failed write
+     */
+    public void release() {
+        buffer.release();
+    }
+}
@@ -2,6 +2,7 @@ package io.quarkus.qson.runtime;
 
 import io.quarkus.qson.parser.QsonParser;
 import io.quarkus.qson.util.Types;
+import io.quarkus.qson.writer.ByteArrayJsonWriterPool;
 import io.quarkus.qson.writer.QsonObjectWriter;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
@@ -18,6 +19,8 @@ public class QuarkusQsonRegistry {
     static final Map<Type, QsonParser> typeParsers = new ConcurrentHashMap<>();
     static final Map<Type, QsonObjectWriter> typeWriters = new ConcurrentHashMap<>();
 
+    static final ByteArrayJsonWriterPool writerPool = new ByteArrayJsonWriterPool();
+
     public void clear() {
         parsers.clear();
         writers.clear();
@@ -32,6 +35,15 @@ public class QuarkusQsonRegistry {
         writers.put(key, writer.getValue());
     }
 
+    /**
+     * Shared pool of byte array writers used by the http integrations
+     *
+     * @return
+     */
+    public static ByteArrayJsonWriterPool getWriterPool() {
+        return writerPool;
+    }
+
     public static QsonParser getParser(String key) {
         return parsers.get(key);
     }
@@ -0,0 +1,100 @@
+package io.quarkus.qson.runtime;
+
+import io.quarkus.qson.parser.QsonAsyncParser;
+import io.quarkus.qson.parser.QsonParser;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * Decodes json from Vert.x buffers as they arrive, i.e. on the event loop, without a worker thread
+ * and without buffering the whole body.
+ */
+public class VertxQsonParser {
+
+    /**
+     * Push a Vert.x buffer.  The underlying (possibly composite, direct) Netty buffers are parsed without copying.
+     *
+     * @param parser
+     * @param buffer
+     * @return true if the value is complete
+     */
+    public static boolean parse(QsonAsyncParser<?> parser, Buffer buffer) {
+        return parser.parse(buffer.getByteBuf().nioBuffers());
+    }
+
+    /**
+     * Decode a stream, i.e. an HttpServerRequest.  The stream's handlers are replaced
+     * and it is resumed when the Uni is subscribed to.
+     *
+     * @param stream
+     * @param parser
+     * @param <T>
+     * @return value, null if the stream is empty
+     */
+    public static <T> Uni<T> read(ReadStream<Buffer> stream, QsonParser parser) {
+        return Uni.createFrom().emitter(emitter -> {
+            StreamReader<T> reader = new StreamReader<>(parser, emitter);
+            stream.exceptionHandler(reader::fail);
+            stream.endHandler(reader::end);
+            stream.handler(reader);
+            stream.resume();
+        });
+    }
+
+    /**
+     * Decode a stream of buffers
+     *
+     * @param buffers
+     * @param parser
+     * @param <T>
+     * @return value, null if there are no buffers
+     */
+    public static <T> Uni<T> read(Multi<Buffer> buffers, QsonParser parser) {
+        return buffers.collect()
+                .in(() -> new QsonAsyncParser<T>(parser), VertxQsonParser::parse)
+                .map(QsonAsyncParser::finish);
+    }
+
+    static class StreamReader<T> implements Handler<Buffer> {
+        final QsonAsyncParser<T> parser;
+        final UniEmitter<? super T> emitter;
+        boolean failed;
+
+        StreamReader(QsonParser parser, UniEmitter<? super T> emitter) {
+            this.parser = new QsonAsyncParser<>(parser);
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void handle(Buffer buffer) {
+            if (failed) return;
+            try {
+                parse(parser, buffer);
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        void end(Void v) {
+            if (failed) return;
+            T value;
+            try {
+                value = parser.finish();
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            emitter.complete(value);
+        }
+
+        void fail(Throwable t) {
+            if (failed) return;
+            failed = true;
+            emitter.fail(t);
+        }
+    }
+}
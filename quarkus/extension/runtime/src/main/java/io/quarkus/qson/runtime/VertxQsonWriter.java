@@ -0,0 +1,119 @@
+package io.quarkus.qson.runtime;
+
+import io.quarkus.qson.writer.ArrayStreamWriter;
+import io.quarkus.qson.writer.ChunkedJsonWriter;
+import io.quarkus.qson.writer.QsonObjectWriter;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams large json arrays to Vert.x in fixed size chunks while honoring backpressure, so that
+ * serializing a huge collection neither blocks the event loop nor holds the whole document in memory.
+ *
+ * Backpressure is applied between elements.  Memory use is bounded by the destination's queue, one chunk and
+ * whatever a single element writes past the end of a chunk.
+ */
+public class VertxQsonWriter {
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    /**
+     * Write a json array to a stream, i.e. an HttpServerResponse.  Writing pauses while the stream's write queue
+     * is full and resumes from its drain handler.  The stream is not ended.
+     *
+     * @param stream
+     * @param elementWriter
+     * @param elements
+     * @return completes once the last chunk has been passed to the stream
+     */
+    public static Uni<Void> writeArray(WriteStream<Buffer> stream, QsonObjectWriter elementWriter, Iterator<?> elements) {
+        return writeArray(stream, elementWriter, elements, DEFAULT_CHUNK_SIZE);
+    }
+
+    public static Uni<Void> writeArray(WriteStream<Buffer> stream, QsonObjectWriter elementWriter, Iterator<?> elements, int chunkSize) {
+        return Uni.createFrom().emitter(emitter -> new StreamPump(stream, elementWriter, elements, chunkSize, emitter).run());
+    }
+
+    /**
+     * Chunks of a json array.  A chunk is only serialized when it is requested, so a slow subscriber
+     * slows down serialization rather than building up a buffer.
+     *
+     * @param elementWriter
+     * @param elements
+     * @return
+     */
+    public static Multi<Buffer> toMulti(QsonObjectWriter elementWriter, Iterable<?> elements) {
+        return toMulti(elementWriter, elements, DEFAULT_CHUNK_SIZE);
+    }
+
+    public static Multi<Buffer> toMulti(QsonObjectWriter elementWriter, Iterable<?> elements, int chunkSize) {
+        return Multi.createFrom().iterable(() -> new ChunkIterator(elementWriter, elements.iterator(), chunkSize));
+    }
+
+    static Buffer copy(byte[] bytes, int length) {
+        return Buffer.buffer(length).appendBytes(bytes, 0, length);
+    }
+
+    static class StreamPump {
+        final WriteStream<Buffer> stream;
+        final ArrayStreamWriter array;
+        final ChunkedJsonWriter writer;
+        final UniEmitter<? super Void> emitter;
+
+        StreamPump(WriteStream<Buffer> stream, QsonObjectWriter elementWriter, Iterator<?> elements, int chunkSize, UniEmitter<? super Void> emitter) {
+            this.stream = stream;
+            this.array = new ArrayStreamWriter(elementWriter, elements);
+            this.writer = new ChunkedJsonWriter(chunkSize, (bytes, length) -> stream.write(copy(bytes, length)));
+            this.emitter = emitter;
+        }
+
+        void run() {
+            try {
+                if (array.write(writer, stream::writeQueueFull)) {
+                    writer.flush();
+                    emitter.complete(null);
+                } else {
+                    stream.drainHandler(v -> run());
+                }
+            } catch (Throwable t) {
+                emitter.fail(t);
+            }
+        }
+    }
+
+    static class ChunkIterator implements Iterator<Buffer> {
+        final LinkedList<Buffer> ready = new LinkedList<>();
+        final ArrayStreamWriter array;
+        final ChunkedJsonWriter writer;
+        boolean flushed;
+
+        ChunkIterator(QsonObjectWriter elementWriter, Iterator<?> elements, int chunkSize) {
+            this.array = new ArrayStreamWriter(elementWriter, elements);
+            this.writer = new ChunkedJsonWriter(chunkSize, (bytes, length) -> ready.add(copy(bytes, length)));
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ready.isEmpty()) return true;
+            if (array.write(writer, () -> !ready.isEmpty())) {
+                if (!flushed) {
+                    writer.flush();
+                    flushed = true;
+                }
+            }
+            return !ready.isEmpty();
+        }
+
+        @Override
+        public Buffer next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return ready.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.quarkus.qson.test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.quarkus.qson.runtime.ByteBufJsonWriter;
+import io.quarkus.qson.writer.ByteArrayJsonWriter;
+import io.quarkus.qson.writer.JsonByteWriter;
+import io.quarkus.qson.writer.QsonObjectWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+public class ByteBufJsonWriterTest {
+
+    static void writeValues(JsonByteWriter writer, String text, byte[] bytes) {
+        writer.writeLBracket();
+        writer.write(Integer.MIN_VALUE);
+        writer.writeComma();
+        writer.write(Long.MAX_VALUE);
+        writer.writeComma();
+        writer.write(1.5f);
+        writer.writeComma();
+        writer.write(-2.5E-5);
+        writer.writeComma();
+        writer.write(text);
+        writer.writeComma();
+        writer.write("café \"quoted\"");
+        writer.writeComma();
+        writer.writeBase64(bytes, 0, bytes.length, false);
+        writer.writeComma();
+        writer.writeBase64(bytes, 1, bytes.length - 1, true);
+        writer.writeRBracket();
+    }
+
+    static String expected(String text, byte[] bytes) {
+        ByteArrayJsonWriter writer = new ByteArrayJsonWriter();
+        writeValues(writer, text, bytes);
+        return new String(writer.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    static String written(ByteBuf buffer, String text, byte[] bytes) {
+        ByteBufJsonWriter writer = new ByteBufJsonWriter(buffer);
+        writeValues(writer, text, bytes);
+        try {
+            return writer.getBuffer().toString(StandardCharsets.UTF_8);
+        } finally {
+            writer.release();
+        }
+    }
+
+    @Test
+    public void testHeapAndDirect() {
+        // larger than the scratch space so direct buffers copy in several chunks
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 3000) sb.append("plain ascii text ");
+        String text = sb.toString();
+        byte[] bytes = new byte[2000];
+        new Random(42).nextBytes(bytes);
+        String expected = expected(text, bytes);
+
+        Assertions.assertEquals(expected, written(Unpooled.buffer(4), text, bytes));
+        Assertions.assertEquals(expected, written(Unpooled.directBuffer(4), text, bytes));
+        ByteBufJsonWriter pooled = new ByteBufJsonWriter();
+        writeValues(pooled, text, bytes);
+        Assertions.assertEquals(expected, pooled.getBuffer().toString(StandardCharsets.UTF_8));
+        pooled.release();
+
+        // heap buffer whose array starts before the buffer does
+        text = "short";
+        bytes = new byte[]{1, 2, 3, 4, 5};
+        ByteBuf slice = Unpooled.buffer(256).slice(16, 200);
+        slice.writerIndex(0);
+        Assertions.assertEquals(expected(text, bytes), written(slice, text, bytes));
+    }
+
+    @Test
+    public void testReleaseOnFailure() {
+        QsonObjectWriter failing = (writer, target) -> {
+            writer.write(42);
+            throw new IllegalStateException();
+        };
+        ByteBufJsonWriter writer = new ByteBufJsonWriter();
+        try {
+            failing.write(writer, null);
+            Assertions.fail();
+        } catch (IllegalStateException e) {
+            writer.release();
+        }
+        Assertions.assertEquals(0, writer.getBuffer().refCnt());
+
+        // a full buffer fails before anything is encoded
+        writer = new ByteBufJsonWriter(Unpooled.directBuffer(4, 8));
+        try {
+            writer.write(Long.MIN_VALUE);
+            Assertions.fail();
+        } catch (IndexOutOfBoundsException e) {
+            writer.release();
+        }
+        Assertions.assertEquals(0, writer.getBuffer().refCnt());
+    }
+}
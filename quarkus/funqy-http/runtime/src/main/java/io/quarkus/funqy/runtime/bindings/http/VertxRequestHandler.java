@@ -6,18 +6,18 @@ import io.quarkus.funqy.runtime.FunctionInvoker;
 import io.quarkus.funqy.runtime.FunctionRecorder;
 import io.quarkus.funqy.runtime.RequestContextImpl;
 import io.quarkus.funqy.runtime.query.QueryReader;
-import io.quarkus.qson.parser.ByteArrayParserContext;
 import io.quarkus.qson.parser.QsonParser;
-import io.quarkus.qson.writer.ByteArrayJsonWriter;
+import io.quarkus.qson.runtime.ByteBufJsonWriter;
+import io.quarkus.qson.runtime.VertxQsonParser;
 import io.quarkus.qson.writer.QsonObjectWriter;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.vertx.core.runtime.VertxBufferImpl;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.RoutingContext;
 import org.jboss.logging.Logger;
@@ -105,26 +105,30 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     }
 
     private void postBytes(RoutingContext routingContext, FunctionInvoker invoker) {
-        routingContext.request().bodyHandler(buff -> {
-            Object input = null;
-            if (buff.length() > 0) {
-                QsonParser reader = (QsonParser) invoker.getBindingContext().get(QsonParser.class.getName());
-                try {
-                    byte[] bytes = buff.getBytes();
-                    ByteArrayParserContext ctx = new ByteArrayParserContext(reader);
-                    // todo handle integer case where parse returns false as it can't know its the end
-                    input = ctx.finish(bytes);
-                } catch (Exception e) {
-                    log.error("Failed to unmarshal input", e);
+        QsonParser reader = (QsonParser) invoker.getBindingContext().get(QsonParser.class.getName());
+        if (reader == null) {
+            // function has no input, only an empty body is valid
+            routingContext.request().bodyHandler(buff -> {
+                if (buff.length() > 0) {
+                    log.error("Function has no input: " + invoker.getName());
                     routingContext.fail(400);
                     return;
                 }
-            }
-            Object finalInput = input;
-            executor.execute(() -> {
-                dispatch(routingContext, invoker, finalInput);
+                executor.execute(() -> {
+                    dispatch(routingContext, invoker, null);
+                });
             });
-        });
+            return;
+        }
+        // decode the body on the event loop as it arrives instead of buffering it
+        VertxQsonParser.read(routingContext.request(), reader).subscribe().with(
+                input -> executor.execute(() -> {
+                    dispatch(routingContext, invoker, input);
+                }),
+                t -> {
+                    log.error("Failed to unmarshal input", t);
+                    routingContext.fail(400);
+                });
     }
 
     private void dispatch(RoutingContext routingContext, FunctionInvoker invoker, Object input) {
@@ -145,15 +149,17 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
                             routingContext.response().setStatusCode(200);
                             routingContext.response().putHeader("Content-Type", "application/json");
                             QsonObjectWriter writer = (QsonObjectWriter) invoker.getBindingContext().get(QsonObjectWriter.class.getName());
+                            // write straight into a pooled netty buffer, vert.x releases it once written
+                            ByteBufJsonWriter jsonWriter = new ByteBufJsonWriter();
                             try {
-                                ByteArrayJsonWriter jsonWriter = new ByteArrayJsonWriter();
                                 writer.write(jsonWriter, o);
-
-                                routingContext.response().end(Buffer.buffer(jsonWriter.toByteArray()));
                             } catch (Exception e) {
+                                jsonWriter.release();
                                 log.error("Failed to marshal", e);
                                 routingContext.fail(400);
+                                return;
                             }
+                            routingContext.response().end(new VertxBufferImpl(jsonWriter.getBuffer()));
                         } else {
                             routingContext.response().setStatusCode(204);
                             routingContext.response().end();
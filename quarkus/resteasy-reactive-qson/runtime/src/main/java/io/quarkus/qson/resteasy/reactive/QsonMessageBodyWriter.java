@@ -3,6 +3,7 @@ package io.quarkus.qson.resteasy.reactive;
 import io.quarkus.qson.resteasy.QsonResteasyUtil;
 import io.quarkus.qson.runtime.QuarkusQsonRegistry;
 import io.quarkus.qson.writer.ByteArrayJsonWriter;
+import io.quarkus.qson.writer.ByteArrayJsonWriterPool;
 import io.quarkus.qson.writer.QsonObjectWriter;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
@@ -25,9 +26,18 @@ public class QsonMessageBodyWriter implements ServerMessageBodyWriter<Object> {
 
     @Override
     public void writeResponse(Object o, Type genericType, ServerRequestContext context) throws WebApplicationException, IOException {
-        OutputStream outputStream = context.getOrCreateOutputStream();
-        writeResponse(o, genericType, outputStream);
-        outputStream.close();
+        QsonObjectWriter objectWriter = QuarkusQsonRegistry.getWriter(genericType);
+        if (objectWriter == null) {
+            throw new IOException("Failed to find QSON writer for: " + genericType.getTypeName());
+        }
+        ByteArrayJsonWriterPool pool = QuarkusQsonRegistry.getWriterPool();
+        ByteArrayJsonWriter jsonWriter = pool.acquire();
+        try {
+            objectWriter.write(jsonWriter, o);
+            context.serverResponse().end(jsonWriter.toByteArray());
+        } finally {
+            pool.release(jsonWriter);
+        }
     }
 
     @Override
@@ -45,9 +55,14 @@ public class QsonMessageBodyWriter implements ServerMessageBodyWriter<Object> {
         if (objectWriter == null) {
             throw new IOException("Failed to find QSON writer for: " + genericType.getTypeName());
         }
-        ByteArrayJsonWriter jsonWriter = new ByteArrayJsonWriter();
-        objectWriter.write(jsonWriter, o);
-        outputStream.write(jsonWriter.getBuffer(), 0, jsonWriter.size());
+        ByteArrayJsonWriterPool pool = QuarkusQsonRegistry.getWriterPool();
+        ByteArrayJsonWriter jsonWriter = pool.acquire();
+        try {
+            objectWriter.write(jsonWriter, o);
+            outputStream.write(jsonWriter.getBuffer(), 0, jsonWriter.size());
+        } finally {
+            pool.release(jsonWriter);
+        }
         outputStream.close();
     }
 }